@@ -20,7 +20,21 @@ plugins {
 repositories { // Where to search for dependencies
     mavenCentral()
 }
- 
+
+/*
+ * Microbenchmarks of the simulation hot paths, in src/jmh/java.
+ * They see the main classes and their dependencies, like the tests do.
+ */
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets["main"].output
+        runtimeClasspath += sourceSets["main"].output
+    }
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations["implementation"])
+configurations["jmhRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
+
 dependencies {
     // Suppressions for SpotBugs 
     compileOnly("com.github.spotbugs:spotbugs-annotations:4.8.4")
@@ -53,6 +67,12 @@ dependencies {
     testImplementation("org.mockito:mockito-junit-jupiter:4.8.0")
     testImplementation("org.mockito:mockito-core:4.6.1")
     testImplementation("org.mockito:mockito-inline:3.7.7")
+
+    // JMH for the microbenchmarks
+    val jmhVersion = "1.37"
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+    "jmhCompileOnly"("com.github.spotbugs:spotbugs-annotations:4.8.4")
 }
  
 application {
@@ -60,6 +80,30 @@ application {
     mainClass.set("unibo.citysimulation.WelcomeScreen")
 }
 
+/*
+ * Runs the simulation without the GUI, as fast as possible.
+ * Example: ./gradlew runHeadless --args="1000 365"
+ */
+tasks.register<JavaExec>("runHeadless") {
+    group = "application"
+    description = "Runs the simulation headless and reports ticks per second."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("unibo.citysimulation.HeadlessLauncher")
+    jvmArgs("-Djava.awt.headless=true")
+}
+
+/*
+ * Runs the microbenchmarks, accepting the usual JMH options.
+ * Example: ./gradlew jmh --args="ClockObserverPerson -p people=100000 -prof gc"
+ */
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH microbenchmarks."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    jvmArgs("-Djava.awt.headless=true")
+}
+
 jacoco {
     toolVersion = "0.8.10"
 }
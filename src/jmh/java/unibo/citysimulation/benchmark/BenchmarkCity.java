@@ -0,0 +1,168 @@
+package unibo.citysimulation.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.utilities.BusinessData;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.person.impl.PersonStore;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+import unibo.citysimulation.model.statistics.impl.SimulationStatisticsImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+import unibo.citysimulation.utilities.RandomStreams;
+
+/**
+ * A seeded city used as the fixture of the benchmarks.
+ * People are created without a job and then hired with a single pass over the
+ * businesses, so that even a population of a million people can be built in a
+ * few seconds, independently of the cost of the hiring done by the factory.
+ */
+public final class BenchmarkCity {
+    /**
+     * Seed used by all the benchmarks.
+     */
+    public static final long SEED = 42;
+    private static final int HIRING_ATTEMPTS = 8;
+
+    private final List<Zone> zones;
+    private final List<TransportLine> lines;
+    private final List<Business> businesses;
+    private final SimulationStatistics statistics;
+    private final PersonStore store;
+    private final List<List<DynamicPerson>> people;
+    private final List<DynamicPerson> unemployed = new ArrayList<>();
+
+    private BenchmarkCity(final int numberOfPeople, final boolean hire) {
+        final RandomStreams randomStreams = new RandomStreams(SEED);
+        this.zones = ZoneCreation.createZonesFromFile();
+        this.statistics = new SimulationStatisticsImpl(zones.size());
+        this.lines = new TransportFactoryImpl().createTransportsFromFile(zones);
+        final ZoneTable zoneTable = ZoneTableCreation.createZoneTable(zones, lines);
+        this.businesses = new BusinessFactoryImpl(randomStreams.stream("businesses"))
+                .createMultipleBusiness(zones, numberOfPeople / ConstantAndResourceLoader.PERC_BUSINESS);
+        businesses.forEach(business -> business.setStatistics(statistics));
+        final PersonFactoryImpl personFactory = new PersonFactoryImpl(randomStreams, statistics, zoneTable);
+        this.people = personFactory.createAllPeople(numberOfPeople, zones, Collections.emptyList());
+        this.store = personFactory.getPersonStore();
+        if (hire) {
+            hireAll();
+        } else {
+            people.forEach(unemployed::addAll);
+        }
+    }
+
+    /**
+     * Creates a city with the given number of people, hired where possible.
+     *
+     * @param numberOfPeople the number of people
+     * @return the city
+     */
+    public static BenchmarkCity withJobs(final int numberOfPeople) {
+        return new BenchmarkCity(numberOfPeople, true);
+    }
+
+    /**
+     * Creates a city with the given number of people, all unemployed.
+     *
+     * @param numberOfPeople the number of people
+     * @return the city
+     */
+    public static BenchmarkCity withoutJobs(final int numberOfPeople) {
+        return new BenchmarkCity(numberOfPeople, false);
+    }
+
+    private void hireAll() {
+        int cursor = 0;
+        for (final DynamicPerson person : getAllPeople()) {
+            boolean hired = false;
+            for (int attempt = 0; attempt < HIRING_ATTEMPTS && !hired && !businesses.isEmpty(); attempt++) {
+                final Business business = businesses.get(cursor);
+                cursor = (cursor + 1) % businesses.size();
+                final BusinessData data = business.getBusinessData();
+                if (data.employees().size() < data.maxEmployees()
+                        && person.getPersonData().age() >= data.minAge()
+                        && person.getPersonData().age() <= data.maxAge()
+                        && !data.zone().equals(person.getPersonData().residenceZone())) {
+                    business.hire(new Employee(person, data));
+                    person.setBusiness(Optional.of(business));
+                    person.setBusinessBegin(data.openingTime());
+                    person.setBusinessEnd(data.closingTime());
+                    hired = true;
+                }
+            }
+            if (!hired) {
+                unemployed.add(person);
+            }
+        }
+    }
+
+    /**
+     * @return the zones of the city.
+     */
+    public List<Zone> getZones() {
+        return Collections.unmodifiableList(zones);
+    }
+
+    /**
+     * @return the transport lines of the city.
+     */
+    public List<TransportLine> getLines() {
+        return Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * @return the businesses of the city.
+     */
+    public List<Business> getBusinesses() {
+        return Collections.unmodifiableList(businesses);
+    }
+
+    /**
+     * @return the statistics of the city.
+     */
+    public SimulationStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return the store of the people of the city.
+     */
+    public PersonStore getPersonStore() {
+        return store;
+    }
+
+    /**
+     * @return the people of the city, grouped by residence zone.
+     */
+    public List<List<DynamicPerson>> getPeople() {
+        return Collections.unmodifiableList(people);
+    }
+
+    /**
+     * @return all the people of the city.
+     */
+    public List<DynamicPerson> getAllPeople() {
+        final List<DynamicPerson> all = new ArrayList<>();
+        people.forEach(all::addAll);
+        return all;
+    }
+
+    /**
+     * @return the people without a job.
+     */
+    public List<DynamicPerson> getUnemployed() {
+        return Collections.unmodifiableList(unemployed);
+    }
+}
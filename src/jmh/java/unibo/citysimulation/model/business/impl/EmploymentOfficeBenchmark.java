@@ -0,0 +1,75 @@
+package unibo.citysimulation.model.business.impl;
+
+import java.util.LinkedList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unibo.citysimulation.benchmark.BenchmarkCity;
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
+import unibo.citysimulation.model.zone.Zone;
+
+/**
+ * Measures {@link EmploymentOfficeManager#handleEmployeeHiring} for a big
+ * business choosing among an unemployed population of the given size.
+ * Every invocation starts from a fresh office and an empty business.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmploymentOfficeBenchmark {
+    /**
+     * Number of unemployed people.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int people;
+
+    private BenchmarkCity city;
+    private Zone zone;
+    private EmploymentOfficeManager manager;
+    private Business business;
+
+    /**
+     * Builds a city where nobody has a job.
+     */
+    @Setup(Level.Trial)
+    public void setUpCity() {
+        city = BenchmarkCity.withoutJobs(people);
+        zone = city.getZones().get(0);
+    }
+
+    /**
+     * Builds a new office and a new business.
+     */
+    @Setup(Level.Invocation)
+    public void setUpOffice() {
+        final SplittableRandom random = new SplittableRandom(BenchmarkCity.SEED);
+        manager = new EmploymentOfficeManager(new EmploymentOfficeData(new LinkedList<>(city.getUnemployed())), random);
+        business = new BusinessFactoryImpl(random).createBusiness(BusinessType.BIG, zone).orElseThrow();
+    }
+
+    /**
+     * Fills the business.
+     */
+    @Benchmark
+    public void handleEmployeeHiring() {
+        manager.handleEmployeeHiring(business);
+    }
+}
@@ -0,0 +1,73 @@
+package unibo.citysimulation.model.clock.impl;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unibo.citysimulation.benchmark.BenchmarkCity;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+/**
+ * Measures a single time update of {@link ClockObserverPerson}.
+ * The clock goes round the day, so the average covers quiet nights as well as
+ * the rush hours.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClockObserverPersonBenchmark {
+    /**
+     * Number of people in the city.
+     */
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int people;
+    /**
+     * Number of threads, 1 for the sequential mode.
+     */
+    @Param({"1", "4"})
+    public int threads;
+
+    private ClockObserverPerson observer;
+    private LocalTime time;
+    private int day;
+
+    /**
+     * Builds the city and the observer.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final BenchmarkCity city = BenchmarkCity.withJobs(people);
+        observer = threads == 1
+                ? new ClockObserverPerson(city.getPeople())
+                : new ClockObserverPerson(city.getPeople(), threads);
+        time = LocalTime.MIDNIGHT;
+        day = 1;
+    }
+
+    /**
+     * Advances the clock by one tick.
+     */
+    @Benchmark
+    public void tick() {
+        time = time.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND);
+        if (time.equals(LocalTime.MIDNIGHT)) {
+            day++;
+        }
+        observer.onTimeUpdate(time, day);
+    }
+}
@@ -0,0 +1,56 @@
+package unibo.citysimulation.model.graphics.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+/**
+ * Measures {@link DatasetManager#updateDataset} once the charts are full, so
+ * that every update also drops the oldest column.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatasetManagerBenchmark {
+    private static final List<Integer> PEOPLE_STATE = List.of(50, 30, 20);
+    private static final List<Double> LINES_CONGESTION = List.of(10.0, 20.0, 30.0, 40.0, 50.0, 60.0, 70.0);
+    private static final List<Integer> BUSINESSES_OCCUPATION = List.of(60, 70, 80);
+
+    private DatasetManager datasetManager;
+
+    /**
+     * Builds the datasets of the graphics model and fills them.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        datasetManager = new DatasetManager(List.of(3, 7, 3),
+                List.of("Person State", "Transport Congestion", "Business Occupation"));
+        for (int i = 0; i <= ConstantAndResourceLoader.MAX_COLUMNS; i++) {
+            update();
+        }
+    }
+
+    /**
+     * Adds a column to every series.
+     */
+    @Benchmark
+    public void update() {
+        datasetManager.updateDataset(PEOPLE_STATE, LINES_CONGESTION, BUSINESSES_OCCUPATION);
+    }
+}
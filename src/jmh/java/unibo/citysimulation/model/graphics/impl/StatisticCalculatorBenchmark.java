@@ -0,0 +1,77 @@
+package unibo.citysimulation.model.graphics.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unibo.citysimulation.benchmark.BenchmarkCity;
+
+/**
+ * Measures the statistics read at every update of the graphics, from
+ * {@link StatisticCalculator} and from the statistics of the simulation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticCalculatorBenchmark {
+    /**
+     * Number of people in the city.
+     */
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int people;
+
+    private BenchmarkCity city;
+
+    /**
+     * Builds the city.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        city = BenchmarkCity.withJobs(people);
+    }
+
+    /**
+     * Computes the percentage of people in every state.
+     *
+     * @return the percentages
+     */
+    @Benchmark
+    public List<Integer> peopleStatePercentages() {
+        return city.getStatistics().getPeopleStatePercentages();
+    }
+
+    /**
+     * Computes the congestion of every line.
+     *
+     * @return the congestions
+     */
+    @Benchmark
+    public List<Double> transportLinesCongestion() {
+        return StatisticCalculator.getTransportLinesCongestion(city.getLines());
+    }
+
+    /**
+     * Computes the occupation of every kind of business.
+     *
+     * @return the occupations
+     */
+    @Benchmark
+    public List<Integer> businessesOccupation() {
+        return city.getStatistics().getBusinessesOccupation();
+    }
+}
@@ -0,0 +1,85 @@
+package unibo.citysimulation.model.map.impl;
+
+import java.awt.Color;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unibo.citysimulation.benchmark.BenchmarkCity;
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PersonStore;
+import unibo.citysimulation.utilities.Pair;
+
+/**
+ * Measures {@link MapModelImpl#getPersonInfos}, the old map of the people by
+ * name, against {@link MapModelImpl#updateEntities}, the packed snapshot drawn
+ * by the map, on a population at home.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MapModelBenchmark {
+    private static final int MAP_SIZE = 800;
+
+    /**
+     * Number of people in the city.
+     */
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int people;
+
+    private MapModelImpl mapModel;
+    private List<DynamicPerson> population;
+    private PersonStore store;
+    private List<Business> businesses;
+
+    /**
+     * Builds the city and the map.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final BenchmarkCity city = BenchmarkCity.withoutJobs(people);
+        population = city.getAllPeople();
+        store = city.getPersonStore();
+        businesses = city.getBusinesses();
+        mapModel = new MapModelImpl("/unibo/citysimulation/images/mapImage.png");
+        mapModel.setMaxCoordinates(MAP_SIZE, MAP_SIZE);
+    }
+
+    /**
+     * Computes the position and the colour of every person.
+     *
+     * @return the infos, so that they are not optimised away
+     */
+    @Benchmark
+    public Map<String, Pair<Pair<Integer, Integer>, Color>> getPersonInfos() {
+        return mapModel.getPersonInfos(population);
+    }
+
+    /**
+     * Fills and publishes the snapshot of the people and of the businesses.
+     *
+     * @return the published snapshot, so that it is not optimised away
+     */
+    @Benchmark
+    public EntitySnapshot updateEntities() {
+        mapModel.updateEntities(store, businesses);
+        return mapModel.getEntities().latest();
+    }
+}
@@ -0,0 +1,81 @@
+package unibo.citysimulation.model.person.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+import unibo.citysimulation.utilities.RandomStreams;
+
+/**
+ * Measures {@link PersonFactoryImpl#createAllPeople}, hiring included.
+ * Every invocation gets fresh businesses, since the previous ones are full.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PersonFactoryBenchmark {
+    private static final long SEED = 42;
+
+    /**
+     * Number of people to create.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int people;
+
+    private List<Zone> zones;
+    private List<Business> businesses;
+    private ZoneTable zoneTable;
+
+    /**
+     * Builds the zones and the transport lines.
+     */
+    @Setup(Level.Trial)
+    public void setUpCity() {
+        zones = ZoneCreation.createZonesFromFile();
+        zoneTable = ZoneTableCreation.createZoneTable(zones,
+                new TransportFactoryImpl().createTransportsFromFile(zones));
+    }
+
+    /**
+     * Builds new businesses with no employees.
+     */
+    @Setup(Level.Invocation)
+    public void setUpBusinesses() {
+        businesses = new BusinessFactoryImpl(new RandomStreams(SEED).stream("businesses"))
+                .createMultipleBusiness(zones, people / ConstantAndResourceLoader.PERC_BUSINESS);
+    }
+
+    /**
+     * Creates the whole population.
+     *
+     * @return the people, so that they are not optimised away
+     */
+    @Benchmark
+    public List<List<DynamicPerson>> createAllPeople() {
+        return new PersonFactoryImpl(new RandomStreams(SEED), zoneTable).createAllPeople(people, zones, businesses);
+    }
+}
@@ -0,0 +1,79 @@
+package unibo.citysimulation.model.zone;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportLineImpl;
+import unibo.citysimulation.utilities.Pair;
+
+/**
+ * Measures the precomputation of all the routes by {@link RoutePlanner}, on a
+ * seeded random city with ten lines per zone on average.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutePlannerBenchmark {
+    private static final long SEED = 42;
+    private static final int LINES_PER_ZONE = 10;
+    private static final int MAX_DURATION = 60;
+    private static final int CAPACITY = 50;
+
+    /**
+     * Number of zones in the city.
+     */
+    @Param({"5", "100", "500"})
+    public int zones;
+
+    private List<Zone> cityZones;
+    private List<TransportLine> lines;
+
+    /**
+     * Builds the zones and the lines, with a ring of lines so that every zone
+     * is reachable.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        cityZones = new ArrayList<>();
+        for (int i = 0; i < zones; i++) {
+            cityZones.add(new Zone(i, "Zone " + i, 0, 0, new Pair<>(0, 0), new Pair<>(0, 0), new Boundary(0, 0, 1, 1)));
+        }
+        lines = new ArrayList<>();
+        for (int i = 0; i < zones * LINES_PER_ZONE; i++) {
+            final Zone from = cityZones.get(i < zones ? i : random.nextInt(zones));
+            final Zone to = cityZones.get(i < zones ? (i + 1) % zones : random.nextInt(zones));
+            lines.add(new TransportLineImpl("Line " + i, CAPACITY, 1 + random.nextInt(MAX_DURATION),
+                    new Pair<>(from, to)));
+        }
+    }
+
+    /**
+     * Computes the fastest route between every pair of zones.
+     *
+     * @return the planner, so that it is not optimised away
+     */
+    @Benchmark
+    public RoutePlanner plan() {
+        return new RoutePlanner(cityZones, lines);
+    }
+}
@@ -0,0 +1,70 @@
+package unibo.citysimulation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import unibo.citysimulation.model.CityModel;
+import unibo.citysimulation.model.CityModelImpl;
+import unibo.citysimulation.model.ReportLogic;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+/**
+ * Launcher that runs the simulation without any graphical interface.
+ * The clock is stepped in a tight loop and only the model observers are
+ * notified, so a whole year can be simulated in seconds.
+ * Usage: {@code HeadlessLauncher [people] [days] [capacity%] [extraBusinesses] [threads] [seed]}.
+ */
+public final class HeadlessLauncher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessLauncher.class);
+    private static final int FULL_CAPACITY = 100;
+    private static final int PEOPLE_ARG = 0;
+    private static final int DAYS_ARG = 1;
+    private static final int CAPACITY_ARG = 2;
+    private static final int BUSINESSES_ARG = 3;
+    private static final int THREADS_ARG = 4;
+    private static final int SEED_ARG = 5;
+
+    private HeadlessLauncher() {
+    }
+
+    /**
+     * Runs a headless simulation and logs its throughput.
+     *
+     * @param args the optional number of people, days, capacity percentage,
+     *             extra businesses, threads and seed
+     */
+    public static void main(final String[] args) {
+        final int people = intArg(args, PEOPLE_ARG, ConstantAndResourceLoader.MAX_PEOPLE);
+        final int days = intArg(args, DAYS_ARG, ConstantAndResourceLoader.SIMULATION_TOTAL_DAYS);
+        final int capacity = intArg(args, CAPACITY_ARG, FULL_CAPACITY);
+        final int extraBusinesses = intArg(args, BUSINESSES_ARG, 0);
+        final int threads = intArg(args, THREADS_ARG, 1);
+
+        final CityModel cityModel = new CityModelImpl(days);
+        cityModel.getInputModel().setAbsoluteNumberOfPeople(people);
+        cityModel.getInputModel().setCapacity(capacity);
+        cityModel.getInputModel().setParallelism(threads);
+        if (args.length > SEED_ARG) {
+            cityModel.getInputModel().setSeed(Long.parseLong(args[SEED_ARG]));
+        }
+        cityModel.createEntities(extraBusinesses);
+
+        final long start = System.nanoTime();
+        final long ticks = cityModel.getClockModel().fastForward();
+        final long elapsed = System.nanoTime() - start;
+        cityModel.shutdown();
+
+        final double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+        LOGGER.info("Simulated {} days with {} people on {} threads: {} ticks in {} ms ({} ticks/s)",
+                days, people, threads, ticks, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                String.format("%.0f", ticks / seconds));
+        LOGGER.info("Seed: {}", cityModel.getInputModel().getSeed());
+        LOGGER.info("\n{}", ReportLogic.generateReport(cityModel));
+    }
+
+    private static int intArg(final String[] args, final int index, final int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
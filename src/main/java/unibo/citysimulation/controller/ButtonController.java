@@ -37,24 +37,8 @@ public final class ButtonController implements ActionListener {
      */
     @Override
     public void actionPerformed(final ActionEvent e) {
-        cityModel.getRandomPerson().ifPresent(person -> {
-            if (person.getBusiness().isPresent() && person.getPersonData().residenceZone().name() != null) {
-                final String info = "Name: " + person.getPersonData().name()
-                        + "\nAge: " + person.getPersonData().age()
-                        + "\nResidence: " + person.getPersonData().residenceZone().name()
-                        + "\nWork at: " + person.getBusiness().get().getBusinessData().id()
-                        + "\nState: " + person.getState()
-                        + "\nBalance " + person.getMoney();
-                windowView.showPersonInfo(info);
-            } else if (person.getPersonData().residenceZone().name() != null) {
-                final String info = "Name: " + person.getPersonData().name()
-                        + "\nAge: " + person.getPersonData().age()
-                        + "\nResidence: " + person.getPersonData().residenceZone().name()
-                        + "\nWork at: No Work"
-                        + "\nState: " + person.getState()
-                        + "\nBalance " + person.getMoney();
-                windowView.showPersonInfo(info);
-            }
-        });
+        cityModel.getRandomPerson()
+                .filter(person -> person.getPersonData().residenceZone().name() != null)
+                .ifPresent(person -> windowView.showPersonInfo(EntityDescriptions.describe(person)));
     }
 }
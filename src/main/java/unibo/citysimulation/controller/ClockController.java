@@ -1,17 +1,16 @@
 package unibo.citysimulation.controller;
 
-import java.time.LocalTime;
 import java.util.Objects;
 
 import unibo.citysimulation.model.clock.api.ClockModel;
-import unibo.citysimulation.model.clock.api.ClockObserver;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import unibo.citysimulation.view.sidepanels.clock.ClockPanel;
 
 /**
  * Controller class responsible for managing the clock and its interactions with the user interface.
+ * The time shown by the clock panel is updated by the {@link RenderScheduler}.
  */
-public class ClockController implements ClockObserver {
+public class ClockController {
     private final ClockPanel clockPanel;
     private final ClockModel clockModel;
 
@@ -32,18 +31,6 @@ public class ClockController implements ClockObserver {
         clockPanel.addSpeedButtonActionListener(e -> changeClockSpeed());
     }
 
-    /**
-     * Updates the clock panel with the current time and day.
-     *
-     * @param currentTime The current time.
-     * @param currentDay  The current day.
-     */
-    @Override
-    public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
-        // Update the clock panel text with current time and day
-        clockPanel.setClockText(String.valueOf(currentDay), currentTime.toString());
-    }
-
     /**
      * Sets the simulation speed based on the given speed value.
      */
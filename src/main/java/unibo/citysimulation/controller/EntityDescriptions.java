@@ -0,0 +1,44 @@
+package unibo.citysimulation.controller;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.utilities.BusinessData;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+
+/**
+ * Builds the text describing a person or a business, shown when they are
+ * inspected.
+ */
+final class EntityDescriptions {
+
+    private EntityDescriptions() {
+    }
+
+    /**
+     * @param person the person to describe
+     * @return the name, age, residence, business, state and balance of the person.
+     */
+    static String describe(final DynamicPerson person) {
+        final String work = person.getBusiness()
+                .map(business -> String.valueOf(business.getBusinessData().id()))
+                .orElse("No Work");
+        return "Name: " + person.getPersonData().name()
+                + "\nAge: " + person.getPersonData().age()
+                + "\nResidence: " + person.getPersonData().residenceZone().name()
+                + "\nWork at: " + work
+                + "\nState: " + person.getState()
+                + "\nBalance " + person.getMoney();
+    }
+
+    /**
+     * @param business the business to describe
+     * @return the id, type, zone, employees and opening hours of the business.
+     */
+    static String describe(final Business business) {
+        final BusinessData data = business.getBusinessData();
+        return "Business: " + data.id()
+                + "\nType: " + data.businessType()
+                + "\nZone: " + data.zone().name()
+                + "\nEmployees: " + data.employees().size() + "/" + data.maxEmployees()
+                + "\nOpen: " + data.openingTime() + " - " + data.closingTime();
+    }
+}
@@ -58,18 +58,18 @@ public final class GraphicsController implements ClockObserver {
     }
 
     /**
-     * Updates the graphics model when the time is updated.
+     * Takes a sample for the graphics model when the time is updated.
      * This method is called by the clock model, demonstrating the observer pattern.
+     * The sample is only queued, and added to the charts by the {@link RenderScheduler}.
      *
      * @param currentTime the current time
      * @param currentDay  the current day
      */
     @Override
     public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
-        graphicsModel.updateDataset(
-            cityModel.getAllPeople(),
+        graphicsModel.sampleDataset(
+            cityModel.getStatistics(),
             cityModel.getTransportLines(),
-            cityModel.getBusinesses(),
             cityModel.getClockModel().getUpdateRate());
     }
 }
@@ -74,6 +74,7 @@ public class InputController {
     private void stopSimulation(final ClockPanel clockPanel) {
         // Restart the clock simulation
         cityModel.getClockModel().stopSimulation();
+        cityModel.shutdown();
         cityModel.removeBusinesses();
         // Update the pause button state on the clock panel
         clockPanel.updatePauseButton(cityModel.getClockModel().isPaused());
@@ -9,18 +9,25 @@ import unibo.citysimulation.model.CityModel;
 import unibo.citysimulation.model.InfoModelImpl;
 import unibo.citysimulation.model.clock.api.ClockObserver;
 import unibo.citysimulation.model.map.api.MapModel;
+import unibo.citysimulation.model.map.impl.LevelOfDetail;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import unibo.citysimulation.view.WindowView;
 import unibo.citysimulation.view.map.MapPanel;
 
 /**
  * Controller class responsible for handling mouse events on the map and updating the view based on the model state.
  * Implements MouseListener to handle mouse events and ClockObserver to update the map as time progresses.
+ * The map model is updated on the clock thread, and the map panel is drawn by the {@link RenderScheduler}.
  */
 public final class MapController implements MouseListener, ClockObserver {
     private final MapPanel mapPanel;
     private final MapModel mapModel;
     private final CityModel cityModel;
     private final InfoModelImpl infoModel;
+    private final WindowView windowView;
+    private final LevelOfDetail levelOfDetail = new LevelOfDetail(ConstantAndResourceLoader.LOD_MAX_DOTS,
+            ConstantAndResourceLoader.LOD_MIN_DOTS, ConstantAndResourceLoader.LOD_MAX_SAMPLED_PEOPLE,
+            ConstantAndResourceLoader.LOD_PAINT_BUDGET_MILLIS);
 
     /**
      * Constructs a MapController object.
@@ -30,6 +37,7 @@ public final class MapController implements MouseListener, ClockObserver {
      */
     public MapController(final CityModel cityModel, final WindowView windowView) {
         this.cityModel = Objects.requireNonNull(cityModel, "CityModel cannot be null");
+        this.windowView = windowView;
         this.mapPanel = windowView.getMapPanel();
         this.mapModel = cityModel.getMapModel();
         this.infoModel = new InfoModelImpl(cityModel, windowView.getInfoPanel());
@@ -53,11 +61,13 @@ public final class MapController implements MouseListener, ClockObserver {
         mapPanel.setImage(mapModel.getImage());
         mapPanel.setLinesInfo(mapModel.getLinesPointsCoordinates(), mapModel.getTransportNames());
         mapPanel.setLinesColor(mapModel.getColorList());
+        mapPanel.setEntities(mapModel.getEntities());
     }
 
     /**
      * Handles mouse click events on the map panel.
-     * Translates the click coordinates and updates the zone information displayed in the info panel.
+     * Translates the click coordinates, updates the zone information displayed in the info panel and shows the
+     * information of the entity under the cursor, if any.
      *
      * @param e the MouseEvent object containing details about the mouse click
      */
@@ -67,20 +77,49 @@ public final class MapController implements MouseListener, ClockObserver {
 
         infoModel.updateZoneInfo(x, y);
         mapModel.setMaxCoordinates((int) cityModel.getFrameWidth() / 2, (int) cityModel.getFrameHeight());
+        inspect(x, y);
     }
+
+    /**
+     * Shows the information of the business or, if there is none, of the person
+     * under the cursor, found with the spatial indexes of the city.
+     *
+     * @param x the normalised x coordinate of the click
+     * @param y the normalised y coordinate of the click
+     */
+    private void inspect(final int x, final int y) {
+        final int radius = (int) Math.ceil(ConstantAndResourceLoader.PICK_RADIUS_PIXELS * 1000.0
+                / Math.max(1, Math.min(mapPanel.getWidth(), mapPanel.getHeight())));
+        cityModel.getBusinessNear(x, y, radius).ifPresentOrElse(
+                business -> windowView.showBusinessInfo(EntityDescriptions.describe(business)),
+                () -> cityModel.getPersonNear(x, y, radius)
+                        .ifPresent(person -> windowView.showPersonInfo(EntityDescriptions.describe(person))));
+    }
+
     /**
-     * Updates the map model when the time is updated.
+     * Refreshes the information of the zone last clicked, which changes as the
+     * people move and the businesses hire and fire. Called on the event dispatch
+     * thread, at every frame drawn.
+     */
+    public void refreshInfo() {
+        infoModel.refreshZoneInfo();
+    }
+
+    /**
+     * Updates the map model when the time is updated: the congestion of the
+     * lines and the snapshot of the entities, which is published to the panel.
+     * Large populations are sampled, or drawn as a heatmap of their density,
+     * depending on their size and on the time the panel takes to paint them.
      *
      * @param currentTime the current time
      * @param currentDay  the current day
      */
     @Override
     public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
-
         mapModel.setTransportCongestion(cityModel.getTransportLines());
-        mapPanel.setLinesColor(mapModel.getColorList());
-        mapPanel.setEntities(mapModel.getPersonInfos(cityModel.getAllPeople()),
-                mapModel.getBusinessInfos(cityModel.getBusinesses()));
+        levelOfDetail.update(cityModel.getPersonStore().size(), mapPanel.takePaintNanosPerPerson());
+        mapModel.setLevelOfDetail(levelOfDetail.getMode(), levelOfDetail.getStride());
+        mapModel.updateEntities(cityModel.getPersonStore(), cityModel.getBusinesses());
     }
 
     /**
@@ -0,0 +1,127 @@
+package unibo.citysimulation.controller;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.Timer;
+
+import unibo.citysimulation.model.CityModel;
+import unibo.citysimulation.model.clock.api.ClockObserver;
+import unibo.citysimulation.model.graphics.api.GraphicsModel;
+import unibo.citysimulation.model.map.api.MapModel;
+import unibo.citysimulation.view.WindowView;
+import unibo.citysimulation.view.map.MapPanel;
+import unibo.citysimulation.view.sidepanels.clock.ClockPanel;
+
+/**
+ * Draws the view at a fixed maximum frame rate, independently of the speed of
+ * the simulation.
+ * At every tick the clock thread only publishes the day and the time of the
+ * tick, packed in a single long so that nothing is allocated, replacing the
+ * previous ones if they have not been drawn yet; the snapshots of the entities
+ * are published by the map model and the samples of the charts are queued by
+ * the graphics model. A Swing timer takes the latest frame on the event
+ * dispatch thread and updates the panels once, reading the colors of the lines
+ * from the map model there, so the intermediate frames are dropped and the
+ * ticks never wait for the view. Other panels can be refreshed with every
+ * drawn frame by adding render tasks.
+ * It must be registered as a clock observer after the controllers updating the
+ * map and graphics models.
+ */
+public final class RenderScheduler implements ClockObserver {
+    private static final int MILLIS_IN_A_SECOND = 1000;
+    private static final long NO_FRAME = -1;
+    private static final int DAY_SHIFT = 32;
+    private static final long SECOND_MASK = 0xFFFF_FFFFL;
+
+    private final MapModel mapModel;
+    private final GraphicsModel graphicsModel;
+    private final MapPanel mapPanel;
+    private final ClockPanel clockPanel;
+    private final AtomicLong latest = new AtomicLong(NO_FRAME);
+    private final List<Runnable> renderTasks = new ArrayList<>();
+    private final Timer timer;
+
+    /**
+     * Constructs a render scheduler and registers it as a clock observer.
+     * The scheduler does not draw until it is started.
+     *
+     * @param cityModel  the city model
+     * @param windowView the window view containing the panels to update
+     * @param fps        the maximum number of frames drawn per second
+     * @throws IllegalArgumentException if the frame rate is not positive
+     */
+    public RenderScheduler(final CityModel cityModel, final WindowView windowView, final int fps) {
+        Objects.requireNonNull(cityModel, "cityModel must not be null");
+        Objects.requireNonNull(windowView, "windowView must not be null");
+        if (fps <= 0) {
+            throw new IllegalArgumentException("The frame rate must be positive: " + fps);
+        }
+        this.mapModel = cityModel.getMapModel();
+        this.graphicsModel = cityModel.getGraphicsModel();
+        this.mapPanel = windowView.getMapPanel();
+        this.clockPanel = windowView.getClockPanel();
+        this.timer = new Timer(Math.max(1, MILLIS_IN_A_SECOND / fps), e -> render());
+        this.timer.setCoalesce(true);
+        cityModel.getClockModel().addObserver(this);
+    }
+
+    /**
+     * Adds a task run on the event dispatch thread every time a frame is
+     * drawn, after the map and the clock are updated and before the charts.
+     * The tasks must be added before the scheduler is started.
+     *
+     * @param task the task to run
+     */
+    public void addRenderTask(final Runnable task) {
+        renderTasks.add(Objects.requireNonNull(task, "task must not be null"));
+    }
+
+    /**
+     * Starts drawing the published frames.
+     */
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Stops drawing the published frames.
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    /**
+     * Publishes the day and the time of the tick, replacing the previous ones
+     * if they have not been drawn yet.
+     *
+     * @param currentTime the current time
+     * @param currentDay  the current day
+     */
+    @Override
+    public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
+        latest.set((long) currentDay << DAY_SHIFT | currentTime.toSecondOfDay());
+    }
+
+    /**
+     * Draws the latest frame, if a new one was published since the last call.
+     * Called on the event dispatch thread.
+     */
+    private void render() {
+        final long frame = latest.getAndSet(NO_FRAME);
+        if (frame == NO_FRAME) {
+            return;
+        }
+        final int day = (int) (frame >>> DAY_SHIFT);
+        final LocalTime time = LocalTime.ofSecondOfDay(frame & SECOND_MASK);
+        clockPanel.setClockText(String.valueOf(day), time.toString());
+        mapPanel.setLinesColor(mapModel.getColorList());
+        mapPanel.repaint();
+        renderTasks.forEach(Runnable::run);
+        // Last, so that a failure adding the samples cannot stop the other panels
+        graphicsModel.flushSamples();
+    }
+}
@@ -1,6 +1,7 @@
 package unibo.citysimulation.controller;
 
 import unibo.citysimulation.model.CityModel;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import unibo.citysimulation.view.WindowView;
 
 import java.awt.event.ComponentAdapter;
@@ -38,12 +39,16 @@ public class WindowController {
      * Initializes the controllers for the city simulation.
      */
     private void initializeControllers() {
-        new MapController(cityModel, windowView);
-        cityModel.getClockModel()
-                .addObserver(new ClockController(cityModel.getClockModel(), windowView.getClockPanel()));
+        final MapController mapController = new MapController(cityModel, windowView);
+        new ClockController(cityModel.getClockModel(), windowView.getClockPanel());
         new InputController(cityModel, cityModel.getInputModel(), windowView.getInputPanel(),
                 windowView.getClockPanel());
         new GraphicsController(cityModel, windowView.getGraphicsPanel());
+        // Registered last, so that its frames see the models updated by the other controllers
+        final RenderScheduler renderScheduler = new RenderScheduler(cityModel, windowView,
+                ConstantAndResourceLoader.RENDER_FPS);
+        renderScheduler.addRenderTask(mapController::refreshInfo);
+        renderScheduler.start();
     }
 
     /**
@@ -67,8 +72,8 @@ public class WindowController {
             mapModel.setMaxCoordinates(newWidth / 2, newHeight);
             mapPanel.setLinesInfo(mapModel.getLinesPointsCoordinates(), mapModel.getTransportNames());
             if (cityModel.isPeoplePresent() && cityModel.isBusinessesPresent()) {
-                mapPanel.setEntities(mapModel.getPersonInfos(cityModel.getAllPeople()),
-                        mapModel.getBusinessInfos(cityModel.getBusinesses()));
+                mapModel.updateEntities(cityModel.getPersonStore(), cityModel.getBusinesses());
+                mapPanel.setEntities(mapModel.getEntities());
             }
             windowView.updateFrame(cityModel.getFrameWidth(), cityModel.getFrameHeight());
         }
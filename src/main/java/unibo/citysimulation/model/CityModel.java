@@ -5,6 +5,9 @@ import unibo.citysimulation.model.clock.api.ClockModel;
 import unibo.citysimulation.model.graphics.api.GraphicsModel;
 import unibo.citysimulation.model.map.api.MapModel;
 import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PersonStore;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+import unibo.citysimulation.model.statistics.api.ZoneSummary;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.utilities.Pair;
@@ -32,6 +35,35 @@ public interface CityModel {
      */
     Optional<Zone> getZoneByPosition(Pair<Integer, Integer> position);
 
+    /**
+     * Get the zone in which the position is located, looking it up in a spatial index of the zones.
+     *
+     * @param x The normalised x coordinate.
+     * @param y The normalised y coordinate.
+     * @return An Optional of the zone in which the position is located.
+     */
+    Optional<Zone> getZoneByPosition(int x, int y);
+
+    /**
+     * Finds the person on the map nearest to a position, looking it up in a spatial index of the people.
+     *
+     * @param x      The normalised x coordinate.
+     * @param y      The normalised y coordinate.
+     * @param radius The maximum distance of the person from the position.
+     * @return An Optional of the nearest person, empty if there is none within the radius.
+     */
+    Optional<DynamicPerson> getPersonNear(int x, int y, int radius);
+
+    /**
+     * Finds the business nearest to a position, looking it up in a spatial index of the businesses.
+     *
+     * @param x      The normalised x coordinate.
+     * @param y      The normalised y coordinate.
+     * @param radius The maximum distance of the business from the position.
+     * @return An Optional of the nearest business, empty if there is none within the radius.
+     */
+    Optional<Business> getBusinessNear(int x, int y, int radius);
+
     /**
      * Check if the position is in the specified zone.
      *
@@ -57,6 +89,15 @@ public interface CityModel {
      */
     int getNumberOfDirectLinesFromZone(Zone zone);
 
+    /**
+     * Get the aggregate figures of the specified zone, read in constant time.
+     *
+     * @param zone The zone to summarise.
+     * @return The residents, employed residents, businesses, average pay, direct lines and
+     *         people present of the zone.
+     */
+    ZoneSummary getZoneSummary(Zone zone);
+
     /**
      * Takes the frame size of the city model.
      */
@@ -126,6 +167,21 @@ public interface CityModel {
      */
     List<DynamicPerson> getAllPeople();
 
+    /**
+     * Get the columnar store holding the state of all the people.
+     *
+     * @return The person store of the simulation.
+     */
+    PersonStore getPersonStore();
+
+    /**
+     * Get the statistics of the simulation, updated as people and businesses
+     * change.
+     *
+     * @return The statistics of the simulation.
+     */
+    SimulationStatistics getStatistics();
+
     /**
      * Checks if there are any people present in the city.
      *
@@ -176,6 +232,13 @@ public interface CityModel {
      */
     void removeBusinesses();
 
+    /**
+     * Detaches the entities of the simulation from the clock and releases the
+     * threads checking the people. The entities can still be read, and
+     * {@link #createEntities(int)} creates new ones.
+     */
+    void shutdown();
+
     /**
      * Returns a random person from the city.
      *
@@ -1,37 +1,49 @@
 package unibo.citysimulation.model;
 
 import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
+import unibo.citysimulation.model.business.utilities.UnemploymentPool;
 import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.business.api.BusinessFactory;
 import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
 import unibo.citysimulation.model.clock.api.ClockModel;
+import unibo.citysimulation.model.clock.api.ClockObserver;
 import unibo.citysimulation.model.clock.impl.ClockModelImpl;
 import unibo.citysimulation.model.clock.impl.ClockObserverPerson;
+import unibo.citysimulation.model.clock.impl.ClockObserverTransport;
 import unibo.citysimulation.model.clock.impl.ClockObserverBusiness;
 import unibo.citysimulation.model.graphics.impl.GraphicsModelImpl;
 import unibo.citysimulation.model.map.impl.MapModelImpl;
+import unibo.citysimulation.model.map.impl.PointGrid;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.person.impl.PersonStore;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+import unibo.citysimulation.model.statistics.api.ZoneSummary;
+import unibo.citysimulation.model.statistics.impl.SimulationStatisticsImpl;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
 import unibo.citysimulation.model.zone.Boundary;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneIndex;
+import unibo.citysimulation.model.zone.ZoneTable;
 import unibo.citysimulation.model.zone.ZoneTableCreation;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+import unibo.citysimulation.utilities.RandomStreams;
 import unibo.citysimulation.utilities.Pair;
 
 import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
 import java.awt.Toolkit;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.Optional;
-import java.util.Random;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
 import java.util.Collections;
 import java.util.Iterator;
 
@@ -45,10 +57,16 @@ import java.util.Iterator;
         pass the mutable models as parameters, because we need to keep them always updated. In every case, we pass
         interfaces of the models.""")
 public final class CityModelImpl implements CityModel {
+    private static final int BUSINESS_INDEX_COLUMNS = 16;
+
     private final List<Zone> zones;
+    private final ZoneIndex zoneIndex;
     private List<TransportLine> transports;
     private List<Business> businesses;
+    private PointGrid businessIndex = new PointGrid(BUSINESS_INDEX_COLUMNS);
     private List<List<DynamicPerson>> people;
+    private PersonStore personStore;
+    private SimulationStatistics statistics;
     private final MapModelImpl mapModel;
     private final ClockModel clockModel;
     private final InputModel inputModel;
@@ -56,7 +74,9 @@ public final class CityModelImpl implements CityModel {
     private final EmploymentOfficeData employmentOfficeData;
     private int frameWidth;
     private int frameHeight;
-    private final Random random = new Random();
+    private SplittableRandom random = new SplittableRandom();
+    private final List<ClockObserver> entityObservers = new ArrayList<>();
+    private Optional<ClockObserverPerson> personObserver = Optional.empty();
 
     /**
      * Constructs a new CityModelImpl object.
@@ -64,16 +84,27 @@ public final class CityModelImpl implements CityModel {
      * transports, and employment office data.
      */
     public CityModelImpl() {
+        this(ConstantAndResourceLoader.SIMULATION_TOTAL_DAYS);
+    }
+
+    /**
+     * Constructs a new CityModelImpl object that simulates the given number of days.
+     *
+     * @param totalDays the total number of simulation days
+     */
+    public CityModelImpl(final int totalDays) {
         takeFrameSize();
 
         this.mapModel = new MapModelImpl("/unibo/citysimulation/images/mapImage.png");
-        this.clockModel = new ClockModelImpl(ConstantAndResourceLoader.SIMULATION_TOTAL_DAYS);
+        this.clockModel = new ClockModelImpl(totalDays);
         this.inputModel = new InputModelImpl();
-        this.graphicsModel = new GraphicsModelImpl();
         this.zones = ZoneCreation.createZonesFromFile();
+        this.zoneIndex = new ZoneIndex(zones);
         this.transports = new TransportFactoryImpl().createTransportsFromFile(zones);
+        this.graphicsModel = new GraphicsModelImpl(transports.size());
+        this.statistics = createStatistics();
         this.businesses = new ArrayList<>();
-        this.employmentOfficeData = new EmploymentOfficeData(new LinkedList<>());
+        this.employmentOfficeData = new EmploymentOfficeData(new UnemploymentPool());
     }
 
     /**
@@ -83,24 +114,36 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public void createEntities(final int extraBusinesses) {
+        shutdown();
         graphicsModel.clearDatasets();
 
         transports = new TransportFactoryImpl().createTransportsFromFile(zones);
         transports.forEach(t -> t.setCapacity(t.getCapacity() * inputModel.getCapacity() / 100));
 
-        ZoneTableCreation.createAndAddPairs(zones, transports);
+        final ZoneTable zoneTable = ZoneTableCreation.createZoneTable(zones, transports);
 
         int numberOfBusinesses = inputModel.getNumberOfPeople() / ConstantAndResourceLoader.PERC_BUSINESS;
 
         if (extraBusinesses > 0) {
             numberOfBusinesses += extraBusinesses;
         }
-        final BusinessFactory businessFactory = new BusinessFactoryImpl();
+        final RandomStreams randomStreams = new RandomStreams(inputModel.getSeed());
+        random = randomStreams.stream("city");
+        final BusinessFactory businessFactory = new BusinessFactoryImpl(randomStreams.stream("businesses"));
         businesses = businessFactory.createMultipleBusiness(zones, numberOfBusinesses);
-
+        statistics = createStatistics();
+        businesses.forEach(business -> business.setStatistics(statistics));
+        businessIndex = new PointGrid(BUSINESS_INDEX_COLUMNS);
+        for (final Business business : businesses) {
+            businessIndex.add(business.getBusinessData().position().getFirst(),
+                    business.getBusinessData().position().getSecond());
+        }
 
         this.people = new ArrayList<>();
-        people = new PersonFactoryImpl().createAllPeople(getInputModel().getNumberOfPeople(), zones, businesses);
+        final PersonFactoryImpl personFactory = new PersonFactoryImpl(randomStreams, statistics, zoneTable);
+        people = personFactory.createAllPeople(getInputModel().getNumberOfPeople(), zones, businesses);
+        personStore = personFactory.getPersonStore();
+        mapModel.trackPeople(personStore);
 
         for (final List<DynamicPerson> group : people) {
             for (final DynamicPerson person : group) {
@@ -109,8 +152,59 @@ public final class CityModelImpl implements CityModel {
                 }
             }
         }
-        clockModel.addObserver(new ClockObserverPerson(people));
-        clockModel.addObserver(new ClockObserverBusiness(businesses, employmentOfficeData));
+        final int parallelism = getInputModel().getParallelism();
+        final ClockObserverPerson observer = parallelism > 1
+                ? new ClockObserverPerson(people, parallelism)
+                : new ClockObserverPerson(people);
+        personObserver = Optional.of(observer);
+        entityObservers.add(observer);
+        entityObservers.add(new ClockObserverTransport(transports));
+        entityObservers.add(new ClockObserverBusiness(businesses, employmentOfficeData,
+                randomStreams.stream("employment")));
+        entityObservers.forEach(clockModel::addObserver);
+    }
+
+    /**
+     * Detaches the entities of the simulation from the clock and releases the
+     * threads checking the people. The entities can still be read, and
+     * {@link #createEntities(int)} creates new ones.
+     */
+    @Override
+    public void shutdown() {
+        entityObservers.forEach(clockModel::removeObserver);
+        entityObservers.clear();
+        personObserver.ifPresent(ClockObserverPerson::shutdown);
+        personObserver = Optional.empty();
+    }
+
+    /**
+     * Creates the statistics of a simulation with the zones of the city, and
+     * records in them the current transport lines, once for every zone they
+     * link.
+     */
+    private SimulationStatistics createStatistics() {
+        final SimulationStatistics created = new SimulationStatisticsImpl(zones.size());
+        for (final TransportLine transportLine : transports) {
+            final Zone first = transportLine.getLink().getFirst();
+            final Zone second = transportLine.getLink().getSecond();
+            created.addDirectLine(first.id());
+            if (!second.equals(first)) {
+                created.addDirectLine(second.id());
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Gets the aggregate figures of a zone, kept up to date by the people and
+     * the businesses, in constant time.
+     * 
+     * @param zone The zone to summarise.
+     * @return The summary of the zone.
+     */
+    @Override
+    public ZoneSummary getZoneSummary(final Zone zone) {
+        return statistics.getZoneSummary(zone.id());
     }
 
     /**
@@ -121,17 +215,7 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public double avaragePayZone(final Zone zone) {
-        double avarage = 0;
-        int businessCount = 0;
-        double sum = 0;
-        for (final Business business : businesses) {
-            if (business.getBusinessData().zone().equals(zone)) {
-                businessCount++;
-                sum += business.getBusinessData().employees().size() * business.calculatePay();
-                avarage = sum / businessCount;
-            }
-        }
-        return avarage;
+        return getZoneSummary(zone).averagePay();
     }
 
     /**
@@ -142,20 +226,20 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public int getNumberOfDirectLinesFromZone(final Zone zone) {
-        int numberOfDirectLines = 0;
-        for (final TransportLine transportLine : transports) {
-            if (transportLine.getLink().getFirst().equals(zone) || transportLine.getLink().getSecond().equals(zone)) {
-                numberOfDirectLines++;
-            }
-        }
-        return numberOfDirectLines;
+        return getZoneSummary(zone).directLines();
     }
 
     /**
-     * Determines the frame size based on the screen size.
+     * Determines the frame size based on the screen size, or uses the minimum size
+     * when running without a display.
      */
     @Override
     public void takeFrameSize() {
+        if (GraphicsEnvironment.isHeadless()) {
+            this.frameWidth = ConstantAndResourceLoader.SCREEN_MINIMUM_WIDTH_PIXEL;
+            this.frameHeight = ConstantAndResourceLoader.SCREEN_MINIMUM_HEIGHT_PIXEL;
+            return;
+        }
         final Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
         final int maxWidth = (int) (screenSize.getWidth() * ConstantAndResourceLoader.SCREEN_SIZE_PERCENTAGE);
         final int maxHeight = (int) (screenSize.getHeight() * ConstantAndResourceLoader.SCREEN_SIZE_PERCENTAGE);
@@ -209,9 +293,53 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public Optional<Zone> getZoneByPosition(final Pair<Integer, Integer> position) {
-        return zones.stream()
-                .filter(zone -> isPositionInZone(position, zone))
-                .findFirst();
+        return getZoneByPosition(position.getFirst(), position.getSecond());
+    }
+
+    /**
+     * Gets the zone by a given position, looking it up in the spatial index of
+     * the zones.
+     * 
+     * @param x The normalised x coordinate.
+     * @param y The normalised y coordinate.
+     * @return An Optional containing the zone if found, otherwise empty.
+     */
+    @Override
+    public Optional<Zone> getZoneByPosition(final int x, final int y) {
+        return zoneIndex.getZone(x, y);
+    }
+
+    /**
+     * Finds the person on the map nearest to a position, in the spatial index
+     * of the map model kept up to date by the moves of the people.
+     * 
+     * @param x      The normalised x coordinate.
+     * @param y      The normalised y coordinate.
+     * @param radius The maximum distance of the person from the position.
+     * @return An Optional containing the nearest person, otherwise empty.
+     */
+    @Override
+    public Optional<DynamicPerson> getPersonNear(final int x, final int y, final int radius) {
+        if (personStore == null) {
+            return Optional.empty();
+        }
+        final OptionalInt nearest = mapModel.getPersonNear(x, y, radius);
+        return nearest.isPresent() ? personStore.getPerson(nearest.getAsInt()) : Optional.empty();
+    }
+
+    /**
+     * Finds the business nearest to a position, in the spatial index of the
+     * businesses.
+     * 
+     * @param x      The normalised x coordinate.
+     * @param y      The normalised y coordinate.
+     * @param radius The maximum distance of the business from the position.
+     * @return An Optional containing the nearest business, otherwise empty.
+     */
+    @Override
+    public Optional<Business> getBusinessNear(final int x, final int y, final int radius) {
+        final int[] nearest = businessIndex.nearest(x, y, 1, radius);
+        return nearest.length == 0 ? Optional.empty() : Optional.of(businesses.get(nearest[0]));
     }
 
     /**
@@ -312,6 +440,27 @@ public final class CityModelImpl implements CityModel {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the columnar store holding the state of all the people.
+     * 
+     * @return The person store of the simulation.
+     */
+    @Override
+    public PersonStore getPersonStore() {
+        return personStore;
+    }
+
+    /**
+     * Gets the statistics of the simulation, updated as people and businesses
+     * change.
+     * 
+     * @return The statistics of the simulation.
+     */
+    @Override
+    public SimulationStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * Checks if there are people present in the simulation.
      * 
@@ -362,11 +511,7 @@ public final class CityModelImpl implements CityModel {
     @Override
     public Optional<Integer> getPeopleInZone(final String zoneName) {
         return Optional.ofNullable(people)
-                .map(pList -> pList.stream()
-                        .flatMap(List::stream)
-                        .filter(p -> p.getPersonData().residenceZone().name().equals(zoneName))
-                        .count())
-                .map(Long::intValue);
+                .map(pList -> getZoneByName(zoneName).map(zone -> getZoneSummary(zone).residents()).orElse(0));
     }
 
     /**
@@ -377,13 +522,16 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public int getBusinessesInZone(final String zoneName) {
-        return (int) businesses.stream()
-                .filter(b -> b.getBusinessData().zone().name().equals(zoneName))
-                .count();
+        return getZoneByName(zoneName).map(zone -> getZoneSummary(zone).businesses()).orElse(0);
+    }
+
+    private Optional<Zone> getZoneByName(final String zoneName) {
+        return zones.stream().filter(zone -> zone.name().equals(zoneName)).findFirst();
     }
 
     /**
-     * Removes all businesses from the simulation.
+     * Removes all businesses from the simulation, withdrawing them from the
+     * figures of their zones.
      */
     @Override
     public void removeBusinesses() {
@@ -391,9 +539,12 @@ public final class CityModelImpl implements CityModel {
         while (iterator.hasNext()) {
             final Business business = iterator.next();
             if (business != null) {
+                statistics.removeZoneBusiness(business.getBusinessData().zone().id(),
+                        business.getBusinessData().employees().size(), business.calculatePay());
                 iterator.remove();
             }
         }
+        businessIndex = new PointGrid(BUSINESS_INDEX_COLUMNS);
     }
 
     /**
@@ -11,5 +11,11 @@ public interface InfoModel {
      * @param y The y-coordinate.
      */
     void updateZoneInfo(int x, int y); 
+
+    /**
+     * Updates the information panel with the current figures of the zone last
+     * selected, if any.
+     */
+    void refreshZoneInfo();
 }
 
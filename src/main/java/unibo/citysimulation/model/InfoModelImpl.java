@@ -1,17 +1,22 @@
 package unibo.citysimulation.model;
 
+import unibo.citysimulation.model.statistics.api.ZoneSummary;
 import unibo.citysimulation.model.zone.Zone;
-import unibo.citysimulation.utilities.Pair;
 import unibo.citysimulation.view.sidepanels.InfoPanel;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
  * Class responsible for managing information related to zones, businesses, and people.
+ * The figures of a zone are read from the aggregates kept up to date by the
+ * simulation, so the zone last selected can be refreshed at every frame.
  */
 public class InfoModelImpl implements InfoModel {
     private final InfoPanel infoPanel;
     private final CityModel cityModel;
+    private Optional<Zone> selectedZone = Optional.empty();
+    private int selectedX;
+    private int selectedY;
 
     /**
      * Constructs an InfoModelImpl object.
@@ -32,25 +37,39 @@ public class InfoModelImpl implements InfoModel {
      */
     @Override
     public void updateZoneInfo(final int x, final int y) {
-        final Optional<Zone> selectedZone = cityModel.getZoneByPosition(new Pair<>(x, y));
+        selectedZone = cityModel.getZoneByPosition(x, y);
+        selectedX = x;
+        selectedY = y;
         selectedZone.ifPresentOrElse(zone -> updateInfoPanelWithZone(zone, x, y), () -> clearInfoPanel(x, y));
     }
 
+    /**
+     * Updates the information panel with the current figures of the zone last
+     * selected, if any.
+     */
+    @Override
+    public void refreshZoneInfo() {
+        selectedZone.ifPresent(zone -> updateInfoPanelWithZone(zone, selectedX, selectedY));
+    }
+
     private void updateInfoPanelWithZone(final Zone zone, final int x, final int y) {
+        final ZoneSummary summary = cityModel.getZoneSummary(zone);
         infoPanel.updatePositionInfo(x, y);
         infoPanel.updateZoneName(zone.name());
-        cityModel.getPeopleInZone(zone.name()).ifPresentOrElse(
-                infoPanel::updateNumberOfPeople,
-                () -> infoPanel.updateNumberOfPeople(0));
-        infoPanel.updateNumberOfBusiness(cityModel.getBusinessesInZone(zone.name()));
-        infoPanel.updateAveragePay(cityModel.avaragePayZone(zone));
-        infoPanel.updateNumberOfDirectLines(cityModel.getNumberOfDirectLinesFromZone(zone));
+        infoPanel.updateNumberOfPeople(summary.residents());
+        infoPanel.updateNumberOfEmployed(summary.employed());
+        infoPanel.updateNumberOfPresent(summary.present());
+        infoPanel.updateNumberOfBusiness(summary.businesses());
+        infoPanel.updateAveragePay(summary.averagePay());
+        infoPanel.updateNumberOfDirectLines(summary.directLines());
     }
 
     private void clearInfoPanel(final int x, final int y) {
         infoPanel.updatePositionInfo(x, y);
         infoPanel.updateZoneName("");
         infoPanel.updateNumberOfPeople(0);
+        infoPanel.updateNumberOfEmployed(0);
+        infoPanel.updateNumberOfPresent(0);
         infoPanel.updateNumberOfBusiness(0);
         infoPanel.updateAveragePay(0);
         infoPanel.updateNumberOfDirectLines(0);
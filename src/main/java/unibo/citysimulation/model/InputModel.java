@@ -15,6 +15,12 @@ public interface InputModel {
      * @param numberOfPeople the number of people
      */
     void setNumberOfPeople(int numberOfPeople);
+    /**
+     * Sets the exact number of people, without scaling it from the slider percentage.
+     *
+     * @param numberOfPeople the number of people
+     */
+    void setAbsoluteNumberOfPeople(int numberOfPeople);
     /**
      * Gets the number of businesses.
      *
@@ -57,6 +63,30 @@ public interface InputModel {
      * @param richness the richness
      */
     void setRichness(int richness);
+    /**
+     * Gets the number of threads used to check the people at every time update.
+     *
+     * @return the number of threads, 1 for the sequential mode
+     */
+    int getParallelism();
+    /**
+     * Sets the number of threads used to check the people at every time update.
+     *
+     * @param parallelism the number of threads, 1 for the sequential mode
+     */
+    void setParallelism(int parallelism);
+    /**
+     * Gets the root seed from which all the randomness of the simulation is derived.
+     *
+     * @return the seed
+     */
+    long getSeed();
+    /**
+     * Sets the root seed from which all the randomness of the simulation is derived.
+     *
+     * @param seed the seed
+     */
+    void setSeed(long seed);
 }
 
 
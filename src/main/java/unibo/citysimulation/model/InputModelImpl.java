@@ -1,5 +1,7 @@
 package unibo.citysimulation.model;
 
+import java.util.SplittableRandom;
+
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 /**
  * This class represents the input model for the city simulation.
@@ -9,6 +11,8 @@ public class InputModelImpl implements InputModel {
     private int numberOfBusiness;
     private int capacity;
     private int richness;
+    private int parallelism = 1;
+    private long seed = new SplittableRandom().nextLong();
 
     /**
      * Gets the number of people.
@@ -34,6 +38,16 @@ public class InputModelImpl implements InputModel {
         //System.out.println(numberOfPeople);
     }
 
+    /**
+     * Sets the exact number of people, without scaling it from the slider percentage.
+     *
+     * @param numberOfPeople the number of people
+     */
+    @Override
+    public void setAbsoluteNumberOfPeople(final int numberOfPeople) {
+        this.numberOfPeople = numberOfPeople;
+    }
+
     /**
      * Gets the number of businesses.
      *
@@ -103,4 +117,44 @@ public class InputModelImpl implements InputModel {
     public void setRichness(final int richness) {
         this.richness = richness;
     }
+
+    /**
+     * Gets the number of threads used to check the people.
+     *
+     * @return the number of threads
+     */
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of threads used to check the people.
+     *
+     * @param parallelism the number of threads
+     */
+    @Override
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the root seed of the simulation.
+     *
+     * @return the seed
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the root seed of the simulation.
+     *
+     * @param seed the seed
+     */
+    @Override
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
 }
@@ -2,6 +2,7 @@ package unibo.citysimulation.model;
 
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.business.impl.EmploymentOfficeManager;
+import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportLineImpl;
 
 import java.util.List;
@@ -10,6 +11,9 @@ import java.util.List;
  * Utility class for generating simulation reports.
  */
 public final class ReportLogic {
+    private static final int DAY_MINUTES = 24 * 60;
+    private static final double MEDIAN = 50;
+    private static final double RUSH_HOUR = 95;
 
     // Private constructor to prevent instantiation
     private ReportLogic() {
@@ -30,7 +34,16 @@ public final class ReportLogic {
         final int totalHired = EmploymentOfficeManager.getTotalHired();
         final int totalFired = EmploymentOfficeManager.getTotalFired();
         final double averageCongestion = TransportLineImpl.calculateAverageCongestion(cityModel.getTransportLines());
-        final StringBuilder report = new StringBuilder(256);
+        final List<TransportLine> lines = cityModel.getTransportLines();
+        final double medianCongestion = TransportLineImpl.calculateAverageCongestionPercentile(lines, MEDIAN,
+                DAY_MINUTES);
+        final double rushHourCongestion = TransportLineImpl.calculateAverageCongestionPercentile(lines, RUSH_HOUR,
+                DAY_MINUTES);
+        final double peakCongestion = lines.stream()
+                .mapToDouble(line -> line.getMaxCongestion(DAY_MINUTES))
+                .max()
+                .orElse(0);
+        final StringBuilder report = new StringBuilder(512);
 
         report
         .append("Simulation Report\n =================\n Total people: ").append(people.size())
@@ -39,7 +52,13 @@ public final class ReportLogic {
         .append("\n Average occupation rate: ").append(String.format("%.2f", averageOccupationRate * 100))
         .append("%\n Total hired: ").append(totalHired)
         .append("\n Total fired: ").append(totalFired)
-        .append("\n Average transport line congestion: ").append(String.format("%.2f", averageCongestion)).append("%\n");
+        .append("\n Average transport line congestion: ").append(String.format("%.2f", averageCongestion))
+        .append("%\n Median transport line congestion in the last day: ")
+        .append(String.format("%.2f", medianCongestion))
+        .append("%\n Rush-hour (95th percentile) transport line congestion in the last day: ")
+        .append(String.format("%.2f", rushHourCongestion))
+        .append("%\n Peak transport line congestion in the last day: ").append(String.format("%.2f", peakCongestion))
+        .append("%\n");
         return report.toString();
     }
 }
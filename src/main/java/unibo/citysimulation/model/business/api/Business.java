@@ -5,6 +5,7 @@ import java.time.LocalTime;
 import unibo.citysimulation.model.business.impl.Employee;
 import unibo.citysimulation.model.business.utilities.BusinessData;
 import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
 
 /**
  * The Business interface represents a business entity in the city simulation.
@@ -54,4 +55,12 @@ public interface Business {
      * @return the business type
      */
     BusinessType getBusinessType();
+
+    /**
+     * Records the business in the given statistics, which are then notified
+     * of every hired and fired employee.
+     * 
+     * @param statistics the statistics of the simulation
+     */
+    void setStatistics(SimulationStatistics statistics);
 }
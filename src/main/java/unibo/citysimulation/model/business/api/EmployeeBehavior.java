@@ -23,6 +23,15 @@ public interface EmployeeBehavior {
      * @return True if the employee is late, false otherwise.
      */
     boolean isLate(Optional<Pair<Integer, Integer>> businessPosition);
+
+    /**
+     * Checks if the employee is late based on the given business coordinates.
+     *
+     * @param businessX The x coordinate of the business.
+     * @param businessY The y coordinate of the business.
+     * @return True if the employee is late, false otherwise.
+     */
+    boolean isLate(int businessX, int businessY);
      /**
      * Gets the dynamic person associated with the employee.
      * 
@@ -1,5 +1,7 @@
 package unibo.citysimulation.model.business.api;
 
+import java.util.List;
+
 /**
  * The EmploymentOfficeBehavior interface represents the behavior of an
  * employment office in a city simulation.
@@ -21,6 +23,14 @@ public interface EmploymentOfficeBehavior {
      */
     void handleEmployeeHiring(Business business);
 
+    /**
+     * Handles the daily hiring round of all the businesses at once, matching
+     * every job seeker with the first business that can hire them.
+     * 
+     * @param businesses the businesses that are hiring, in order of preference
+     */
+    void handleHiringRound(List<Business> businesses);
+
     /**
      * Handles the payment of an employee by a business.
      * 
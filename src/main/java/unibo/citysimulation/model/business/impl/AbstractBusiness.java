@@ -0,0 +1,128 @@
+package unibo.citysimulation.model.business.impl;
+
+import java.time.LocalTime;
+import java.util.Optional;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.utilities.BusinessData;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+
+/**
+ * The behaviour shared by all the kinds of business in the city simulation,
+ * which only differ in their {@link BusinessData}.
+ */
+public abstract class AbstractBusiness implements Business {
+    private final BusinessData businessData;
+    private Optional<SimulationStatistics> statistics = Optional.empty();
+
+    /**
+     * Constructs a business with the given data.
+     *
+     * @param businessData the data of the business
+     */
+    @SuppressFBWarnings(value = "EI2", justification = """
+            The data is built by the subclasses for this business only.""")
+    protected AbstractBusiness(final BusinessData businessData) {
+        this.businessData = businessData;
+    }
+
+    /**
+     * Hires an employee for the business.
+     *
+     * @param employee the employee to hire
+     */
+    @Override
+    public void hire(final Employee employee) {
+        if (employee != null && businessData.employees().size() < businessData.maxEmployees()) {
+            businessData.employees().add(employee);
+            statistics.ifPresent(s -> recordEmployees(s, 1));
+        }
+    }
+
+    /**
+     * Fires an employee from the business.
+     *
+     * @param employee the employee to fire
+     */
+    @Override
+    public void fire(final Employee employee) {
+        if (employee != null && employee.count() > businessData.maxTardiness()
+                && businessData.employees().remove(employee)) {
+            statistics.ifPresent(s -> recordEmployees(s, -1));
+        }
+    }
+
+    private void recordEmployees(final SimulationStatistics statistics, final int delta) {
+        statistics.changeEmployees(businessData.businessType(), delta);
+        statistics.changeZoneEmployees(businessData.zone().id(), delta, calculatePay());
+    }
+
+    /**
+     * Checks the delays of the employees at the opening time of the business.
+     *
+     * @param currentTime the current time
+     */
+    @Override
+    public void checkEmployeeDelays(final LocalTime currentTime) {
+        if (currentTime.equals(businessData.openingTime())) {
+            final EmployeeRoster employees = businessData.employees();
+            final int x = businessData.position().getFirst();
+            final int y = businessData.position().getSecond();
+            for (int i = 0; i < employees.size(); i++) {
+                final Employee employee = employees.get(i);
+                if (employee.isLate(x, y)) {
+                    employee.incrementDelayCount();
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the total pay for the business.
+     *
+     * @return the total pay
+     */
+    @Override
+    public double calculatePay() {
+        final double hoursworked = businessData.closingTime().getHour() - businessData.openingTime().getHour();
+        return hoursworked * businessData.revenue();
+    }
+
+    /**
+     * Gets the business data.
+     *
+     * @return the business data
+     */
+    @Override
+    public BusinessData getBusinessData() {
+        return businessData;
+    }
+
+    /**
+     * Gets the business type.
+     *
+     * @return the business type
+     */
+    @Override
+    public BusinessType getBusinessType() {
+        return businessData.businessType();
+    }
+
+    /**
+     * Records the business in the given statistics.
+     *
+     * @param statistics the statistics of the simulation
+     */
+    @Override
+    @SuppressFBWarnings(value = "EI2", justification = """
+            The statistics are shared on purpose by all the businesses of a simulation.""")
+    public void setStatistics(final SimulationStatistics statistics) {
+        statistics.addBusiness(businessData.businessType(), businessData.employees().size(),
+                businessData.maxEmployees());
+        statistics.addZoneBusiness(businessData.zone().id(), businessData.employees().size(), calculatePay());
+        this.statistics = Optional.of(statistics);
+    }
+}
@@ -3,7 +3,7 @@ package unibo.citysimulation.model.business.impl;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.business.api.BusinessFactory;
@@ -15,13 +15,24 @@ import unibo.citysimulation.model.zone.Zone;
  */
 public final class BusinessFactoryImpl implements BusinessFactory {
 
-    private static final Random RANDOM = new Random();
+    private final SplittableRandom random;
     private int id;
 
     /**
-     * Construct of the BusinessFactoryImpl class.
+     * Construct of the BusinessFactoryImpl class, with a random seed.
      */
     public BusinessFactoryImpl() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Construct of the BusinessFactoryImpl class, drawing the types and the
+     * positions of the businesses from the given generator.
+     *
+     * @param random the generator of the factory
+     */
+    public BusinessFactoryImpl(final SplittableRandom random) {
+        this.random = random;
         this.id = 0;
     }
 
@@ -36,9 +47,9 @@ public final class BusinessFactoryImpl implements BusinessFactory {
     @Override
     public Optional<Business> createBusiness(final BusinessType type, final Zone zone) {
         return switch (type) {
-            case BIG -> Optional.of(new BigBusiness(id++, zone));
-            case MEDIUM -> Optional.of(new MediumBusiness(id++, zone));
-            case SMALL -> Optional.of(new SmallBusiness(id++, zone));
+            case BIG -> Optional.of(new BigBusiness(id++, zone, zone.getRandomPosition(random)));
+            case MEDIUM -> Optional.of(new MediumBusiness(id++, zone, zone.getRandomPosition(random)));
+            case SMALL -> Optional.of(new SmallBusiness(id++, zone, zone.getRandomPosition(random)));
             default -> Optional.empty();
         };
     }
@@ -52,8 +63,8 @@ public final class BusinessFactoryImpl implements BusinessFactory {
      */
     @Override
     public Optional<Business> createRandomBusiness(final List<Zone> zones) {
-        final BusinessType type = BusinessType.values()[RANDOM.nextInt(BusinessType.values().length)];
-        final Zone zone = zones.get(RANDOM.nextInt(zones.size()));
+        final BusinessType type = BusinessType.values()[random.nextInt(BusinessType.values().length)];
+        final Zone zone = zones.get(random.nextInt(zones.size()));
         return createBusiness(type, zone);
     }
 
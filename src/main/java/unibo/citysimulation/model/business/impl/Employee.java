@@ -17,6 +17,7 @@ public final class Employee implements EmployeeBehavior {
     private final DynamicPerson person;
     private final BusinessData businessData;
     private int count;
+    private int slot = -1;
 
     /**
      * Constructs a new Employee object with the given person and business data.
@@ -78,4 +79,30 @@ public final class Employee implements EmployeeBehavior {
     public boolean isLate(final Optional<Pair<Integer, Integer>> businessPosition) {
         return !person.getPosition().equals(businessPosition);
     }
+
+    /**
+     * Checks if the employee is late, without boxing the coordinates.
+     * 
+     * @param businessX The x coordinate of the business.
+     * @param businessY The y coordinate of the business.
+     * @return true if the employee is late, false otherwise.
+     */
+    @Override
+    public boolean isLate(final int businessX, final int businessY) {
+        return !person.isAt(businessX, businessY);
+    }
+
+    /**
+     * @return the slot of the employee in the roster of the business, or -1.
+     */
+    int getSlot() {
+        return slot;
+    }
+
+    /**
+     * @param slot the new slot of the employee in the roster of the business
+     */
+    void setSlot(final int slot) {
+        this.slot = slot;
+    }
 }
@@ -0,0 +1,110 @@
+package unibo.citysimulation.model.business.impl;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The employees of a business, kept in an array.
+ * Every employee knows its slot in the roster, so an employee is removed in
+ * constant time by moving the last one in its place; the order of the
+ * employees is therefore not the order in which they were hired.
+ * An employee can be in one roster at a time.
+ */
+public final class EmployeeRoster extends AbstractList<Employee> implements RandomAccess {
+    private static final int NO_SLOT = -1;
+
+    private Employee[] employees;
+    private int size;
+
+    /**
+     * Constructs an empty roster.
+     *
+     * @param capacity the number of employees the roster has room for before
+     *                 growing
+     */
+    public EmployeeRoster(final int capacity) {
+        this.employees = new Employee[Math.max(1, capacity)];
+    }
+
+    @Override
+    public Employee get(final int index) {
+        return employees[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds an employee at the end of the roster.
+     *
+     * @param employee the employee to add
+     * @return true
+     * @throws IllegalArgumentException if the employee is already in a roster
+     */
+    @Override
+    public boolean add(final Employee employee) {
+        if (employee.getSlot() != NO_SLOT) {
+            throw new IllegalArgumentException("The employee is already in a roster");
+        }
+        if (size == employees.length) {
+            employees = Arrays.copyOf(employees, size * 2);
+        }
+        employee.setSlot(size);
+        employees[size++] = employee;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the employee at the given index, moving the last one in its place.
+     *
+     * @param index the index of the employee
+     * @return the removed employee
+     */
+    @Override
+    public Employee remove(final int index) {
+        final Employee removed = get(index);
+        final Employee last = employees[--size];
+        employees[index] = last;
+        last.setSlot(index);
+        employees[size] = null;
+        removed.setSlot(NO_SLOT);
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes an employee in constant time.
+     *
+     * @param employee the employee to remove
+     * @return true if the employee was in the roster
+     */
+    @Override
+    public boolean remove(final Object employee) {
+        if (employee instanceof Employee e && e.getSlot() >= 0 && e.getSlot() < size && employees[e.getSlot()] == e) {
+            remove(e.getSlot());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(final Object employee) {
+        return employee instanceof Employee e && e.getSlot() >= 0 && e.getSlot() < size
+                && employees[e.getSlot()] == e;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            employees[i].setSlot(NO_SLOT);
+            employees[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+}
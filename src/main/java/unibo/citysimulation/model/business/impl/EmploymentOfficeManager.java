@@ -1,13 +1,15 @@
 package unibo.citysimulation.model.business.impl;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.business.api.EmploymentOfficeBehavior;
+import unibo.citysimulation.model.business.utilities.BusinessData;
 import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 
@@ -18,7 +20,7 @@ import unibo.citysimulation.model.person.api.DynamicPerson;
 public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
 
     private final EmploymentOfficeData employmentOffice;
-    private final Random random;
+    private final SplittableRandom random;
     private static final int ZERO = 0;
     private static final LocalTime TIME_ZERO = LocalTime.of(ZERO, ZERO);
     private static int totalHired;
@@ -31,8 +33,19 @@ public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
      * @param employmentOffice the employment office data
      */
     public EmploymentOfficeManager(final EmploymentOfficeData employmentOffice) {
+        this(employmentOffice, new SplittableRandom());
+    }
+
+    /**
+     * Constructs an EmploymentOfficeManager object with the given employment office
+     * data, drawing the number of people to hire and fire from the given generator.
+     * 
+     * @param employmentOffice the employment office data
+     * @param random           the generator of the employment office
+     */
+    public EmploymentOfficeManager(final EmploymentOfficeData employmentOffice, final SplittableRandom random) {
         this.employmentOffice = employmentOffice;
-        this.random = new Random();
+        this.random = random;
     }
 
     /**
@@ -69,6 +82,21 @@ public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
         }
     }
 
+    /**
+     * Handles the daily hiring round: the unemployed people are matched with
+     * the vacancies of all the businesses in a single pass by a
+     * {@link JobMatcher}.
+     * 
+     * @param businesses the businesses that are hiring, in order of preference
+     */
+    @Override
+    public final void handleHiringRound(final List<Business> businesses) {
+        final JobMatcher matcher = new JobMatcher(businesses);
+        if (matcher.getVacancies() > 0) {
+            matcher.matchAll(new ArrayList<>(employmentOffice.disoccupied()), this::hire);
+        }
+    }
+
     /**
      * Checks if the business can hire more employees.
      * 
@@ -90,22 +118,21 @@ public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
     }
 
     /**
-     * Gets a list of people eligible to be hired by the business.
+     * Gets a list of people eligible to be hired by the business: people living
+     * in another zone, whose age is in the range of the business.
      * 
      * @param business the business to get eligible people for
      * @return an optional list of eligible people, or an empty optional if no
      *         eligible people are found
      */
     private Optional<List<DynamicPerson>> getPeopleToHire(final Business business) {
-        final int availableSpots = business.getBusinessData().maxEmployees()
-                - business.getBusinessData().employees().size();
+        final BusinessData data = business.getBusinessData();
+        final int availableSpots = data.maxEmployees() - data.employees().size();
         if (availableSpots > 0) {
-            final List<DynamicPerson> disoccupiedPeople = employmentOffice.disoccupied();
-            final List<DynamicPerson> eligiblePeople = disoccupiedPeople.stream()
-                    .filter(person -> !person.getPersonData().residenceZone().equals(business.getBusinessData().zone()))
-                    .collect(Collectors.toList());
+            final List<DynamicPerson> eligiblePeople = employmentOffice.disoccupied()
+                    .find(availableSpots, data.zone(), data.minAge(), data.maxAge());
             if (!eligiblePeople.isEmpty()) {
-                return Optional.of(eligiblePeople.subList(0, Math.min(availableSpots, eligiblePeople.size())));
+                return Optional.of(eligiblePeople);
             }
         }
         return Optional.empty();
@@ -121,17 +148,26 @@ public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
 
         for (final DynamicPerson person : peopleToHire) {
             if (canHire(business)) {
-                final Employee employee = new Employee(person, business.getBusinessData());
-                business.hire(employee);
-                employmentOffice.disoccupied().remove(person);
-                person.setBusiness(Optional.of(business));
-                person.setBusinessBegin(business.getBusinessData().openingTime());
-                person.setBusinessEnd(business.getBusinessData().closingTime());
-                totalHired++;
+                hire(person, business);
             }
         }
     }
 
+    /**
+     * Hires a person for the business, taking them out of the unemployed.
+     * 
+     * @param person   the person to hire
+     * @param business the business hiring the person
+     */
+    private void hire(final DynamicPerson person, final Business business) {
+        business.hire(new Employee(person, business.getBusinessData()));
+        employmentOffice.disoccupied().remove(person);
+        person.setBusiness(Optional.of(business));
+        person.setBusinessBegin(business.getBusinessData().openingTime());
+        person.setBusinessEnd(business.getBusinessData().closingTime());
+        totalHired++;
+    }
+
     /**
      * Gets a list of employees to be fired from the business.
      * 
@@ -0,0 +1,137 @@
+package unibo.citysimulation.model.business.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.utilities.BusinessData;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+
+/**
+ * Matches job seekers with the vacancies of a list of businesses.
+ * A person can work in a business of another zone whose age range includes
+ * their age, and gets the first such business of the list that still has a
+ * vacancy. The businesses are grouped by zone and age range when the matcher
+ * is built, and every group keeps its businesses in list order, skipping the
+ * full ones; so a match only compares the first business with a vacancy of
+ * every group, and its cost depends on the number of groups, not of businesses.
+ * The vacancies are counted when the matcher is built and decreased by every
+ * match, so the matcher must not be used after the businesses hire or fire
+ * someone else.
+ */
+public final class JobMatcher {
+    private final List<Business> businesses;
+    private final int[] vacancies;
+    private final List<Group> groups = new ArrayList<>();
+
+    /**
+     * Builds a matcher with the vacancies of the given businesses.
+     *
+     * @param businesses the businesses, in order of preference
+     */
+    public JobMatcher(final List<Business> businesses) {
+        this.businesses = List.copyOf(businesses);
+        this.vacancies = new int[businesses.size()];
+        final Map<GroupKey, List<Integer>> members = new HashMap<>();
+        for (int i = 0; i < businesses.size(); i++) {
+            final BusinessData data = businesses.get(i).getBusinessData();
+            vacancies[i] = Math.max(0, data.maxEmployees() - data.employees().size());
+            if (vacancies[i] > 0) {
+                final GroupKey key = new GroupKey(data.zone().id(), data.minAge(), data.maxAge());
+                members.computeIfAbsent(key, k -> {
+                    final List<Integer> list = new ArrayList<>();
+                    groups.add(new Group(k, list));
+                    return list;
+                }).add(i);
+            }
+        }
+    }
+
+    /**
+     * Finds the business the given person would be hired by, and takes one of
+     * its vacancies.
+     *
+     * @param person the job seeker
+     * @return the first business of the list the person can work in, or an
+     *         empty optional if none has a vacancy
+     */
+    public Optional<Business> match(final DynamicPerson person) {
+        final int residence = person.getPersonData().residenceZone().id();
+        final int age = person.getPersonData().age();
+        int best = Integer.MAX_VALUE;
+        for (final Group group : groups) {
+            final GroupKey key = group.key;
+            if (age >= key.minAge() && age <= key.maxAge() && key.zoneId() != residence) {
+                best = Math.min(best, group.first());
+            }
+        }
+        if (best == Integer.MAX_VALUE) {
+            return Optional.empty();
+        }
+        vacancies[best]--;
+        return Optional.of(businesses.get(best));
+    }
+
+    /**
+     * Matches the given job seekers in one pass, in order.
+     *
+     * @param seekers the job seekers
+     * @param hire    the action hiring a person by the business they matched
+     */
+    public void matchAll(final Collection<? extends DynamicPerson> seekers,
+            final BiConsumer<DynamicPerson, Business> hire) {
+        for (final DynamicPerson person : seekers) {
+            match(person).ifPresent(business -> hire.accept(person, business));
+        }
+    }
+
+    /**
+     * @return the number of vacancies left.
+     */
+    public int getVacancies() {
+        int total = 0;
+        for (final int count : vacancies) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * The zone and age range shared by the businesses of a group.
+     *
+     * @param zoneId the id of the zone of the businesses
+     * @param minAge the minimum age of the employees
+     * @param maxAge the maximum age of the employees
+     */
+    private record GroupKey(int zoneId, int minAge, int maxAge) { }
+
+    /**
+     * The businesses with the same zone and age range, in list order.
+     */
+    private final class Group {
+        private final GroupKey key;
+        private final List<Integer> members;
+        private int head;
+
+        Group(final GroupKey key, final List<Integer> members) {
+            this.key = key;
+            this.members = members;
+        }
+
+        /**
+         * @return the index of the first business of the group with a vacancy,
+         *         or {@link Integer#MAX_VALUE} if they are all full.
+         */
+        int first() {
+            while (head < members.size() && vacancies[members.get(head)] == 0) {
+                head++;
+            }
+            return head < members.size() ? members.get(head) : Integer.MAX_VALUE;
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package unibo.citysimulation.model.business.utilities;
 
 import java.time.LocalTime;
-import java.util.List;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
-import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.impl.EmployeeRoster;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.utilities.Pair;
 
@@ -12,7 +11,7 @@ import unibo.citysimulation.utilities.Pair;
  * Represents the data of a business.
  *
  * @param id           The ID of the business.
- * @param employees    The list of employees working in the business.
+ * @param employees    The roster of the employees working in the business.
  * @param openingTime  The opening time of the business.
  * @param closingTime  The closing time of the business.
  * @param revenue      The revenue of the business.
@@ -31,7 +30,7 @@ import unibo.citysimulation.utilities.Pair;
         The class is immutable, so the mutable fields are safe to be passed as parameters.""")
 public record BusinessData(
         int id,
-        List<Employee> employees,
+        EmployeeRoster employees,
         LocalTime openingTime,
         LocalTime closingTime,
         double revenue,
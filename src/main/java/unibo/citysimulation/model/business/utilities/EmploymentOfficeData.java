@@ -1,13 +1,24 @@
 package unibo.citysimulation.model.business.utilities;
 
-import java.util.List;
+import java.util.Collection;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 /**
- * Represents the data of an employment office, including a list of disoccupied dynamic persons.
- * @param disoccupied the list of disoccupied dynamic persons
+ * Represents the data of an employment office, including the pool of disoccupied dynamic persons.
+ * @param disoccupied the pool of disoccupied dynamic persons
  */
 @SuppressFBWarnings(value = "EI", justification = """
 """)
-public record EmploymentOfficeData(List<DynamicPerson> disoccupied) { }
+public record EmploymentOfficeData(UnemploymentPool disoccupied) {
+
+    /**
+     * Constructs the data of an employment office whose pool holds the given
+     * disoccupied dynamic persons.
+     *
+     * @param disoccupied the disoccupied dynamic persons
+     */
+    public EmploymentOfficeData(final Collection<? extends DynamicPerson> disoccupied) {
+        this(new UnemploymentPool(disoccupied));
+    }
+}
@@ -0,0 +1,191 @@
+package unibo.citysimulation.model.business.utilities;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.zone.Zone;
+
+/**
+ * The unemployed people of the city, indexed by residence zone and age bracket.
+ * Every zone has a bucket per bracket of {@link #BRACKET_YEARS} years, found
+ * from the dense id of the zone without hashing it, and every
+ * bucket is an array list where a person is removed by moving the last one in
+ * its place, so adding and removing a person take constant time.
+ * Finding people to hire only looks at the buckets of the other zones whose
+ * bracket overlaps the age range, so its cost depends on the number of zones
+ * and on the people found, not on the size of the pool.
+ */
+public final class UnemploymentPool extends AbstractCollection<DynamicPerson> {
+    /**
+     * Width in years of an age bracket.
+     */
+    public static final int BRACKET_YEARS = 10;
+    private static final int BRACKETS = 12;
+
+    private final List<List<DynamicPerson>> buckets = new ArrayList<>();
+    private final Map<DynamicPerson, Slot> slots = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty pool.
+     */
+    public UnemploymentPool() {
+        // Empty pool
+    }
+
+    /**
+     * Constructs a pool with the given people.
+     *
+     * @param people the unemployed people
+     */
+    public UnemploymentPool(final Collection<? extends DynamicPerson> people) {
+        addAll(people);
+    }
+
+    private static int bracketOf(final int age) {
+        return Math.max(0, Math.min(BRACKETS - 1, age / BRACKET_YEARS));
+    }
+
+    private int zoneSlot(final Zone zone) {
+        while (buckets.size() <= zone.id() * BRACKETS) {
+            for (int i = 0; i < BRACKETS; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+        return zone.id();
+    }
+
+    /**
+     * Adds a person to the pool, unless it is already in it.
+     *
+     * @param person the unemployed person
+     * @return true if the person was added
+     */
+    @Override
+    public boolean add(final DynamicPerson person) {
+        if (slots.containsKey(person)) {
+            return false;
+        }
+        final int bucket = zoneSlot(person.getPersonData().residenceZone()) * BRACKETS
+                + bracketOf(person.getPersonData().age());
+        final List<DynamicPerson> people = buckets.get(bucket);
+        slots.put(person, new Slot(bucket, people.size()));
+        people.add(person);
+        return true;
+    }
+
+    /**
+     * Removes a person from the pool in constant time.
+     *
+     * @param person the person to remove
+     * @return true if the person was in the pool
+     */
+    @Override
+    public boolean remove(final Object person) {
+        final Slot slot = slots.remove(person);
+        if (slot == null) {
+            return false;
+        }
+        final List<DynamicPerson> people = buckets.get(slot.bucket());
+        final DynamicPerson last = people.remove(people.size() - 1);
+        if (last != person) {
+            people.set(slot.index(), last);
+            slots.put(last, slot);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(final Object person) {
+        return slots.containsKey(person);
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    public void clear() {
+        buckets.forEach(List::clear);
+        slots.clear();
+    }
+
+    /**
+     * Finds up to the given number of people living outside a zone, whose age
+     * is in the given range. The people are not removed from the pool.
+     *
+     * @param count        the maximum number of people to find
+     * @param excludedZone the zone the people must not live in
+     * @param minAge       the minimum age, included
+     * @param maxAge       the maximum age, included
+     * @return the people found, zone by zone in the order of their ids and
+     *         from the youngest bracket
+     */
+    public List<DynamicPerson> find(final int count, final Zone excludedZone, final int minAge, final int maxAge) {
+        final List<DynamicPerson> found = new ArrayList<>(Math.max(0, Math.min(count, size())));
+        final int zones = buckets.size() / BRACKETS;
+        for (int zone = 0; zone < zones && found.size() < count; zone++) {
+            if (zone == excludedZone.id()) {
+                continue;
+            }
+            for (int bracket = bracketOf(minAge); bracket <= bracketOf(maxAge) && found.size() < count; bracket++) {
+                for (final DynamicPerson person : buckets.get(zone * BRACKETS + bracket)) {
+                    final int age = person.getPersonData().age();
+                    if (age >= minAge && age <= maxAge) {
+                        found.add(person);
+                        if (found.size() == count) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Iterates over the people zone by zone and from the youngest bracket.
+     * The iterator does not support removal.
+     *
+     * @return an iterator over the unemployed people
+     */
+    @Override
+    public Iterator<DynamicPerson> iterator() {
+        return new Iterator<>() {
+            private int bucket;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                while (bucket < buckets.size() && index >= buckets.get(bucket).size()) {
+                    bucket++;
+                    index = 0;
+                }
+                return bucket < buckets.size();
+            }
+
+            @Override
+            public DynamicPerson next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return buckets.get(bucket).get(index++);
+            }
+        };
+    }
+
+    /**
+     * The position of a person in the pool.
+     *
+     * @param bucket the index of the bucket of the zone and age bracket
+     * @param index  the index of the person in the bucket
+     */
+    private record Slot(int bucket, int index) { }
+}
@@ -36,6 +36,14 @@ public interface ClockModel {
      */
     void startSimulation(int updateRate);
 
+    /**
+     * Runs the whole simulation synchronously, without a timer, as fast as possible.
+     * Only the observers already registered are notified, so it can be used headless.
+     *
+     * @return the number of ticks executed
+     */
+    long fastForward();
+
     /**
      * Pauses the simulation.
      */
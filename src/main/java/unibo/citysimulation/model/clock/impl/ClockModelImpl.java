@@ -8,10 +8,12 @@ import unibo.citysimulation.model.clock.api.ClockModel;
 import unibo.citysimulation.model.clock.api.ClockObserver;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents the clock model for the simulation.
+ * The observers may be added and removed while the timer thread notifies them,
+ * so they are kept in a copy-on-write list.
  */
 public final class ClockModelImpl implements ClockModel {
 
@@ -30,7 +32,7 @@ public final class ClockModelImpl implements ClockModel {
      */
     public ClockModelImpl(final int totalDays) {
         this.totalDays = totalDays;
-        this.observers = new ArrayList<>();
+        this.observers = new CopyOnWriteArrayList<>();
         this.currentDay = 1;
         this.currentTime = LocalTime.of(0, 0);
     }
@@ -70,22 +72,52 @@ public final class ClockModelImpl implements ClockModel {
         final TimerTask task = new TimerTask() {
             @Override
             public void run() {
-                if (!isPaused) {
-                    if (currentDay <= totalDays) {
-                        currentTime = currentTime.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND); 
-                        if (currentTime.getHour() == 0 && currentTime.getMinute() == 0) {
-                            currentDay++;
-                        }
-                        notifyObservers();
-                    } else {
-                        timer.cancel();
-                    }
+                if (!isPaused && !tick()) {
+                    timer.cancel();
                 }
             }
         };
         timer.scheduleAtFixedRate(task, 0, updateRate);
     }
 
+    /**
+     * Runs the whole simulation on the calling thread, stepping the clock as fast
+     * as possible instead of waiting for the timer.
+     *
+     * @return the number of ticks executed
+     */
+    @Override
+    public long fastForward() {
+        if (timer != null) {
+            timer.cancel();
+        }
+        isPaused = false;
+        currentTime = LocalTime.of(0, 0);
+        currentDay = 1;
+        long ticks = 0;
+        while (tick()) {
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Advances the time by one step and notifies the observers.
+     *
+     * @return false if the last simulation day is already over, true otherwise
+     */
+    private boolean tick() {
+        if (currentDay > totalDays) {
+            return false;
+        }
+        currentTime = currentTime.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND);
+        if (currentTime.getHour() == 0 && currentTime.getMinute() == 0) {
+            currentDay++;
+        }
+        notifyObservers();
+        return true;
+    }
+
     /**
      * Restarts the simulation.
      */
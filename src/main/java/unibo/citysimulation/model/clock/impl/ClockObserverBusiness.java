@@ -7,15 +7,22 @@ import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
 import unibo.citysimulation.model.clock.api.ClockObserver;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 /**
  * A ClockObserver implementation specifically designed for managing businesses
  * in a city simulation.
+ * The businesses are grouped by opening time, so at every time update only the
+ * ones opening check the delays of their employees, and the whole list is only
+ * visited at the times of the hiring, payment and firing phases.
  */
 public class ClockObserverBusiness implements ClockObserver {
     private final List<Business> businesses;
+    private final Map<LocalTime, List<Business>> businessesByOpeningTime;
     private final EmploymentOfficeManager employmentManager;
     private static final LocalTime HR_TIME = LocalTime.of(0, 0);
     private static final LocalTime FR_TIME = LocalTime.of(23, 0);
@@ -30,15 +37,32 @@ public class ClockObserverBusiness implements ClockObserver {
      *                         employees
      */
     public ClockObserverBusiness(final List<Business> businesses, final EmploymentOfficeData employmentOffice) {
+        this(businesses, employmentOffice, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a ClockObserverBusiness with the specified list of businesses,
+     * employment office data and generator of the employment office.
+     *
+     * @param businesses       the list of businesses to observe
+     * @param employmentOffice the employment office data to use for managing
+     *                         employees
+     * @param random           the generator used to choose how many people to
+     *                         hire and fire
+     */
+    public ClockObserverBusiness(final List<Business> businesses, final EmploymentOfficeData employmentOffice,
+            final SplittableRandom random) {
         this.businesses = new ArrayList<>(businesses);
-        this.employmentManager = new EmploymentOfficeManager(employmentOffice);
+        this.businessesByOpeningTime = this.businesses.stream()
+                .collect(Collectors.groupingBy(business -> business.getBusinessData().openingTime()));
+        this.employmentManager = new EmploymentOfficeManager(employmentOffice, random);
     }
 
     /**
      * Called when the time is updated in the city simulation.
-     * Checks for employee delays, handles employee hiring and payment at the end of
-     * the day,
-     * and handles employee firing at the start of the day.
+     * Checks for employee delays in the businesses opening at the current time,
+     * handles the hiring round of all the businesses and the payment at the end
+     * of the day, handles employee firing at the start of the day,
      * and the possible business expansion at the end of the month.
      *
      * @param currentTime the current time in the simulation
@@ -46,18 +70,19 @@ public class ClockObserverBusiness implements ClockObserver {
      */
     @Override
     public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
-        for (final Business business : businesses) {
-            business.checkEmployeeDelays(currentTime);
-            if (currentTime.equals(FR_TIME)) {
-                employmentManager.handleEmployeeHiring(business);
-                employmentManager.handleEmployeePay(business);
-            }
-            if (currentTime.equals(HR_TIME)) {
-                employmentManager.handleEmployeeFiring(business);
-            }
+        final List<Business> opening = businessesByOpeningTime.get(currentTime);
+        if (opening != null) {
+            opening.forEach(business -> business.checkEmployeeDelays(currentTime));
+        }
+        if (currentTime.equals(HR_TIME)) {
+            businesses.forEach(employmentManager::handleEmployeeFiring);
         }
-        if (currentDay == END_MONTH) {
-            BusinessExpancionLogic.evaluateBusinesses(businesses);
+        if (currentTime.equals(FR_TIME)) {
+            employmentManager.handleHiringRound(businesses);
+            businesses.forEach(employmentManager::handleEmployeePay);
+            if (currentDay == END_MONTH) {
+                BusinessExpancionLogic.evaluateBusinesses(businesses);
+            }
         }
     }
 }
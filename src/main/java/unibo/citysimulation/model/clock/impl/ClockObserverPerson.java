@@ -1,38 +1,131 @@
 package unibo.citysimulation.model.clock.impl;
 
 import java.time.LocalTime;
-import java.util.List;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import unibo.citysimulation.model.clock.api.ClockObserver;
 import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.TickAccumulator;
 
 /**
  * Represents an observer for the clock model that observes people.
+ * People are kept in a {@link PersonScheduler}, so at every time update only
+ * the people that can change state are checked.
+ * In the parallel mode every group of people is split into partitions of at
+ * most {@link #PARTITION_SIZE} people, each with its own scheduler, and the
+ * partitions are checked on a fork-join pool. Arrivals and departures blocked
+ * by a congested line are checked in parallel, while the other departures are
+ * admitted one partition after the other, so the outcome does not depend on the
+ * number of threads. Time updates with less than {@link #PARALLEL_THRESHOLD} due
+ * people run the same phases on the clock thread, to avoid the cost of the pool.
+ * The pool is owned by the observer and released by {@link #shutdown()}.
  */
 public class ClockObserverPerson implements ClockObserver {
-    private final List<List<DynamicPerson>> people;
+    /**
+     * Maximum number of people in a partition of the parallel mode.
+     */
+    public static final int PARTITION_SIZE = 4096;
+    /**
+     * Minimum number of due people for a time update to be run on the pool.
+     */
+    public static final int PARALLEL_THRESHOLD = 1024;
+
+    private final List<Partition> partitions;
+    private final ForkJoinPool pool;
 
     /**
-     * Constructs a ClockObserverPerson object with the specified list of people.
-     * 
+     * Constructs a ClockObserverPerson object with the specified list of people,
+     * checked sequentially by the clock thread.
+     *
      * @param people The list of people to observe.
      */
     public ClockObserverPerson(final List<List<DynamicPerson>> people) {
-        this.people = new ArrayList<>(people);
+        this.partitions = List.of(new Partition(people.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList())));
+        this.pool = null;
+    }
+
+    /**
+     * Constructs a ClockObserverPerson object with the specified list of people,
+     * checked in partitions on the given number of threads.
+     *
+     * @param people      The list of people to observe, grouped by residence zone.
+     * @param parallelism The number of threads to use.
+     */
+    public ClockObserverPerson(final List<List<DynamicPerson>> people, final int parallelism) {
+        this.partitions = new ArrayList<>();
+        for (final List<DynamicPerson> group : people) {
+            for (int from = 0; from < group.size(); from += PARTITION_SIZE) {
+                partitions.add(new Partition(group.subList(from, Math.min(group.size(), from + PARTITION_SIZE))));
+            }
+        }
+        this.pool = new ForkJoinPool(parallelism);
     }
 
     /**
      * Called when the time is updated in the clock model.
-     * This method checks the state of all people in the list of people.
-     * 
+     * This method checks the state of the people whose next event is due.
+     *
      * @param currentTime The current time.
      * @param currentDay The current day.
      */
     @Override
     public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
-        people.stream()
-              .flatMap(List::stream)
-              .forEach(person -> person.checkState(currentTime));
+        if (pool == null) {
+            partitions.get(0).scheduler.runDue(currentTime);
+            return;
+        }
+        final boolean parallel = partitions.stream()
+                .mapToInt(partition -> partition.scheduler.countDue(currentTime))
+                .sum() >= PARALLEL_THRESHOLD;
+        inPartitions(parallel, partition -> partition.scheduler.runArrivals(currentTime, partition.effects));
+        partitions.forEach(partition -> partition.effects.merge());
+        inPartitions(parallel, partition -> partition.scheduler.runBlockedDepartures(currentTime));
+        partitions.forEach(partition -> partition.scheduler.runDepartures(currentTime));
+    }
+
+    /**
+     * Releases the threads of the parallel mode. A time update running or
+     * notified afterwards checks the partitions on the calling thread.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private void inPartitions(final boolean parallel, final Consumer<Partition> action) {
+        if (!parallel) {
+            partitions.forEach(action);
+            return;
+        }
+        final List<ForkJoinTask<?>> tasks = partitions.stream()
+                .map(partition -> ForkJoinTask.adapt(() -> action.accept(partition)))
+                .collect(Collectors.toList());
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        } catch (final RejectedExecutionException e) {
+            // The pool was shut down, and none of the tasks has run
+            partitions.forEach(action);
+        }
+    }
+
+    /**
+     * A group of people checked by the same thread during a time update.
+     */
+    private static final class Partition {
+        private final PersonScheduler scheduler = new PersonScheduler();
+        private final TickAccumulator effects = new TickAccumulator();
+
+        Partition(final List<DynamicPerson> people) {
+            people.forEach(scheduler::register);
+        }
     }
 }
@@ -0,0 +1,46 @@
+package unibo.citysimulation.model.clock.impl;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import unibo.citysimulation.model.clock.api.ClockObserver;
+import unibo.citysimulation.model.transport.api.TransportLine;
+
+/**
+ * Represents an observer for the clock model that serves the boarding queues
+ * of the transport lines.
+ * At every time update each line lets on a batch of the people in its queue,
+ * so the work done does not depend on the number of people travelling, and
+ * then records its congestion.
+ * It must be added to the clock model after the observer of the people, so the
+ * people leaving in a time update are served in the same one.
+ */
+public class ClockObserverTransport implements ClockObserver {
+    private final List<TransportLine> lines;
+
+    /**
+     * Constructs a ClockObserverTransport object with the specified list of lines.
+     *
+     * @param lines The transport lines to serve.
+     */
+    public ClockObserverTransport(final List<TransportLine> lines) {
+        this.lines = new ArrayList<>(lines);
+    }
+
+    /**
+     * Called when the time is updated in the clock model.
+     * This method serves the boarding queue of every line and samples its
+     * congestion.
+     *
+     * @param currentTime The current time.
+     * @param currentDay The current day.
+     */
+    @Override
+    public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
+        for (final TransportLine line : lines) {
+            line.processQueue();
+            line.sampleCongestion();
+        }
+    }
+}
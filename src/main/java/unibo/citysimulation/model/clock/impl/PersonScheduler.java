@@ -0,0 +1,216 @@
+package unibo.citysimulation.model.clock.impl;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.api.TickEffects;
+import unibo.citysimulation.model.person.impl.TickAccumulator;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+/**
+ * Timing wheel that wakes up people only at the moments in which they can
+ * change state, instead of checking the whole population at every time update.
+ * The wheel has one slot for every clock tick of a day: every person is kept
+ * in the slot of its next check time and moved when that time changes.
+ * People waiting for a congested line are kept apart and retried at every tick.
+ * A time update can be run at once with {@link #runDue(LocalTime)}, or in three
+ * phases when the population is split among many schedulers checked on
+ * different threads: arrivals, departures blocked by a congested line and the
+ * remaining departures, the last of which must be run by one thread at a time.
+ */
+public final class PersonScheduler {
+    private static final int TICK_SECONDS = ConstantAndResourceLoader.MINUTES_IN_A_SECOND
+            * ConstantAndResourceLoader.SECONDS_IN_A_MINUTE;
+    private static final int SLOTS = ConstantAndResourceLoader.SECONDS_IN_A_DAY / TICK_SECONDS;
+
+    private final List<Set<DynamicPerson>> wheel;
+    private final Map<DynamicPerson, Integer> slotOf = new IdentityHashMap<>();
+    private Set<DynamicPerson> spareSlot = new LinkedHashSet<>();
+    private List<DynamicPerson> waiting = new ArrayList<>();
+    private List<DynamicPerson> retrying = new ArrayList<>();
+    private final List<DynamicPerson> departing = new ArrayList<>();
+
+    /**
+     * Constructs an empty scheduler.
+     */
+    public PersonScheduler() {
+        this.wheel = new ArrayList<>(SLOTS);
+        for (int i = 0; i < SLOTS; i++) {
+            wheel.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Adds a person to the scheduler and keeps it updated when its business
+     * times change.
+     *
+     * @param person the person to schedule
+     */
+    public void register(final DynamicPerson person) {
+        person.setScheduleListener(this::reschedule);
+        reschedule(person);
+    }
+
+    /**
+     * Checks the state of the people that are due at the given time and of the
+     * people waiting for a congested line, then schedules them again.
+     *
+     * @param currentTime the current time
+     */
+    public void runDue(final LocalTime currentTime) {
+        final int second = currentTime.toSecondOfDay();
+        if (second % TICK_SECONDS != 0) {
+            return;
+        }
+        final int slot = second / TICK_SECONDS;
+        final Set<DynamicPerson> due = wheel.get(slot);
+        if (!due.isEmpty()) {
+            wheel.set(slot, spareSlot);
+            for (final DynamicPerson person : due) {
+                slotOf.remove(person);
+                check(person, currentTime);
+            }
+            due.clear();
+            spareSlot = due;
+        }
+        if (!waiting.isEmpty()) {
+            final List<DynamicPerson> retry = waiting;
+            waiting = retrying;
+            retry.forEach(person -> check(person, currentTime));
+            retry.clear();
+            retrying = retry;
+        }
+    }
+
+    /**
+     * First phase of a partitioned time update: checks the people that are due
+     * and are arriving, recording the effects in the given accumulator, and keeps
+     * the others as candidate departures for the next phases.
+     *
+     * @param currentTime the current time
+     * @param effects     the accumulator of the effects of this scheduler
+     */
+    public void runArrivals(final LocalTime currentTime, final TickEffects effects) {
+        final int second = currentTime.toSecondOfDay();
+        if (second % TICK_SECONDS != 0) {
+            return;
+        }
+        final int slot = second / TICK_SECONDS;
+        final Set<DynamicPerson> due = wheel.get(slot);
+        if (!due.isEmpty()) {
+            wheel.set(slot, spareSlot);
+            for (final DynamicPerson person : due) {
+                slotOf.remove(person);
+                if (person.getState() == PersonState.MOVING) {
+                    check(person, currentTime, effects);
+                } else {
+                    departing.add(person);
+                }
+            }
+            due.clear();
+            spareSlot = due;
+        }
+        departing.addAll(waiting);
+        waiting.clear();
+    }
+
+    /**
+     * Second phase of a partitioned time update: checks the candidate departures
+     * whose route is congested. These people can only go on waiting, and the
+     * ones that were already waiting are not even checked again, so the shared
+     * state is only read and the phase can run concurrently with the same
+     * phase of other schedulers.
+     *
+     * @param currentTime the current time
+     */
+    public void runBlockedDepartures(final LocalTime currentTime) {
+        departing.removeIf(person -> {
+            if (person.canDepart()) {
+                return false;
+            }
+            if (person.isWaitingForTransport()) {
+                waiting.add(person);
+            } else {
+                check(person, currentTime, TickAccumulator.IMMEDIATE);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Last phase of a partitioned time update: checks the remaining candidate
+     * departures, updating the transport lines directly.
+     *
+     * @param currentTime the current time
+     */
+    public void runDepartures(final LocalTime currentTime) {
+        departing.forEach(person -> check(person, currentTime, TickAccumulator.IMMEDIATE));
+        departing.clear();
+    }
+
+    private void check(final DynamicPerson person, final LocalTime currentTime) {
+        check(person, currentTime, TickAccumulator.IMMEDIATE);
+    }
+
+    private void check(final DynamicPerson person, final LocalTime currentTime, final TickEffects effects) {
+        person.checkState(currentTime, effects);
+        if (person.isWaitingForTransport()) {
+            waiting.add(person);
+        } else {
+            reschedule(person);
+        }
+    }
+
+    /**
+     * Returns the number of people that will be checked at the given time.
+     *
+     * @param currentTime the time to look at
+     * @return the number of people due at that time, including the waiting ones
+     */
+    public int countDue(final LocalTime currentTime) {
+        final int second = currentTime.toSecondOfDay();
+        return second % TICK_SECONDS == 0 ? wheel.get(second / TICK_SECONDS).size() + waiting.size() : 0;
+    }
+
+    /**
+     * Moves a person to the slot of its next check time, or removes it from the
+     * wheel if it has nothing to do or its next check never falls on a tick.
+     * Waiting people are left in the waiting list.
+     *
+     * @param person the person to reschedule
+     */
+    private void reschedule(final DynamicPerson person) {
+        if (person.isWaitingForTransport()) {
+            return;
+        }
+        final OptionalInt next = person.getNextCheckTime();
+        if (next.isPresent() && next.getAsInt() % TICK_SECONDS == 0) {
+            schedule(person, next.getAsInt() / TICK_SECONDS);
+        } else {
+            unschedule(person);
+        }
+    }
+
+    private void schedule(final DynamicPerson person, final int slot) {
+        final Integer previous = slotOf.put(person, slot);
+        if (previous != null && previous != slot) {
+            wheel.get(previous).remove(person);
+        }
+        wheel.get(slot).add(person);
+    }
+
+    private void unschedule(final DynamicPerson person) {
+        final Integer previous = slotOf.remove(person);
+        if (previous != null) {
+            wheel.get(previous).remove(person);
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package unibo.citysimulation.model.graphics.api;
 
 
-import unibo.citysimulation.model.business.api.Business;
-import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
 import unibo.citysimulation.model.transport.api.TransportLine;
 
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
 import java.awt.Color;
 import java.util.List;
 
@@ -20,21 +19,37 @@ public interface GraphicsModel {
     void clearDatasets();
 
     /**
-     * Updates the datasets with new values derived from the provided lists of people, transport lines, and businesses.
+     * Updates the datasets with new values read from the statistics of the simulation and from the transport lines.
      *
-     * @param people     the list of dynamic person objects representing the population
+     * @param statistics the statistics of the simulation
      * @param lines      the list of transport line objects representing the transportation network
-     * @param businesses the list of business objects representing the businesses
      * @param updateRate the rate at which the data is updated for debug concurrency access
      */
-    void updateDataset(List<DynamicPerson> people, List<TransportLine> lines, List<Business> businesses, int updateRate);
+    void updateDataset(SimulationStatistics statistics, List<TransportLine> lines, int updateRate);
+
+    /**
+     * Reads a new sample from the statistics of the simulation and from the transport lines, like
+     * {@link #updateDataset(SimulationStatistics, List, int)}, but only queues it: the datasets are not
+     * changed until {@link #flushSamples()} is called, so the sample can be taken by the simulation thread
+     * and added by the thread drawing the charts.
+     *
+     * @param statistics the statistics of the simulation
+     * @param lines      the list of transport line objects representing the transportation network
+     * @param updateRate the rate at which the data is updated
+     */
+    void sampleDataset(SimulationStatistics statistics, List<TransportLine> lines, int updateRate);
+
+    /**
+     * Adds the queued samples to the datasets, in the order they were taken.
+     */
+    void flushSamples();
 
     /**
      * Retrieves the datasets used in the graphics model.
      *
-     * @return the list of {@link XYSeriesCollection} datasets
+     * @return the list of {@link XYDataset} datasets
      */
-    List<XYSeriesCollection> getDatasets();
+    List<XYDataset> getDatasets();
 
     /**
      * Returns the names of the datasets in the graphics model.
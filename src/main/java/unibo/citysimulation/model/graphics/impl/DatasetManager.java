@@ -1,10 +1,10 @@
 package unibo.citysimulation.model.graphics.impl;
 
-import org.jfree.data.xy.XYSeries;
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
 
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.stream.IntStream;
@@ -13,11 +13,12 @@ import java.util.stream.Collectors;
 /**
  * Manages the datasets used for graphical representation in the city
  * simulation.
+ * Every dataset is a {@link RingBufferXYDataset} keeping the initial sample and
+ * the last {@link ConstantAndResourceLoader#MAX_COLUMNS} ones.
  */
 public class DatasetManager {
-    private List<XYSeriesCollection> datasets;
+    private List<RingBufferXYDataset> datasets;
     private int counter;
-    private int columnCount;
 
     /**
      * Constructs a DatasetManager and initializes the datasets.
@@ -28,40 +29,27 @@ public class DatasetManager {
      */
     public DatasetManager(final List<Integer> seriesCount, final List<String> names) {
         counter = 0;
-        columnCount = 0;
         createDatasets(seriesCount, names);
     }
 
     private void createDatasets(final List<Integer> numCollections, final List<String> names) {
         datasets = IntStream.range(0, names.size())
-                .<XYSeriesCollection>mapToObj(i -> createDataset(numCollections.get(i)))
+                .mapToObj(i -> createDataset(numCollections.get(i)))
                 .collect(Collectors.toList());
     }
 
-    private XYSeriesCollection createDataset(final int numObjects) {
-        final XYSeriesCollection collection = new XYSeriesCollection();
-
-        IntStream.range(0, numObjects)
-                .mapToObj(i -> {
-                    final XYSeries series = new XYSeries("Object " + i, false);
-                    series.add(0, 0);
-                    return series;
-                })
-                .forEach(collection::addSeries);
-
-        return collection;
+    private RingBufferXYDataset createDataset(final int numObjects) {
+        final RingBufferXYDataset dataset = new RingBufferXYDataset(numObjects,
+                ConstantAndResourceLoader.MAX_COLUMNS + 1);
+        dataset.addSample(0, Collections.nCopies(numObjects, 0));
+        return dataset;
     }
 
     /**
      * Clears all datasets.
      */
     public void clearDatasets() {
-        columnCount = 0;
-        datasets.forEach(ds -> {
-            for (int i = 0; i < ds.getSeriesCount(); i++) {
-                ds.getSeries(i).clear();
-            }
-        });
+        datasets.forEach(RingBufferXYDataset::clear);
     }
 
     /**
@@ -78,42 +66,27 @@ public class DatasetManager {
             final List<Integer> businessesOccupation) {
         counter++;
 
-        updateSeries(datasets.get(0), peopleState, counter);
-        updateSeries(datasets.get(1), linesCongestion, counter);
-        updateSeries(datasets.get(2), businessesOccupation, counter);
-
-        columnCount++;
-
-        if (columnCount > ConstantAndResourceLoader.MAX_COLUMNS) {
-            final int columnsToRemove = columnCount - ConstantAndResourceLoader.MAX_COLUMNS;
-            datasets.forEach(ds -> removeOldColumns(ds, columnsToRemove));
-
-            columnCount = ConstantAndResourceLoader.MAX_COLUMNS;
-        }
+        datasets.get(0).addSample(counter, peopleState);
+        datasets.get(1).addSample(counter, linesCongestion);
+        datasets.get(2).addSample(counter, businessesOccupation);
     }
 
-    private void removeOldColumns(final XYSeriesCollection dataset, final int columnsToRemove) {
-        for (int i = 0; i < columnsToRemove; i++) {
-            for (int j = 0; j < dataset.getSeriesCount(); j++) {
-                final XYSeries series = dataset.getSeries(j);
-                    series.remove(0);
-            }
-        }
-    }
-
-    private void updateSeries(final XYSeriesCollection dataset, final List<? extends Number> values,
-            final double counter) {
-        IntStream.range(0, dataset.getSeriesCount()).forEach(i -> {
-            dataset.getSeries(i).add(counter, values.get(i));
-        });
+    /**
+     * Skips samples that were taken but never added, so that the following
+     * samples keep their position on the x axis.
+     *
+     * @param count the number of samples skipped
+     */
+    public void skipSamples(final int count) {
+        counter += count;
     }
 
     /**
      * Retrieves the datasets.
      *
-     * @return The list of XYSeriesCollection datasets.
+     * @return The list of datasets.
      */
-    public List<XYSeriesCollection> getDatasets() {
+    public List<XYDataset> getDatasets() {
         return new ArrayList<>(datasets);
     }
 }
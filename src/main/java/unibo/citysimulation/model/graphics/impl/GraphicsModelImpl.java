@@ -1,71 +1,130 @@
 package unibo.citysimulation.model.graphics.impl;
 
-import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.graphics.api.GraphicsModel;
-import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
 import unibo.citysimulation.model.transport.api.TransportLine;
 
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
 import java.awt.Color;
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
 
 /**
  * Manages datasets for graphical representation of various simulation data.
+ * The samples can be taken by the simulation thread and added to the datasets
+ * later by the thread drawing the charts, through a bounded queue of
+ * immutable samples. The queue holds at most as many samples as a dataset, so
+ * when the charts are not drawn the oldest samples, which the datasets would
+ * overwrite anyway, are dropped; the dropped samples still advance the x axis.
  */
 public final class GraphicsModelImpl implements GraphicsModel {
     private static final double ITERATION_PER_UPDATE = 500;
+    private static final int PEOPLE_SERIES = 3;
+    private static final int BUSINESS_SERIES = 3;
     private final DatasetManager datasetManager;
     private final List<String> names = Arrays.asList("Person State", "Transport Congestion", "Business Occupation");
-    private final List<Integer> seriesCount = List.of(3, 7, 3);
     private final List<Color> colors = List.of(Color.BLUE, Color.ORANGE, Color.RED, Color.GREEN, Color.YELLOW,
             Color.PINK, Color.CYAN);
 
+    private static final int MAX_PENDING_SAMPLES = ConstantAndResourceLoader.MAX_COLUMNS + 1;
+
+    private final Queue<Sample> pendingSamples = new ArrayDeque<>(MAX_PENDING_SAMPLES);
+    private int droppedSamples;
     private int iterationCount;
 
     /**
-     * Constructs a GraphicsModel and initializes datasets.
+     * Constructs a GraphicsModel and initializes datasets, with a congestion
+     * series for every transport line.
+     *
+     * @param lineCount the number of transport lines of the city
      */
-    public GraphicsModelImpl() {
-        this.datasetManager = new DatasetManager(seriesCount, names);
+    public GraphicsModelImpl(final int lineCount) {
+        this.datasetManager = new DatasetManager(List.of(PEOPLE_SERIES, lineCount, BUSINESS_SERIES), names);
         iterationCount = 0;
     }
 
     /**
-     * Clears all datasets.
+     * Clears all datasets and drops the queued samples.
      */
     @Override
     public void clearDatasets() {
+        synchronized (pendingSamples) {
+            pendingSamples.clear();
+            droppedSamples = 0;
+        }
         datasetManager.clearDatasets();
     }
 
     /**
      * Updates the datasets with new values.
      *
-     * @param people     List of dynamic person objects representing the population.
+     * @param statistics The statistics of the simulation.
      * @param lines      List of transport line objects representing the
      *                   transportation network.
-     * @param businesses List of business objects representing the businesses.
      */
     @Override
-    public void updateDataset(final List<DynamicPerson> people, final List<TransportLine> lines,
-            final List<Business> businesses, final int updateRate) {
+    public void updateDataset(final SimulationStatistics statistics, final List<TransportLine> lines,
+            final int updateRate) {
+        sampleDataset(statistics, lines, updateRate);
+        flushSamples();
+    }
+
+    @Override
+    public void sampleDataset(final SimulationStatistics statistics, final List<TransportLine> lines,
+            final int updateRate) {
         iterationCount++;
         if (iterationCount % (ITERATION_PER_UPDATE / updateRate) == 0) {
-            datasetManager.updateDataset(StatisticCalculator.getPeopleStateCounts(people),
-                StatisticCalculator.getTransportLinesCongestion(lines),
-                StatisticCalculator.getBusinessesOccupation(businesses));
+            final Sample sample = new Sample(
+                List.copyOf(statistics.getPeopleStatePercentages()),
+                List.copyOf(StatisticCalculator.getTransportLinesCongestion(lines)),
+                List.copyOf(statistics.getBusinessesOccupation()));
+            synchronized (pendingSamples) {
+                if (pendingSamples.size() == MAX_PENDING_SAMPLES) {
+                    pendingSamples.poll();
+                    droppedSamples++;
+                }
+                pendingSamples.add(sample);
+            }
+        }
+    }
+
+    @Override
+    public void flushSamples() {
+        // The samples are taken one at a time, so a failure keeps the following ones queued
+        Sample sample = nextSample();
+        while (sample != null) {
+            datasetManager.updateDataset(sample.peopleState(), sample.linesCongestion(),
+                sample.businessesOccupation());
+            sample = nextSample();
+        }
+    }
+
+    /**
+     * Takes the oldest queued sample, first skipping the dropped ones, which
+     * were all taken before it.
+     *
+     * @return the oldest queued sample, or null if there are none
+     */
+    private Sample nextSample() {
+        synchronized (pendingSamples) {
+            datasetManager.skipSamples(droppedSamples);
+            droppedSamples = 0;
+            return pendingSamples.poll();
         }
     }
 
     /**
      * Retrieves the datasets.
      *
-     * @return The list of XYSeriesCollection datasets.
+     * @return The list of XYDataset datasets.
      */
     @Override
-    public List<XYSeriesCollection> getDatasets() {
+    public List<XYDataset> getDatasets() {
         return datasetManager.getDatasets();
     }
 
@@ -88,4 +147,14 @@ public final class GraphicsModelImpl implements GraphicsModel {
     public List<Color> getColors() {
         return colors;
     }
+
+    /**
+     * The values of a sample of the datasets.
+     *
+     * @param peopleState          the percentages of people in every state
+     * @param linesCongestion      the congestion of every transport line
+     * @param businessesOccupation the occupation of the businesses
+     */
+    private record Sample(List<Integer> peopleState, List<Double> linesCongestion,
+            List<Integer> businessesOccupation) { }
 }
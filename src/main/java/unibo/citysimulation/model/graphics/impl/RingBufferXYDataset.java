@@ -0,0 +1,162 @@
+package unibo.citysimulation.model.graphics.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractXYDataset;
+
+/**
+ * An {@link org.jfree.data.xy.XYDataset} keeping the last samples of a group of
+ * series in primitive ring buffers of fixed capacity.
+ * All the series share the x value of a sample, and a sample is added to all
+ * of them at once, with a single change event. When the buffers are full the
+ * oldest sample is overwritten, so adding a sample takes constant time and
+ * allocates nothing, whatever the capacity.
+ */
+public final class RingBufferXYDataset extends AbstractXYDataset {
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+    private final double[] xValues;
+    private final double[][] yValues;
+    private int start;
+    private int size;
+
+    /**
+     * Constructs an empty dataset.
+     *
+     * @param seriesCount the number of series
+     * @param capacity    the maximum number of samples kept
+     */
+    public RingBufferXYDataset(final int seriesCount, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.xValues = new double[capacity];
+        this.yValues = new double[seriesCount][capacity];
+    }
+
+    /**
+     * Adds a sample to all the series, dropping the oldest one if the dataset
+     * is full, and notifies the listeners once.
+     *
+     * @param x      the x value of the sample
+     * @param values the y value of every series, in order
+     * @throws IllegalArgumentException if there is not one value per series
+     */
+    public void addSample(final double x, final List<? extends Number> values) {
+        if (values.size() != yValues.length) {
+            throw new IllegalArgumentException("Expected " + yValues.length + " values, one per series, but got "
+                    + values.size());
+        }
+        final int slot = (start + size) % capacity;
+        xValues[slot] = x;
+        for (int series = 0; series < yValues.length; series++) {
+            yValues[series][slot] = values.get(series).doubleValue();
+        }
+        if (size < capacity) {
+            size++;
+        } else {
+            start = (start + 1) % capacity;
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes all the samples and notifies the listeners.
+     */
+    public void clear() {
+        start = 0;
+        size = 0;
+        Arrays.fill(xValues, 0);
+        fireDatasetChanged();
+    }
+
+    /**
+     * @return the maximum number of samples kept.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of series.
+     */
+    @Override
+    public int getSeriesCount() {
+        return yValues.length;
+    }
+
+    /**
+     * @param series the index of the series
+     * @return the key of the series.
+     */
+    @Override
+    public Comparable<String> getSeriesKey(final int series) {
+        return "Object " + series;
+    }
+
+    /**
+     * @return the samples are ordered by increasing x.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * @param series the index of the series
+     * @return the number of samples of the series.
+     */
+    @Override
+    public int getItemCount(final int series) {
+        return size;
+    }
+
+    /**
+     * @param series the index of the series
+     * @param item   the index of the sample, from the oldest
+     * @return the x value of the sample.
+     */
+    @Override
+    public double getXValue(final int series, final int item) {
+        return xValues[slot(item)];
+    }
+
+    /**
+     * @param series the index of the series
+     * @param item   the index of the sample, from the oldest
+     * @return the y value of the sample in the series.
+     */
+    @Override
+    public double getYValue(final int series, final int item) {
+        return yValues[series][slot(item)];
+    }
+
+    /**
+     * @param series the index of the series
+     * @param item   the index of the sample, from the oldest
+     * @return the x value of the sample.
+     */
+    @Override
+    public Number getX(final int series, final int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * @param series the index of the series
+     * @param item   the index of the sample, from the oldest
+     * @return the y value of the sample in the series.
+     */
+    @Override
+    public Number getY(final int series, final int item) {
+        return getYValue(series, item);
+    }
+
+    private int slot(final int item) {
+        return (start + Objects.checkIndex(item, size)) % capacity;
+    }
+}
@@ -2,11 +2,15 @@ package unibo.citysimulation.model.map.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 
 import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.map.impl.EntitySnapshotBuffer;
+import unibo.citysimulation.model.map.impl.LevelOfDetail;
 import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PersonStore;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.utilities.Pair;
 
@@ -43,6 +47,57 @@ public interface MapModel {
      */
     Map<String, Pair<Pair<Integer, Integer>, Color>> getPersonInfos(List<DynamicPerson> people);
 
+    /**
+     * Fills a new snapshot of the entities to draw, with the denormalized coordinates of the people on the map and
+     * of the businesses, and publishes it in the buffer returned by {@link #getEntities()}.
+     * Depending on the level of detail, the snapshot holds the coordinates of every person, of a sample of them,
+     * or the density of the people.
+     *
+     * @param people     The store of the people.
+     * @param businesses The list of businesses.
+     */
+    void updateEntities(PersonStore people, List<Business> businesses);
+
+    /**
+     * Subscribes the map to the moves of the people of a store, replacing the people followed before, so that
+     * their density and their positions are indexed on the map side.
+     * {@link #updateEntities(PersonStore, List)} follows the store it is given if it is not followed yet.
+     *
+     * @param people The store of the people.
+     */
+    void trackPeople(PersonStore people);
+
+    /**
+     * Finds the person nearest to a position among the people followed by the map.
+     *
+     * @param x      The normalised x coordinate.
+     * @param y      The normalised y coordinate.
+     * @param radius The maximum distance of the person from the position.
+     * @return The index of the nearest person in its store, or an empty value if there is none.
+     */
+    OptionalInt getPersonNear(int x, int y, int radius);
+
+    /**
+     * Sets how much of the population is put in the next snapshots.
+     *
+     * @param mode   whether every person, a sample of them or their density is put in the snapshots
+     * @param stride the number of people represented by every sampled person, a power of two
+     * @see LevelOfDetail
+     */
+    void setLevelOfDetail(LevelOfDetail.Mode mode, int stride);
+
+    /**
+     * @return how much of the population is put in the snapshots.
+     */
+    LevelOfDetail.Mode getLevelOfDetail();
+
+    /**
+     * Retrieves the buffer where the snapshots of the entities to draw are published.
+     *
+     * @return The buffer of the entity snapshots.
+     */
+    EntitySnapshotBuffer getEntities();
+
     /**
      * Retrieves a list of colors based on the congestion percentages.
      *
@@ -0,0 +1,127 @@
+package unibo.citysimulation.model.map.impl;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.PersonStore;
+
+/**
+ * The number of people in every cell of a fixed grid laid over the normalised
+ * coordinates of the map, from 0 to {@link #MAP_SIZE}, counted separately for
+ * every {@link PersonState}.
+ * The counts are updated as people appear, move and change state, so reading
+ * the density of the whole map costs as much as the number of cells, whatever
+ * the population. They are atomic, since the people may be moved by several
+ * threads at once; a reader may see the moves of a tick partially applied.
+ */
+public final class DensityGrid {
+    /**
+     * Number of columns of the grid.
+     */
+    public static final int COLUMNS = 100;
+    /**
+     * Number of rows of the grid.
+     */
+    public static final int ROWS = 100;
+    /**
+     * Number of cells of the grid.
+     */
+    public static final int CELLS = COLUMNS * ROWS;
+    /**
+     * Size of the normalised coordinate space covered by the grid.
+     */
+    public static final int MAP_SIZE = 1000;
+    /**
+     * Value of a coordinate of a person that is not on the map.
+     */
+    public static final int NO_POSITION = PersonStore.NO_POSITION;
+
+    private static final int STATES = PersonState.values().length;
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(STATES * CELLS);
+
+    /**
+     * Returns the cell containing a position, the positions outside the map
+     * being counted in the nearest cell of the border.
+     *
+     * @param x the normalised x coordinate
+     * @param y the normalised y coordinate
+     * @return the index of the cell, row by row
+     */
+    public static int cellOf(final int x, final int y) {
+        final int column = Math.max(0, Math.min(COLUMNS - 1, x * COLUMNS / (MAP_SIZE + 1)));
+        final int row = Math.max(0, Math.min(ROWS - 1, y * ROWS / (MAP_SIZE + 1)));
+        return row * COLUMNS + column;
+    }
+
+    /**
+     * Counts a person in a position; nothing is counted if the person is not on
+     * the map.
+     *
+     * @param x     the normalised x coordinate, or {@link #NO_POSITION}
+     * @param y     the normalised y coordinate, or {@link #NO_POSITION}
+     * @param state the state of the person
+     */
+    public void add(final int x, final int y, final PersonState state) {
+        if (x != NO_POSITION) {
+            counts.incrementAndGet(state.ordinal() * CELLS + cellOf(x, y));
+        }
+    }
+
+    /**
+     * Stops counting a person in a position; nothing changes if the person was
+     * not on the map.
+     *
+     * @param x     the normalised x coordinate, or {@link #NO_POSITION}
+     * @param y     the normalised y coordinate, or {@link #NO_POSITION}
+     * @param state the state of the person
+     */
+    public void remove(final int x, final int y, final PersonState state) {
+        if (x != NO_POSITION) {
+            counts.decrementAndGet(state.ordinal() * CELLS + cellOf(x, y));
+        }
+    }
+
+    /**
+     * Moves a person from a position to another, changing its state; the counts
+     * are not touched when neither the cell nor the state change.
+     *
+     * @param fromX     the previous x coordinate, or {@link #NO_POSITION}
+     * @param fromY     the previous y coordinate, or {@link #NO_POSITION}
+     * @param fromState the previous state of the person
+     * @param toX       the new x coordinate, or {@link #NO_POSITION}
+     * @param toY       the new y coordinate, or {@link #NO_POSITION}
+     * @param toState   the new state of the person
+     */
+    public void move(final int fromX, final int fromY, final PersonState fromState,
+            final int toX, final int toY, final PersonState toState) {
+        if (fromState == toState && fromX != NO_POSITION && toX != NO_POSITION
+                && cellOf(fromX, fromY) == cellOf(toX, toY)) {
+            return;
+        }
+        remove(fromX, fromY, fromState);
+        add(toX, toY, toState);
+    }
+
+    /**
+     * @param state the state of the people
+     * @param cell  the index of the cell, row by row
+     * @return the number of people in the state in the cell.
+     */
+    public int getCount(final PersonState state, final int cell) {
+        return counts.get(state.ordinal() * CELLS + cell);
+    }
+
+    /**
+     * Copies the counts of all the cells, state by state in the order of
+     * {@link PersonState#values()} and row by row.
+     *
+     * @param destination the array to fill, with room for
+     *                    {@code CELLS * PersonState.values().length} counts
+     */
+    public void copyTo(final int[] destination) {
+        for (int i = 0; i < destination.length; i++) {
+            destination[i] = counts.get(i);
+        }
+    }
+}
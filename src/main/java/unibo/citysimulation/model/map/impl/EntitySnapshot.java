@@ -0,0 +1,172 @@
+package unibo.citysimulation.model.map.impl;
+
+import java.util.Arrays;
+
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+
+/**
+ * The positions of the people and of the businesses to draw on the map, in
+ * screen coordinates, kept in primitive arrays that are reused from one
+ * snapshot to the next.
+ * With large populations the snapshot may hold the counts of a
+ * {@link DensityGrid} instead of the positions of the people.
+ * A snapshot is filled by the model through an {@link EntitySnapshotBuffer}
+ * and then only read by the view.
+ */
+public final class EntitySnapshot {
+    private static final PersonState[] STATES = PersonState.values();
+
+    private int[] personX = new int[0];
+    private int[] personY = new int[0];
+    private byte[] personState = new byte[0];
+    private int people;
+    private final int[] density = new int[DensityGrid.CELLS * STATES.length];
+    private boolean hasDensity;
+    private int[] businessX = new int[0];
+    private int[] businessY = new int[0];
+    private int businesses;
+    private volatile long sequence;
+
+    /**
+     * Empties the snapshot, making room for the given number of entities.
+     *
+     * @param peopleCapacity     the number of people that will be added
+     * @param businessesCapacity the number of businesses that will be added
+     */
+    void clear(final int peopleCapacity, final int businessesCapacity) {
+        if (personX.length < peopleCapacity) {
+            personX = Arrays.copyOf(personX, peopleCapacity);
+            personY = Arrays.copyOf(personY, peopleCapacity);
+            personState = Arrays.copyOf(personState, peopleCapacity);
+        }
+        if (businessX.length < businessesCapacity) {
+            businessX = Arrays.copyOf(businessX, businessesCapacity);
+            businessY = Arrays.copyOf(businessY, businessesCapacity);
+        }
+        people = 0;
+        businesses = 0;
+        hasDensity = false;
+    }
+
+    /**
+     * Copies the density of the people from a grid.
+     *
+     * @param grid the density grid of the people
+     */
+    void setDensity(final DensityGrid grid) {
+        grid.copyTo(density);
+        hasDensity = true;
+    }
+
+    /**
+     * Adds a person.
+     *
+     * @param x     the x coordinate on the screen
+     * @param y     the y coordinate on the screen
+     * @param state the state of the person
+     */
+    void addPerson(final int x, final int y, final PersonState state) {
+        personX[people] = x;
+        personY[people] = y;
+        personState[people] = (byte) state.ordinal();
+        people++;
+    }
+
+    /**
+     * Adds a business.
+     *
+     * @param x the x coordinate on the screen
+     * @param y the y coordinate on the screen
+     */
+    void addBusiness(final int x, final int y) {
+        businessX[businesses] = x;
+        businessY[businesses] = y;
+        businesses++;
+    }
+
+    /**
+     * @return the number in publication order of this snapshot.
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @param sequence the number in publication order of this snapshot
+     */
+    void setSequence(final long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * @return the number of people on the map.
+     */
+    public int getPeopleCount() {
+        return people;
+    }
+
+    /**
+     * @param index the index of the person in the snapshot
+     * @return the x coordinate of the person on the screen.
+     */
+    public int getPersonX(final int index) {
+        return personX[index];
+    }
+
+    /**
+     * @param index the index of the person in the snapshot
+     * @return the y coordinate of the person on the screen.
+     */
+    public int getPersonY(final int index) {
+        return personY[index];
+    }
+
+    /**
+     * @param index the index of the person in the snapshot
+     * @return the state of the person.
+     */
+    public PersonState getPersonState(final int index) {
+        return STATES[personState[index]];
+    }
+
+    /**
+     * @return whether the snapshot holds the density of the people instead of
+     *         their positions.
+     */
+    public boolean hasDensity() {
+        return hasDensity;
+    }
+
+    /**
+     * @param state the state of the people
+     * @param cell  the index of the cell of the {@link DensityGrid}, row by row
+     * @return the number of people in the state in the cell, or zero if the
+     *         snapshot does not hold the density.
+     */
+    public int getDensity(final PersonState state, final int cell) {
+        return hasDensity ? density[state.ordinal() * DensityGrid.CELLS + cell] : 0;
+    }
+
+    /**
+     * @return the number of businesses on the map.
+     */
+    public int getBusinessCount() {
+        return businesses;
+    }
+
+    /**
+     * @param index the index of the business in the snapshot
+     * @return the x coordinate of the business on the screen.
+     */
+    public int getBusinessX(final int index) {
+        return businessX[index];
+    }
+
+    /**
+     * @param index the index of the business in the snapshot
+     * @return the y coordinate of the business on the screen.
+     */
+    public int getBusinessY(final int index) {
+        return businessY[index];
+    }
+}
@@ -0,0 +1,54 @@
+package unibo.citysimulation.model.map.impl;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands the {@link EntitySnapshot}s filled by the model over to the view
+ * without copying them and without locks.
+ * There are three snapshots: the one being filled by the model, the one being
+ * drawn by the view and the latest published one, which the two sides swap with
+ * their own. So the model never writes a snapshot that the view is reading, and
+ * no snapshot is allocated once the arrays have grown to the population size.
+ * There must be a single writer and a single reader at a time.
+ */
+public final class EntitySnapshotBuffer {
+    private final AtomicReference<EntitySnapshot> ready = new AtomicReference<>(new EntitySnapshot());
+    private EntitySnapshot back = new EntitySnapshot();
+    private EntitySnapshot front = new EntitySnapshot();
+    private long published;
+
+    /**
+     * Returns the snapshot to fill, emptied and with room for the given number
+     * of entities.
+     *
+     * @param people     the number of people that will be added
+     * @param businesses the number of businesses that will be added
+     * @return the snapshot owned by the writer
+     */
+    EntitySnapshot beginWrite(final int people, final int businesses) {
+        back.clear(people, businesses);
+        return back;
+    }
+
+    /**
+     * Publishes the snapshot returned by {@link #beginWrite(int, int)}.
+     */
+    void publish() {
+        published++;
+        back.setSequence(published);
+        back = ready.getAndSet(back);
+    }
+
+    /**
+     * Returns the latest published snapshot, which stays valid until the next
+     * call of this method.
+     *
+     * @return the snapshot owned by the reader
+     */
+    public EntitySnapshot latest() {
+        if (ready.get().getSequence() > front.getSequence()) {
+            front = ready.getAndSet(front);
+        }
+        return front;
+    }
+}
@@ -1,6 +1,8 @@
 package unibo.citysimulation.model.map.impl;
 
+import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.Serializable;
@@ -65,6 +67,22 @@ public final class ImageHandler implements Serializable {
         return createImageDefensiveCopy(image);
     }
 
+    /**
+     * Draws the current image scaled to the given size, without copying it.
+     * This is the read-only access to use when the image is only painted.
+     *
+     * @param g      the graphics to draw on
+     * @param width  the width of the drawn image
+     * @param height the height of the drawn image
+     */
+    public void drawImage(final Graphics g, final int width, final int height) {
+        if (g instanceof Graphics2D) {
+            ((Graphics2D) g).setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        g.drawImage(image, 0, 0, width, height, null);
+    }
+
     /**
      * Sets the image with a defensive copy.
      *
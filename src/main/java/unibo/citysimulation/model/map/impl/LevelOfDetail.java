@@ -0,0 +1,166 @@
+package unibo.citysimulation.model.map.impl;
+
+/**
+ * Chooses how much of the population to draw on the map: every person, a
+ * sample of them, or the density of the people.
+ * The number of people that can be drawn one by one is the paint budget divided
+ * by the measured time to paint a person, capped by the configured maximum.
+ * Below it every person is drawn; above it one person every {@code stride} is
+ * drawn, with a power of two stride so that the sample changes only when the
+ * population or the paint time change a lot; above the maximum sampled
+ * population, or when too few people could be drawn to give a fair picture,
+ * only the density is drawn.
+ * The paint time is smoothed over the frames, so it must be given once per
+ * painted frame. While only the density is drawn no person is painted and the
+ * paint time is not measured again, so the policy periodically retries the
+ * coarsest fair sample and takes its paint time as the new estimate: a single
+ * slow frame, for example during a garbage collection, does not keep the
+ * density for the rest of the run.
+ * The sample is stratified: the people are split in blocks of {@code stride}
+ * consecutive indexes and one person of every block is drawn, always the same,
+ * so the picture does not flicker. Since the people are stored zone by zone,
+ * every zone is represented in proportion to its population.
+ */
+public final class LevelOfDetail {
+    private static final double SMOOTHING = 0.2;
+    private static final double NANOS_IN_A_MILLI = 1_000_000.0;
+    private static final double HYSTERESIS = 1.25;
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+    private static final int MIX_SHIFT = 31;
+    private static final int RETRY_UPDATES = 100;
+
+    private final int maxDots;
+    private final int minDots;
+    private final int maxSampledPeople;
+    private final double budgetNanos;
+    private double nanosPerPerson;
+    private Mode mode = Mode.ALL;
+    private int stride = 1;
+    private int densityUpdates;
+    private boolean probing;
+
+    /**
+     * The ways of drawing the people.
+     */
+    public enum Mode {
+        /**
+         * Every person is drawn.
+         */
+        ALL,
+        /**
+         * A stable sample of the people is drawn.
+         */
+        SAMPLED,
+        /**
+         * The density of the people is drawn.
+         */
+        DENSITY
+    }
+
+    /**
+     * Constructs a policy.
+     *
+     * @param maxDots           the maximum number of people drawn one by one
+     * @param minDots           the minimum number of people drawn one by one,
+     *                          below which the density is drawn instead
+     * @param maxSampledPeople  the population above which only the density is
+     *                          drawn
+     * @param paintBudgetMillis the time allowed to paint the people of a frame,
+     *                          in milliseconds
+     * @throws IllegalArgumentException if a threshold is not positive, or the
+     *                                  minimum is above the maximum
+     */
+    public LevelOfDetail(final int maxDots, final int minDots, final int maxSampledPeople,
+            final double paintBudgetMillis) {
+        if (minDots <= 0 || maxDots < minDots || maxSampledPeople <= 0 || paintBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Invalid level of detail thresholds");
+        }
+        this.maxDots = maxDots;
+        this.minDots = minDots;
+        this.maxSampledPeople = maxSampledPeople;
+        this.budgetNanos = paintBudgetMillis * NANOS_IN_A_MILLI;
+    }
+
+    /**
+     * Chooses the level of detail for the given population, taking into
+     * account the paint time of the last frame.
+     *
+     * @param population     the number of people of the city
+     * @param measuredNanos  the time to paint a person in the frame painted
+     *                       since the last update, in nanoseconds, or zero if
+     *                       no people were painted since then
+     */
+    public void update(final int population, final double measuredNanos) {
+        if (measuredNanos > 0) {
+            nanosPerPerson = nanosPerPerson == 0 || probing ? measuredNanos
+                    : nanosPerPerson + SMOOTHING * (measuredNanos - nanosPerPerson);
+            probing = false;
+        } else if (probing && population <= maxSampledPeople) {
+            // The sample being retried has not been painted yet
+            return;
+        }
+        final int dots = nanosPerPerson == 0 ? maxDots
+                : (int) Math.max(1, Math.min(maxDots, budgetNanos / nanosPerPerson));
+        if (population <= dots) {
+            setMode(Mode.ALL, 1);
+        } else if (population > maxSampledPeople) {
+            setMode(Mode.DENSITY, 1);
+        } else if (dots < minDots) {
+            densityUpdates++;
+            if (densityUpdates >= RETRY_UPDATES) {
+                final int coarsest = nextPowerOfTwo((population + minDots - 1) / minDots);
+                setMode(coarsest == 1 ? Mode.ALL : Mode.SAMPLED, coarsest);
+                probing = true;
+            } else {
+                mode = Mode.DENSITY;
+                stride = 1;
+            }
+        } else {
+            final int needed = nextPowerOfTwo((population + dots - 1) / dots);
+            // A finer sample is only taken when it fits the budget with some margin
+            setMode(Mode.SAMPLED, mode != Mode.SAMPLED || needed > stride
+                    || (double) population / needed * HYSTERESIS <= dots ? needed : stride);
+        }
+    }
+
+    private void setMode(final Mode newMode, final int newStride) {
+        mode = newMode;
+        stride = newStride;
+        densityUpdates = 0;
+        probing = false;
+    }
+
+    /**
+     * @return the way of drawing the people.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return the number of people of a block of the sample, one when every
+     *         person is drawn.
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns the person of a block of the sample that is drawn.
+     *
+     * @param block  the index of the block
+     * @param stride the number of people of a block, a power of two
+     * @return the index of the person drawn
+     */
+    public static int sampledIndex(final int block, final int stride) {
+        long hash = (block + 1) * GOLDEN_GAMMA;
+        hash ^= hash >>> MIX_SHIFT;
+        hash *= GOLDEN_GAMMA;
+        hash ^= hash >>> MIX_SHIFT;
+        return block * stride + (int) (hash & (stride - 1));
+    }
+
+    private static int nextPowerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -7,11 +7,14 @@ import java.util.stream.Collectors;
 import java.awt.Color;
 import java.util.Map;
 import java.util.Collections;
+import java.util.OptionalInt;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.map.api.MapModel;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.PersonStore;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.utilities.Pair;
 
@@ -21,11 +24,17 @@ import unibo.citysimulation.utilities.Pair;
  */
 public final class MapModelImpl implements MapModel {
     private static final int PERCENT_50 = 50;
+    private static final int PERCENT_100 = 100;
     private static final int COLOR_MAX = 255;
 
     private final ImageHandler imageLoader;
     private final MapCoordinateHandler coordinateHandler;
     private final TransportManager transportManager;
+    private final EntitySnapshotBuffer entities = new EntitySnapshotBuffer();
+    private volatile LevelOfDetail.Mode detail = LevelOfDetail.Mode.ALL;
+    private volatile int stride = 1;
+    private volatile PersonStore trackedPeople;
+    private volatile PeopleIndex peopleIndex = new PeopleIndex();
 
     /**
      * Constructs a MapModel object and loads the map image.
@@ -89,6 +98,105 @@ public final class MapModelImpl implements MapModel {
                                 getPersonColor(person))));
     }
 
+    /**
+     * Fills a new snapshot of the entities to draw and publishes it.
+     * The people are read column by column from the store, so that no object is
+     * created per person; a sample only reads the sampled people, and the
+     * density only copies the counts of the density grid of the people, whatever
+     * the population.
+     *
+     * @param people     the store of the people
+     * @param businesses the list of businesses
+     */
+    @Override
+    public synchronized void updateEntities(final PersonStore people, final List<Business> businesses) {
+        trackPeople(people);
+        final LevelOfDetail.Mode mode = detail;
+        final int step = mode == LevelOfDetail.Mode.SAMPLED ? stride : 1;
+        final int drawn = mode == LevelOfDetail.Mode.DENSITY ? 0 : (people.size() + step - 1) / step;
+        final EntitySnapshot snapshot = entities.beginWrite(drawn, businesses.size());
+        if (mode == LevelOfDetail.Mode.DENSITY) {
+            snapshot.setDensity(peopleIndex.getDensityGrid());
+        } else if (step == 1) {
+            for (int i = 0; i < people.size(); i++) {
+                addPerson(snapshot, people, i);
+            }
+        } else {
+            for (int block = 0; block < drawn; block++) {
+                final int i = LevelOfDetail.sampledIndex(block, step);
+                if (i < people.size()) {
+                    addPerson(snapshot, people, i);
+                }
+            }
+        }
+        final int maxX = coordinateHandler.getMaxX();
+        final int maxY = coordinateHandler.getMaxY();
+        for (final Business business : businesses) {
+            final Pair<Integer, Integer> position = business.getBusinessData().position();
+            snapshot.addBusiness(denormalizeCoordinate(position.getFirst(), maxX),
+                    denormalizeCoordinate(position.getSecond(), maxY));
+        }
+        entities.publish();
+    }
+
+    private void addPerson(final EntitySnapshot snapshot, final PersonStore people, final int index) {
+        final int x = people.getX(index);
+        if (x != PersonStore.NO_POSITION) {
+            snapshot.addPerson(denormalizeCoordinate(x, coordinateHandler.getMaxX()),
+                    denormalizeCoordinate(people.getY(index), coordinateHandler.getMaxY()), people.getState(index));
+        }
+    }
+
+    /**
+     * Subscribes a new index of the people to the given store, unless it is
+     * the store already followed.
+     *
+     * @param people the store of the people
+     */
+    @Override
+    @SuppressFBWarnings(value = "EI2", justification = """
+            The store is only kept to know whether it is already followed.""")
+    public synchronized void trackPeople(final PersonStore people) {
+        if (people != trackedPeople) {
+            final PeopleIndex index = new PeopleIndex();
+            people.addMoveListener(index);
+            peopleIndex = index;
+            trackedPeople = people;
+        }
+    }
+
+    @Override
+    public OptionalInt getPersonNear(final int x, final int y, final int radius) {
+        final int[] nearest = peopleIndex.nearest(x, y, 1, radius);
+        return nearest.length == 0 ? OptionalInt.empty() : OptionalInt.of(nearest[0]);
+    }
+
+    @Override
+    public void setLevelOfDetail(final LevelOfDetail.Mode mode, final int stride) {
+        if (stride <= 0 || Integer.bitCount(stride) != 1) {
+            throw new IllegalArgumentException("The stride must be a power of two: " + stride);
+        }
+        this.stride = stride;
+        this.detail = mode;
+    }
+
+    @Override
+    public LevelOfDetail.Mode getLevelOfDetail() {
+        return detail;
+    }
+
+    /**
+     * Gets the buffer where the snapshots of the entities to draw are published.
+     *
+     * @return the buffer of the entity snapshots
+     */
+    @Override
+    @SuppressFBWarnings(value = "EI", justification = """
+            The buffer is shared on purpose, it is how the snapshots reach the view.""")
+    public EntitySnapshotBuffer getEntities() {
+        return entities;
+    }
+
     /**
      * Gets the color of a person based on their state.
      *
@@ -113,14 +221,17 @@ public final class MapModelImpl implements MapModel {
 
     /**
      * Gets the color representing the congestion percentage.
+     * Lines more than 100% congested, because of their boarding queue, are
+     * shown as full.
      *
-     * @param perc the congestion percentage
+     * @param congestion the congestion percentage
      * @return the color representing the congestion level
      */
-    private Color getColor(final Double perc) {
+    private Color getColor(final Double congestion) {
         if (!transportManager.isSimulationStarted()) {
             return Color.GRAY;
         }
+        final double perc = Math.min(congestion, PERCENT_100);
         if (perc <= PERCENT_50) {
             // Green component decreases from 255 to 0 as percentage increases from 0 to 50
             final int green = (int) (COLOR_MAX - (perc / PERCENT_50) * COLOR_MAX);
@@ -0,0 +1,60 @@
+package unibo.citysimulation.model.map.impl;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import unibo.citysimulation.model.person.api.PersonMoveListener;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+
+/**
+ * The indexes of the people on the map: the {@link DensityGrid} of the people
+ * and the {@link PointGrid} of their positions, whose ids are the indexes of
+ * the people in their store.
+ * They are kept up to date by the notifications of the store, which may come
+ * from several threads at once like the updates of the grids; the people must
+ * be added by a single thread, in the order of their indexes.
+ */
+public final class PeopleIndex implements PersonMoveListener {
+    private static final int INDEX_COLUMNS = 64;
+
+    private final DensityGrid density = new DensityGrid();
+    private final PointGrid positions = new PointGrid(INDEX_COLUMNS);
+
+    @Override
+    public void onPersonAdded(final int index, final int x, final int y, final PersonState state) {
+        if (index != positions.size()) {
+            throw new IllegalStateException("Person " + index + " added after " + positions.size() + " people");
+        }
+        density.add(x, y, state);
+        positions.add(x, y);
+    }
+
+    @Override
+    public void onPersonMoved(final int index, final int fromX, final int fromY, final PersonState fromState,
+            final int toX, final int toY, final PersonState toState) {
+        density.move(fromX, fromY, fromState, toX, toY, toState);
+        if (fromX != toX || fromY != toY) {
+            positions.move(index, toX, toY);
+        }
+    }
+
+    /**
+     * @return the number of people on the map in every cell of a grid.
+     */
+    @SuppressFBWarnings(value = "EI", justification = """
+            The grid is shared on purpose with the map, which reads the density of the people from it.""")
+    public DensityGrid getDensityGrid() {
+        return density;
+    }
+
+    /**
+     * Finds the indexes of the people nearest to a position.
+     *
+     * @param x           the x coordinate of the position
+     * @param y           the y coordinate of the position
+     * @param count       the maximum number of people to find
+     * @param maxDistance the maximum distance of the people
+     * @return the indexes of the people found, from the nearest
+     */
+    public int[] nearest(final int x, final int y, final int count, final int maxDistance) {
+        return positions.nearest(x, y, count, maxDistance);
+    }
+}
@@ -0,0 +1,263 @@
+package unibo.citysimulation.model.map.impl;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A spatial index of points identified by dense ids, over the normalised
+ * coordinates of the map, from 0 to {@link DensityGrid#MAP_SIZE}.
+ * The map is split in a uniform grid of square cells, and every cell keeps the
+ * ids of its points in an array where a point is removed by moving the last one
+ * in its place; so adding, moving and removing a point take constant time, and
+ * a query only looks at the cells overlapping the searched area.
+ * A point may be absent, with the coordinates {@link DensityGrid#NO_POSITION}.
+ * The points may be moved by several threads at once: every cell is guarded by
+ * one of a fixed set of locks, and a point is only moved by one thread at a
+ * time. A query sees every cell in a consistent state, but may see the moves of
+ * a tick partially applied. The ids must be added by a single thread.
+ */
+public final class PointGrid {
+    private static final int NONE = -1;
+    private static final int STRIPES = 64;
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final int columns;
+    private final int cellSize;
+    private final Object[] locks = new Object[STRIPES];
+    private final int[][] members;
+    private final int[] memberCounts;
+    private int[] cellOf = new int[0];
+    private int[] slotOf = new int[0];
+    private int[] xs = new int[0];
+    private int[] ys = new int[0];
+    private int size;
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param columns the number of cells on each side of the grid
+     * @throws IllegalArgumentException if the number of columns is not positive
+     */
+    public PointGrid(final int columns) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("The number of columns must be positive: " + columns);
+        }
+        this.columns = columns;
+        this.cellSize = (DensityGrid.MAP_SIZE + columns) / columns;
+        this.members = new int[columns * columns][];
+        this.memberCounts = new int[columns * columns];
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    /**
+     * @return the number of points of the index, the absent ones included.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a point with the next id.
+     *
+     * @param x the x coordinate, or {@link DensityGrid#NO_POSITION}
+     * @param y the y coordinate, or {@link DensityGrid#NO_POSITION}
+     * @return the id of the point
+     */
+    public int add(final int x, final int y) {
+        if (size == cellOf.length) {
+            final int length = Math.max(INITIAL_CELL_CAPACITY, size * 2);
+            cellOf = Arrays.copyOf(cellOf, length);
+            slotOf = Arrays.copyOf(slotOf, length);
+            xs = Arrays.copyOf(xs, length);
+            ys = Arrays.copyOf(ys, length);
+        }
+        final int id = size++;
+        cellOf[id] = NONE;
+        move(id, x, y);
+        return id;
+    }
+
+    /**
+     * Moves a point.
+     *
+     * @param id the id of the point
+     * @param x  the new x coordinate, or {@link DensityGrid#NO_POSITION}
+     * @param y  the new y coordinate, or {@link DensityGrid#NO_POSITION}
+     */
+    public void move(final int id, final int x, final int y) {
+        final int from = cellOf[id];
+        final int to = x == DensityGrid.NO_POSITION ? NONE : cellOf(x, y);
+        if (from == to) {
+            if (to != NONE) {
+                synchronized (lockOf(to)) {
+                    xs[id] = x;
+                    ys[id] = y;
+                }
+            }
+            return;
+        }
+        if (from != NONE) {
+            synchronized (lockOf(from)) {
+                final int slot = slotOf[id];
+                final int last = members[from][--memberCounts[from]];
+                members[from][slot] = last;
+                slotOf[last] = slot;
+            }
+        }
+        cellOf[id] = to;
+        if (to != NONE) {
+            synchronized (lockOf(to)) {
+                if (members[to] == null) {
+                    members[to] = new int[INITIAL_CELL_CAPACITY];
+                } else if (memberCounts[to] == members[to].length) {
+                    members[to] = Arrays.copyOf(members[to], memberCounts[to] * 2);
+                }
+                xs[id] = x;
+                ys[id] = y;
+                slotOf[id] = memberCounts[to];
+                members[to][memberCounts[to]++] = id;
+            }
+        }
+    }
+
+    /**
+     * Calls an action with the id of every point in a rectangle, borders
+     * included.
+     *
+     * @param minX   the minimum x coordinate
+     * @param minY   the minimum y coordinate
+     * @param maxX   the maximum x coordinate
+     * @param maxY   the maximum y coordinate
+     * @param action the action to call
+     */
+    public void forEachInRectangle(final int minX, final int minY, final int maxX, final int maxY,
+            final IntConsumer action) {
+        if (minX > maxX || minY > maxY) {
+            return;
+        }
+        final int first = cellOf(minX, minY);
+        final int last = cellOf(maxX, maxY);
+        for (int row = first / columns; row <= last / columns; row++) {
+            for (int column = first % columns; column <= last % columns; column++) {
+                final int cell = row * columns + column;
+                synchronized (lockOf(cell)) {
+                    for (int i = 0; i < memberCounts[cell]; i++) {
+                        final int id = members[cell][i];
+                        if (xs[id] >= minX && xs[id] <= maxX && ys[id] >= minY && ys[id] <= maxY) {
+                            action.accept(id);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the ids of the points nearest to a position, within a maximum
+     * distance. The cells are searched in rings around the position, and the
+     * search stops as soon as the next ring is farther than the farthest point
+     * found.
+     *
+     * @param x           the x coordinate of the position
+     * @param y           the y coordinate of the position
+     * @param count       the maximum number of points to find
+     * @param maxDistance the maximum distance of the points
+     * @return the ids of the points found, from the nearest
+     */
+    public int[] nearest(final int x, final int y, final int count, final int maxDistance) {
+        final int[] ids = new int[Math.max(0, count)];
+        final long[] distances = new long[ids.length];
+        final long maxSquared = (long) maxDistance * maxDistance;
+        int found = 0;
+        final int center = cellOf(x, y);
+        final int centerRow = center / columns;
+        final int centerColumn = center % columns;
+        final int rings = Math.min(columns, maxDistance / cellSize + 1);
+        for (int ring = 0; ring <= rings && ids.length > 0; ring++) {
+            // The nearest a point of the ring can be from the position
+            final long ringDistance = (long) Math.max(0, ring - 1) * cellSize;
+            if (ringDistance * ringDistance > (found == ids.length ? distances[found - 1] : maxSquared)) {
+                break;
+            }
+            if (ring == 0) {
+                found = collectNearest(center, x, y, ids, distances, found, maxSquared);
+                continue;
+            }
+            // Only the four edges of the ring are walked, clipped to the grid
+            final int top = centerRow - ring;
+            final int bottom = centerRow + ring;
+            final int left = centerColumn - ring;
+            final int right = centerColumn + ring;
+            for (int column = Math.max(0, left); column <= Math.min(columns - 1, right); column++) {
+                if (top >= 0) {
+                    found = collectNearest(top * columns + column, x, y, ids, distances, found, maxSquared);
+                }
+                if (bottom < columns) {
+                    found = collectNearest(bottom * columns + column, x, y, ids, distances, found, maxSquared);
+                }
+            }
+            for (int row = Math.max(0, top + 1); row <= Math.min(columns - 1, bottom - 1); row++) {
+                if (left >= 0) {
+                    found = collectNearest(row * columns + left, x, y, ids, distances, found, maxSquared);
+                }
+                if (right < columns) {
+                    found = collectNearest(row * columns + right, x, y, ids, distances, found, maxSquared);
+                }
+            }
+        }
+        return Arrays.copyOf(ids, found);
+    }
+
+    private int collectNearest(final int cell, final int x, final int y, final int[] ids, final long[] distances,
+            final int found, final long maxSquared) {
+        int size = found;
+        synchronized (lockOf(cell)) {
+            for (int i = 0; i < memberCounts[cell]; i++) {
+                final int id = members[cell][i];
+                final long dx = xs[id] - x;
+                final long dy = ys[id] - y;
+                final long distance = dx * dx + dy * dy;
+                if (distance > maxSquared || size == ids.length && distance >= distances[size - 1]) {
+                    continue;
+                }
+                // Insertion in the sorted arrays, dropping the farthest point if they are full
+                int slot = Math.min(size, ids.length - 1);
+                while (slot > 0 && distances[slot - 1] > distance) {
+                    ids[slot] = ids[slot - 1];
+                    distances[slot] = distances[slot - 1];
+                    slot--;
+                }
+                ids[slot] = id;
+                distances[slot] = distance;
+                size = Math.min(size + 1, ids.length);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @param id the id of the point
+     * @return the x coordinate of the point, or {@link DensityGrid#NO_POSITION}.
+     */
+    public int getX(final int id) {
+        return cellOf[id] == NONE ? DensityGrid.NO_POSITION : xs[id];
+    }
+
+    /**
+     * @param id the id of the point
+     * @return the y coordinate of the point, or {@link DensityGrid#NO_POSITION}.
+     */
+    public int getY(final int id) {
+        return cellOf[id] == NONE ? DensityGrid.NO_POSITION : ys[id];
+    }
+
+    private int cellOf(final int x, final int y) {
+        final int column = Math.max(0, Math.min(columns - 1, x / cellSize));
+        final int row = Math.max(0, Math.min(columns - 1, y / cellSize));
+        return row * columns + column;
+    }
+
+    private Object lockOf(final int cell) {
+        return locks[cell % STRIPES];
+    }
+}
@@ -11,12 +11,24 @@ import unibo.citysimulation.utilities.Pair;
 /**
  * Utility class for MapModel.
  * Manages transport lines and their related data within the city simulation.
+ * The congestion is sampled by the clock thread and read by the thread drawing
+ * the map, so its list is replaced as a whole and published through a volatile
+ * field.
  */
 public class TransportManager {
-    private boolean simulationStarted;
+    /**
+     * Percentile of the congestion of a line shown on the map.
+     */
+    public static final double CONGESTION_PERCENTILE = 95;
+    /**
+     * Simulated minutes of congestion the percentile shown on the map looks at.
+     */
+    public static final int CONGESTION_WINDOW_MINUTES = 60;
+
+    private volatile boolean simulationStarted;
     private List<String> linesName = Collections.emptyList();
     private List<Pair<Pair<Integer, Integer>, Pair<Integer, Integer>>> linesPointsCoordinates = Collections.emptyList();
-    private List<Double> congestionsList = Collections.emptyList();
+    private volatile List<Double> congestionsList = Collections.emptyList();
 
     /**
      * Gets the names of the transport lines.
@@ -65,13 +77,16 @@ public class TransportManager {
     }
 
     /**
-     * Sets the congestion levels for each transport line.
+     * Sets the congestion levels for each transport line: the
+     * {@link #CONGESTION_PERCENTILE} percentile of the congestion of the last
+     * {@link #CONGESTION_WINDOW_MINUTES} minutes, so that a line busy in the rush
+     * hour does not look free as soon as its queue empties.
      *
      * @param lines A list of transport lines.
      */
     public void setTransportCongestion(final List<TransportLine> lines) {
         congestionsList = lines.stream()
-            .map(TransportLine::getCongestion)
+            .map(line -> line.getCongestionPercentile(CONGESTION_PERCENTILE, CONGESTION_WINDOW_MINUTES))
             .collect(Collectors.toList());
     }
 
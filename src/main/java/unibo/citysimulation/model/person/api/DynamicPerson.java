@@ -1,6 +1,8 @@
 package unibo.citysimulation.model.person.api;
 
 import java.time.LocalTime;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
 
 /**
  * Represents a dynamic person that can change state based on the current time and move in order to work.
@@ -19,6 +21,24 @@ public interface DynamicPerson extends StaticPerson {
      */
     void checkState(LocalTime currentTime);
 
+    /**
+     * Checks if the state of the person has to change based on the current time,
+     * recording the effects on the transport lines and on the shared counters in
+     * the given effects instead of applying them directly.
+     * 
+     * @param currentTime the current time.
+     * @param effects     the recorder of the effects on the shared state.
+     */
+    void checkState(LocalTime currentTime, TickEffects effects);
+
+    /**
+     * Checks if the person could leave now, because its route or one of the
+     * alternatives to it is not congested. It only reads the state of the lines.
+     *
+     * @return true if the person has a route that is not congested.
+     */
+    boolean canDepart();
+
     /**
      * Sets the beginning time of the person's business.
      * 
@@ -32,4 +52,29 @@ public interface DynamicPerson extends StaticPerson {
      * @param businessEnd the end time of the person's business.
      */
     void setBusinessEnd(LocalTime businessEnd);
+
+    /**
+     * Returns the second of the day at which {@link #checkState(LocalTime)} can
+     * next change the state of the person.
+     *
+     * @return the second of the day of the next check, or an empty value if the
+     *         person has nothing to do.
+     */
+    OptionalInt getNextCheckTime();
+
+    /**
+     * Checks if the person is waiting for a congested transport line, so it has
+     * to be checked again at every time update.
+     *
+     * @return true if the person is waiting to leave.
+     */
+    boolean isWaitingForTransport();
+
+    /**
+     * Sets the listener notified when the next check time of the person changes
+     * outside of {@link #checkState(LocalTime)}, for example after a hiring.
+     *
+     * @param listener the listener to notify.
+     */
+    void setScheduleListener(Consumer<DynamicPerson> listener);
 }
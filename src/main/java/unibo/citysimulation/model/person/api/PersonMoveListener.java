@@ -0,0 +1,35 @@
+package unibo.citysimulation.model.person.api;
+
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+
+/**
+ * Interface for the observers of the positions and of the states of the people
+ * of a simulation, such as the indexes of the map.
+ * The people are identified by their index in the store holding them, and the
+ * coordinates of a person that is not on the map are {@link Integer#MIN_VALUE}.
+ */
+public interface PersonMoveListener {
+    /**
+     * Called when a person is added, with the next index.
+     * 
+     * @param index the index of the person.
+     * @param x     the x coordinate of the person.
+     * @param y     the y coordinate of the person.
+     * @param state the state of the person.
+     */
+    void onPersonAdded(int index, int x, int y, PersonState state);
+
+    /**
+     * Called when a person moves or changes state.
+     * 
+     * @param index     the index of the person.
+     * @param fromX     the previous x coordinate of the person.
+     * @param fromY     the previous y coordinate of the person.
+     * @param fromState the previous state of the person.
+     * @param toX       the new x coordinate of the person.
+     * @param toY       the new y coordinate of the person.
+     * @param toState   the new state of the person.
+     */
+    void onPersonMoved(int index, int fromX, int fromY, PersonState fromState, int toX, int toY,
+            PersonState toState);
+}
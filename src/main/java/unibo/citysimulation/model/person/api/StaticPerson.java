@@ -73,6 +73,15 @@ public interface StaticPerson {
      */
     Optional<Pair<Integer, Integer>> getPosition();
 
+    /**
+     * Checks the position of the person without boxing the coordinates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if the person is at the given position.
+     */
+    boolean isAt(int x, int y);
+
     /**
      * Returns an Optional object representing the business associated with this
      * person.
@@ -0,0 +1,25 @@
+package unibo.citysimulation.model.person.api;
+
+import unibo.citysimulation.model.transport.api.TransportLine;
+
+import java.util.List;
+
+/**
+ * Interface for the effects that a person has, during a clock tick, on the state
+ * shared by the whole simulation.
+ */
+public interface TickEffects {
+    /**
+     * Records a person getting on the given lines.
+     * 
+     * @param lines the lines of the route of the person.
+     */
+    void board(List<TransportLine> lines);
+
+    /**
+     * Records a person getting off the given lines.
+     * 
+     * @param lines the lines of the route of the person.
+     */
+    void leave(List<TransportLine> lines);
+}
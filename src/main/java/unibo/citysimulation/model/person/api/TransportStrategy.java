@@ -1,6 +1,7 @@
 package unibo.citysimulation.model.person.api;
 
 import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.zone.ZoneTable;
 
 import java.util.List;
 
@@ -16,6 +17,16 @@ public interface TransportStrategy {
      */
     boolean isCongested(List<TransportLine> lines);
 
+    /**
+     * Chooses the route to depart on, between the fastest route between two zones
+     * and its alternatives.
+     * 
+     * @param zoneTable the routes between the zones of the simulation.
+     * @param routeId the id of the route of the person.
+     * @return the id of the route to take, or {@link ZoneTable#NO_ROUTE} if the person has to wait.
+     */
+    int chooseRoute(ZoneTable zoneTable, int routeId);
+
     /**
      * Calculates the arrival time based on the current time and trip duration for the next trip.
      * 
@@ -25,6 +36,15 @@ public interface TransportStrategy {
      */
     int calculateArrivalTime(int currentTime, int tripDuration);
 
+    /**
+     * Calculates how long a person getting on the given lines now waits in their
+     * boarding queues.
+     * 
+     * @param lines the lines that are travelled.
+     * @return the waiting time in seconds.
+     */
+    int calculateQueueWait(List<TransportLine> lines);
+
     /**
      * Increments by one the number of person in all the lines that are travelled.
      * @param lines the lines that are travelled.
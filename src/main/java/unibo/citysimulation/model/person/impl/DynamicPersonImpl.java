@@ -3,16 +3,16 @@ package unibo.citysimulation.model.person.impl;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.ArrayList;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
 
 import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.api.TickEffects;
 import unibo.citysimulation.model.person.api.TransportStrategy;
 import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.zone.ZoneTable;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
 /**
@@ -23,16 +23,8 @@ import unibo.citysimulation.utilities.ConstantAndResourceLoader;
  * locations in the city simulation.
  */
 public final class DynamicPersonImpl extends StaticPersonImpl implements DynamicPerson {
-    private int lastArrivingTime;
-    private PersonState lastDestination;
-    private boolean late;
-    private final Random random = new Random();
-    private int businessBegin;
-    private int businessEnd;
-    private final TransportStrategy transportStrategy;
-    private static final Map<PersonState, Integer> STATE_COUNT = new HashMap<>();
-    private static final List<DynamicPersonImpl> UNCHANGED_PERSON = new ArrayList<>();
-    private static final Map<String, LineCount> LINE_COUNT = new HashMap<>();
+    private static final TransportStrategy TRANSPORT_STRATEGY = new ReroutingTransportStrategy();
+    private Consumer<DynamicPerson> scheduleListener = person -> { };
     private static final int END = 86_400;
 
     /**
@@ -45,79 +37,47 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      */
     public DynamicPersonImpl(final PersonData personData, final int money, final Optional<Business> business) {
         super(personData, money, business);
-        this.lastDestination = PersonState.WORKING;
-        this.late = false;
-        this.businessBegin = 0;
-        this.businessEnd = 0;
-        this.transportStrategy = new TransportStrategyImpl();
     }
 
     /**
-     * Sets the state of the person.
-     *
-     * @param newState the new state to set
-     */
-    @Override
-    public void setState(final PersonState newState) {
-        final PersonState oldState = super.getState();
-        if (oldState == newState) {
-            UNCHANGED_PERSON.add(this);
-        } else {
-            UNCHANGED_PERSON.remove(this);
-            updateStateCounts(oldState, newState);
-        }
-        super.setState(newState);
-    }
-
-    /**
-     * Updates the counts of different states for a person.
-     *
-     * @param oldState The previous state of the person.
-     * @param newState The new state of the person.
-     */
-    private void updateStateCounts(final PersonState oldState, final PersonState newState) {
-        STATE_COUNT.put(oldState, STATE_COUNT.getOrDefault(oldState, 0) - 1);
-        STATE_COUNT.put(newState, STATE_COUNT.getOrDefault(newState, 0) + 1);
-    }
-
-    /**
-     * Returns a map containing the counts of different states of a person.
-     *
-     * @return a map containing the counts of different states of a person
-     */
-    public static Map<PersonState, Integer> getCountsOfStates() {
-        return new HashMap<>(STATE_COUNT);
-    }
-
-    /**
-     * Returns a list of unchanged persons.
+     * Constructs a new DynamicPersonImpl object with the given person data, money,
+     * and business, adding it as a new row of the given store.
      *
-     * @return a list of unchanged persons
+     * @param store      The store holding the state of the whole population.
+     * @param personData The data of the person.
+     * @param money      The amount of money the person has.
+     * @param business   An optional business the person is associated with.
      */
-    public static List<DynamicPersonImpl> getUnchangedPersons() {
-        return new ArrayList<>(UNCHANGED_PERSON);
+    public DynamicPersonImpl(final PersonStore store, final PersonData personData, final int money,
+            final Optional<Business> business) {
+        super(store, personData, money, business);
     }
 
     /**
-     * Determines whether the person should move based on the current time, time to
-     * move, and line duration.
+     * Determines whether the person should move based on the current time and
+     * time to move. When the person moves, its route becomes the one chosen by
+     * the transport strategy, which may be an alternative to the usual one, and
+     * the arrival time includes the wait in the boarding queues of its lines.
      *
-     * @param currentTime  the current time
-     * @param timeToMove   the time to move
-     * @param lineDuration the duration of the line
+     * @param currentTime the current time
+     * @param timeToMove  the time to move
      * @return true if the person should move, false otherwise
      */
-    private boolean shouldMove(final int currentTime, final int timeToMove, final int lineDuration) {
-        if (getTransportLine().length == 0) {
+    private boolean shouldMove(final int currentTime, final int timeToMove) {
+        if (!hasTransportLine()) {
             return false;
         }
-        if (currentTime == timeToMove || late || timeToMove == END && currentTime == 0) {
-            if (transportStrategy.isCongested(List.of(getTransportLine()))) {
-                late = true;
+        final PersonStore store = getStore();
+        if (currentTime == timeToMove || store.isLate(getIndex()) || timeToMove == END && currentTime == 0) {
+            final int route = TRANSPORT_STRATEGY.chooseRoute(store.getZoneTable(), store.getRoute(getIndex()));
+            if (route == ZoneTable.NO_ROUTE) {
+                store.setLate(getIndex(), true);
                 return false;
             }
-            this.lastArrivingTime = transportStrategy.calculateArrivalTime(currentTime, lineDuration);
-            this.late = false;
+            store.setRoute(getIndex(), route);
+            store.setArrival(getIndex(), TRANSPORT_STRATEGY.calculateArrivalTime(currentTime,
+                    TRANSPORT_STRATEGY.calculateQueueWait(store.getRouteLines(route)) + store.getRouteDuration(route)));
+            store.setLate(getIndex(), false);
             return true;
         }
         return false;
@@ -129,10 +89,11 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      * the working state.
      *
      * @param currentTime the current time
+     * @param effects     the accumulator of the effects on the shared state
      */
-    private void handleWorkTransition(final LocalTime currentTime) {
-        if (shouldMove(currentTime.toSecondOfDay(), businessBegin - super.getTripDuration(), super.getTripDuration())) {
-            moveTo(PersonState.WORKING);
+    private void handleWorkTransition(final LocalTime currentTime, final TickEffects effects) {
+        if (shouldMove(currentTime.toSecondOfDay(), getStore().getBegin(getIndex()) - super.getTripDuration())) {
+            moveTo(PersonState.WORKING, effects);
         }
     }
 
@@ -141,10 +102,11 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      * time.
      *
      * @param currentTime the current time of the simulation
+     * @param effects     the accumulator of the effects on the shared state
      */
-    private void handleHomeTransition(final LocalTime currentTime) {
-        if (shouldMove(currentTime.toSecondOfDay(), businessEnd, super.getTripDuration())) {
-            moveTo(PersonState.AT_HOME);
+    private void handleHomeTransition(final LocalTime currentTime, final TickEffects effects) {
+        if (shouldMove(currentTime.toSecondOfDay(), getStore().getEnd(getIndex()))) {
+            moveTo(PersonState.AT_HOME, effects);
         }
     }
 
@@ -158,7 +120,8 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
         if (movingTime.equals(LocalTime.MIDNIGHT)) {
             return 0;
         }
-        return movingTime.toSecondOfDay() + random.nextInt(ConstantAndResourceLoader.MAX_MOVING_TIME_VARIATION)
+        return movingTime.toSecondOfDay()
+                + getStore().nextInt(getIndex(), ConstantAndResourceLoader.MAX_MOVING_TIME_VARIATION)
                 * ConstantAndResourceLoader.MINUTES_IN_A_SECOND * ConstantAndResourceLoader.SECONDS_IN_A_MINUTE;
     }
 
@@ -168,34 +131,32 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      * arriving time is END and the current time is 0,
      * the person's state is set to the last destination, the position is updated,
      * the number of persons in line is decremented,
-     * and the travel flag is set to false.
+     * the usual route is restored and the travel flag is set to false.
      *
      * @param currentTime the current time
+     * @param effects     the accumulator of the effects on the shared state
      */
-    private void handleArrival(final LocalTime currentTime) {
-        if (currentTime.toSecondOfDay() == this.lastArrivingTime
-                || this.lastArrivingTime == END && currentTime.toSecondOfDay() == 0) {
-            this.setState(this.lastDestination);
+    private void handleArrival(final LocalTime currentTime, final TickEffects effects) {
+        final int lastArrivingTime = getStore().getArrival(getIndex());
+        if (currentTime.toSecondOfDay() == lastArrivingTime
+                || lastArrivingTime == END && currentTime.toSecondOfDay() == 0) {
+            super.setState(getStore().getDestination(getIndex()));
             updatePosition();
-            decrementPersonsInLine();
+            effects.leave(getRouteLines());
+            final PersonStore store = getStore();
+            store.setRoute(getIndex(), store.getZoneTable().getPrimaryRoute(store.getRoute(getIndex())));
             super.setTravel(false);
         }
     }
 
     /**
-     * Decrements the number of persons in line for each transport line associated
-     * with this person.
-     * This method updates the LINE_COUNT map by decrementing the count for each
-     * transport line.
-     * It also delegates the decrement operation to the transport strategy.
+     * Decrements the number of persons in each of the given lines, delegating
+     * the decrement operation to the transport strategy.
+     *
+     * @param lines the lines the person is leaving
      */
-    private void decrementPersonsInLine() {
-        for (final TransportLine line : getTransportLine()) {
-            final String lineName = line.getName();
-            LINE_COUNT.putIfAbsent(lineName, new LineCount());
-            LINE_COUNT.get(lineName).decrement();
-        }
-        transportStrategy.decrementPersonsInLine(List.of(getTransportLine()));
+    static void recordLeaving(final List<TransportLine> lines) {
+        TRANSPORT_STRATEGY.decrementPersonsInLine(lines);
     }
 
     /**
@@ -207,14 +168,37 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      */
     @Override
     public void checkState(final LocalTime currentTime) {
+        checkState(currentTime, TickAccumulator.IMMEDIATE);
+    }
+
+    /**
+     * Checks the current state of the person, recording the effects on the state
+     * shared with the other people in the given accumulator.
+     * 
+     * @param currentTime the current time
+     * @param effects     the accumulator of the effects on the shared state
+     * @throws IllegalStateException if the person's state is invalid
+     */
+    @Override
+    public void checkState(final LocalTime currentTime, final TickEffects effects) {
         switch (super.getState()) {
-            case MOVING -> handleArrival(currentTime);
-            case WORKING -> handleHomeTransition(currentTime);
-            case AT_HOME -> handleWorkTransition(currentTime);
+            case MOVING -> handleArrival(currentTime, effects);
+            case WORKING -> handleHomeTransition(currentTime, effects);
+            case AT_HOME -> handleWorkTransition(currentTime, effects);
             default -> throw new IllegalStateException("Invalid state: " + super.getState());
         }
     }
 
+    /**
+     * @return true if the route of the person, or one of its alternatives, is
+     *         not congested.
+     */
+    @Override
+    public boolean canDepart() {
+        final PersonStore store = getStore();
+        return TRANSPORT_STRATEGY.chooseRoute(store.getZoneTable(), store.getRoute(getIndex())) != ZoneTable.NO_ROUTE;
+    }
+
     /**
      * Moves the person to the specified state.
      * If the trip duration is 0, the person's state is set to the new state
@@ -225,31 +209,28 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      * The last destination is updated and the position is updated.
      *
      * @param newState the new state to move the person to
+     * @param effects  the accumulator of the effects on the shared state
      */
-    private void moveTo(final PersonState newState) {
+    private void moveTo(final PersonState newState, final TickEffects effects) {
         if (super.getTripDuration() == 0) {
-            this.setState(newState);
+            super.setState(newState);
         } else {
-            this.setState(PersonState.MOVING);
-            incrementPersonsInLine();
+            super.setState(PersonState.MOVING);
+            effects.board(getRouteLines());
             super.setTravel(true);
         }
-        this.lastDestination = newState;
+        getStore().setDestination(getIndex(), newState);
         this.updatePosition();
     }
 
     /**
-     * Increments the count of persons in each transport line that the person is
-     * currently on.
-     * Also, increments the count of persons in line for the transport strategy.
+     * Increments the count of persons in each of the given lines, delegating
+     * the increment operation to the transport strategy.
+     *
+     * @param lines the lines the person is getting on
      */
-    private void incrementPersonsInLine() {
-        for (final TransportLine line : getTransportLine()) {
-            final String lineName = line.getName();
-            LINE_COUNT.putIfAbsent(lineName, new LineCount());
-            LINE_COUNT.get(lineName).increment();
-        }
-        transportStrategy.incrementPersonsInLine(List.of(getTransportLine()));
+    static void recordBoarding(final List<TransportLine> lines) {
+        TRANSPORT_STRATEGY.incrementPersonsInLine(lines);
     }
 
     /**
@@ -261,7 +242,8 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      */
     @Override
     public void setBusinessBegin(final LocalTime businessBegin) {
-        this.businessBegin = calculateUpdatedTime(businessBegin);
+        getStore().setBegin(getIndex(), calculateUpdatedTime(businessBegin));
+        scheduleListener.accept(this);
     }
 
     /**
@@ -271,6 +253,58 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      */
     @Override
     public void setBusinessEnd(final LocalTime businessEnd) {
-        this.businessEnd = calculateUpdatedTime(businessEnd);
+        getStore().setEnd(getIndex(), calculateUpdatedTime(businessEnd));
+        scheduleListener.accept(this);
+    }
+
+    /**
+     * Returns the second of the day at which the person can next change state:
+     * the arrival time while moving, the end of the business while working and
+     * the departure time while at home.
+     *
+     * @return the second of the day of the next check, or an empty value if the
+     *         person will never move
+     */
+    @Override
+    public OptionalInt getNextCheckTime() {
+        return switch (super.getState()) {
+            case MOVING -> toSecondOfDay(getStore().getArrival(getIndex()));
+            case WORKING -> hasTransportLine() ? toSecondOfDay(getStore().getEnd(getIndex())) : OptionalInt.empty();
+            case AT_HOME -> hasTransportLine()
+                    ? toSecondOfDay(getStore().getBegin(getIndex()) - super.getTripDuration())
+                    : OptionalInt.empty();
+        };
+    }
+
+    /**
+     * Converts a time in seconds to the second of the day at which it is matched
+     * by {@link #checkState(LocalTime)}.
+     *
+     * @param time the time in seconds
+     * @return the second of the day, or an empty value if the time is never reached
+     */
+    private static OptionalInt toSecondOfDay(final int time) {
+        if (time == END) {
+            return OptionalInt.of(0);
+        }
+        return time >= 0 && time < END ? OptionalInt.of(time) : OptionalInt.empty();
+    }
+
+    /**
+     * @return true if the person could not leave because of a congested line.
+     */
+    @Override
+    public boolean isWaitingForTransport() {
+        return getStore().isLate(getIndex());
+    }
+
+    /**
+     * Sets the listener notified when the business times of the person change.
+     *
+     * @param listener the listener to notify
+     */
+    @Override
+    public void setScheduleListener(final Consumer<DynamicPerson> listener) {
+        this.scheduleListener = listener;
     }
 }
@@ -1,24 +1,79 @@
 package unibo.citysimulation.model.person.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.impl.JobMatcher;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.api.PersonData;
 import unibo.citysimulation.model.person.api.PersonFactory;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+import unibo.citysimulation.model.statistics.impl.SimulationStatisticsImpl;
 import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneTable;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import unibo.citysimulation.utilities.Pair;
+import unibo.citysimulation.utilities.RandomStreams;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link PersonFactory} interface.
+ * All the people created by the same factory share one {@link PersonStore}.
  */
 public final class PersonFactoryImpl implements PersonFactory {
-    private static Random random = new Random();
+    private final SplittableRandom random;
+    private final PersonStore store;
+
+    /**
+     * Constructs a factory with a random seed.
+     *
+     * @param zoneTable the routes between the zones of the simulation
+     */
+    public PersonFactoryImpl(final ZoneTable zoneTable) {
+        this(new RandomStreams(new SplittableRandom().nextLong()), zoneTable);
+    }
+
+    /**
+     * Constructs a factory drawing the age and the money of the people from the
+     * "people" stream of the simulation, and whose store derives the streams of
+     * the single people from the "person" seed.
+     *
+     * @param randomStreams the random streams of the simulation
+     * @param zoneTable     the routes between the zones of the simulation
+     */
+    public PersonFactoryImpl(final RandomStreams randomStreams, final ZoneTable zoneTable) {
+        this(randomStreams, new SimulationStatisticsImpl(), zoneTable);
+    }
+
+    /**
+     * Constructs a factory drawing from the random streams of the simulation,
+     * whose store records the people in the given statistics.
+     *
+     * @param randomStreams the random streams of the simulation
+     * @param statistics    the statistics of the simulation
+     * @param zoneTable     the routes between the zones of the simulation
+     */
+    public PersonFactoryImpl(final RandomStreams randomStreams, final SimulationStatistics statistics,
+            final ZoneTable zoneTable) {
+        this.random = randomStreams.stream("people");
+        this.store = new PersonStore(1, randomStreams.seedFor("person"), statistics, zoneTable);
+    }
+
+    /**
+     * Returns the store holding the state of all the people created by this
+     * factory.
+     *
+     * @return the shared person store
+     */
+    @SuppressFBWarnings(value = "EI", justification = """
+            The store is exposed on purpose, to read the population state column by column.""")
+    public PersonStore getPersonStore() {
+        return store;
+    }
 
     /**
      * Creates all the people in the city simulation based on the given parameters.
@@ -32,9 +87,10 @@ public final class PersonFactoryImpl implements PersonFactory {
     @Override
     public List<List<DynamicPerson>> createAllPeople(final int numberOfPeople, final List<Zone> zones,
             final List<Business> businesses) {
+        store.ensureCapacity(store.size() + numberOfPeople);
         return zones.stream()
                 .map(zone -> createGroupOfPeople(
-                        zones.indexOf(zone),
+                        zone.id(),
                         (int) (numberOfPeople * (zone.personPercents() / 100.0)),
                         zone.wellfareMinMax(),
                         businesses,
@@ -44,6 +100,8 @@ public final class PersonFactoryImpl implements PersonFactory {
 
     /**
      * Creates a group of people in a specific zone based on the given parameters.
+     * Every person is hired by the first business of the list, in another zone
+     * and with an age range including their age, that still has a vacancy.
      *
      * @param groupCounter   the counter for the group
      * @param numberOfPeople the number of people to create in the group
@@ -68,20 +126,12 @@ public final class PersonFactoryImpl implements PersonFactory {
                     random.nextInt(moneyMinMax.getSecond() - moneyMinMax.getFirst()) + moneyMinMax.getFirst());
             people.add(person);
         }
-        for (final DynamicPerson person : people) {
-            for (final Business business : businesses) {
-                if (person.getPersonData().age() >= business.getBusinessData().minAge()
-                        && person.getPersonData().age() <= business.getBusinessData().maxAge()
-                        && business.getBusinessData().employees().size() < business.getBusinessData().maxEmployees()
-                        && !business.getBusinessData().zone().equals(person.getPersonData().residenceZone())) {
-                    business.hire(new Employee(person, business.getBusinessData()));
-                    person.setBusiness(Optional.of(business));
-                    person.setBusinessBegin(business.getBusinessData().openingTime());
-                    person.setBusinessEnd(business.getBusinessData().closingTime());
-                    break;
-                }
-            }
-        }
+        new JobMatcher(businesses).matchAll(people, (person, business) -> {
+            business.hire(new Employee(person, business.getBusinessData()));
+            person.setBusiness(Optional.of(business));
+            person.setBusinessBegin(business.getBusinessData().openingTime());
+            person.setBusinessEnd(business.getBusinessData().closingTime());
+        });
         return people;
     }
 
@@ -93,11 +143,15 @@ public final class PersonFactoryImpl implements PersonFactory {
      * @param business      the optional business the person is associated with
      * @param residenceZone the zone where the person resides
      * @param money         the amount of money the person has
-     * @return a dynamic person object
+     * @return a dynamic person object, which can also be found in the store from
+     *         its index
      */
     @Override
     public DynamicPerson createPerson(final String name, final int age, final Optional<Business> business,
             final Zone residenceZone, final int money) {
-        return new DynamicPersonImpl(new PersonData(name, age, residenceZone), money, business);
+        final DynamicPersonImpl person = new DynamicPersonImpl(store, new PersonData(name, age, residenceZone),
+                money, business);
+        store.setPerson(person.getIndex(), person);
+        return person;
     }
 }
@@ -0,0 +1,585 @@
+package unibo.citysimulation.model.person.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.PersonMoveListener;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+import unibo.citysimulation.model.statistics.impl.SimulationStatisticsImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.utilities.Pair;
+import unibo.citysimulation.utilities.RandomStreams;
+
+/**
+ * Columnar store holding the mutable state of a whole population.
+ * Every person is a row identified by an index, and every attribute is kept in
+ * its own primitive array, so that the people of a simulation are stored in a
+ * few contiguous arrays instead of one object graph per person.
+ * The person classes are thin views over a row of the store.
+ * Each row only keeps the id of its route in the {@link ZoneTable} of the
+ * simulation.
+ * Every row also keeps the state of its own random stream, derived from the seed
+ * of the store, so the draws of a person do not depend on the thread or on the
+ * order in which the people are checked.
+ * The store keeps the {@link SimulationStatistics} of the simulation up to date
+ * as people are added, find or lose a job and change state, including the
+ * figures of the zones where they live and where they are, and notifies its
+ * {@link PersonMoveListener}s, such as the indexes of the map, as people are
+ * added, move and change state.
+ */
+public final class PersonStore {
+    /**
+     * Value of the position columns when the person is not on the map.
+     */
+    public static final int NO_POSITION = Integer.MIN_VALUE;
+    /**
+     * Value of the zone and business columns when they are unknown or absent.
+     */
+    public static final int NONE = -1;
+    /**
+     * Id of the empty route, used by the people that do not travel.
+     */
+    public static final int NO_ROUTE = ZoneTable.NO_ROUTE;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final byte TRAVEL = 1;
+    private static final byte LATE = 2;
+    private static final PersonState[] STATES = PersonState.values();
+
+    private int size;
+    private byte[] state;
+    private byte[] destination;
+    private byte[] flags;
+    private int[] homeX;
+    private int[] homeY;
+    private int[] positionX;
+    private int[] positionY;
+    private int[] zone;
+    private int[] business;
+    private int[] workZone;
+    private int[] route;
+    private int[] begin;
+    private int[] end;
+    private int[] arrival;
+    private double[] money;
+    private long[] randomState;
+    private DynamicPerson[] person;
+    private final long seed;
+    private final SplittableRandom creationRandom;
+    private final SimulationStatistics statistics;
+    private final ZoneTable zoneTable;
+    private PersonMoveListener[] listeners = new PersonMoveListener[0];
+
+    /**
+     * Constructs an empty store with a small initial capacity and a random seed.
+     */
+    public PersonStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty store able to hold the given number of people before
+     * growing, with a random seed.
+     *
+     * @param capacity the initial capacity
+     */
+    public PersonStore(final int capacity) {
+        this(capacity, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs an empty store able to hold the given number of people before
+     * growing, whose random streams are derived from the given seed.
+     * The store has no zones, so its people do not travel.
+     *
+     * @param capacity the initial capacity
+     * @param seed     the seed of the random streams of the people
+     */
+    public PersonStore(final int capacity, final long seed) {
+        this(capacity, seed, new SimulationStatisticsImpl(), ZoneTable.empty());
+    }
+
+    /**
+     * Constructs an empty store able to hold the given number of people before
+     * growing, whose random streams are derived from the given seed, that
+     * records the people in the given statistics and whose people travel on the
+     * routes of the given table.
+     *
+     * @param capacity   the initial capacity
+     * @param seed       the seed of the random streams of the people
+     * @param statistics the statistics of the simulation
+     * @param zoneTable  the routes between the zones of the simulation
+     */
+    @SuppressFBWarnings(value = "EI2", justification = """
+            The statistics and the zone table are shared on purpose with the rest of the simulation.""")
+    public PersonStore(final int capacity, final long seed, final SimulationStatistics statistics,
+            final ZoneTable zoneTable) {
+        this.seed = seed;
+        this.statistics = statistics;
+        this.zoneTable = zoneTable;
+        this.creationRandom = new SplittableRandom(seed);
+        final int length = Math.max(1, capacity);
+        state = new byte[length];
+        destination = new byte[length];
+        flags = new byte[length];
+        homeX = new int[length];
+        homeY = new int[length];
+        positionX = new int[length];
+        positionY = new int[length];
+        zone = new int[length];
+        business = new int[length];
+        workZone = new int[length];
+        route = new int[length];
+        begin = new int[length];
+        end = new int[length];
+        arrival = new int[length];
+        money = new double[length];
+        randomState = new long[length];
+        person = new DynamicPerson[length];
+    }
+
+    /**
+     * Makes sure that the given number of people can be stored without growing
+     * the columns again.
+     *
+     * @param capacity the number of people to be able to hold
+     */
+    public void ensureCapacity(final int capacity) {
+        if (capacity > state.length) {
+            grow(Math.max(capacity, state.length * 2));
+        }
+    }
+
+    private void grow(final int length) {
+        state = Arrays.copyOf(state, length);
+        destination = Arrays.copyOf(destination, length);
+        flags = Arrays.copyOf(flags, length);
+        homeX = Arrays.copyOf(homeX, length);
+        homeY = Arrays.copyOf(homeY, length);
+        positionX = Arrays.copyOf(positionX, length);
+        positionY = Arrays.copyOf(positionY, length);
+        zone = Arrays.copyOf(zone, length);
+        business = Arrays.copyOf(business, length);
+        workZone = Arrays.copyOf(workZone, length);
+        route = Arrays.copyOf(route, length);
+        begin = Arrays.copyOf(begin, length);
+        end = Arrays.copyOf(end, length);
+        arrival = Arrays.copyOf(arrival, length);
+        money = Arrays.copyOf(money, length);
+        randomState = Arrays.copyOf(randomState, length);
+        person = Arrays.copyOf(person, length);
+    }
+
+    /**
+     * Adds a person at home to the store, in a random position of its zone.
+     *
+     * @param residenceZone the residence zone
+     * @param cash          the initial money of the person
+     * @return the index of the new row
+     */
+    public int add(final Zone residenceZone, final double cash) {
+        final Pair<Integer, Integer> home = residenceZone.getRandomPosition(creationRandom);
+        final int x = home.getFirst();
+        final int y = home.getSecond();
+        ensureCapacity(size + 1);
+        final int index = size++;
+        randomState[index] = RandomStreams.initialState(seed, index);
+        state[index] = (byte) PersonState.AT_HOME.ordinal();
+        destination[index] = (byte) PersonState.WORKING.ordinal();
+        homeX[index] = x;
+        homeY[index] = y;
+        positionX[index] = x;
+        positionY[index] = y;
+        zone[index] = residenceZone.id();
+        business[index] = NONE;
+        workZone[index] = NONE;
+        route[index] = NO_ROUTE;
+        money[index] = cash;
+        statistics.addPerson(PersonState.AT_HOME);
+        statistics.addResident(zone[index]);
+        for (final PersonMoveListener listener : listeners) {
+            listener.onPersonAdded(index, x, y, PersonState.AT_HOME);
+        }
+        return index;
+    }
+
+    /**
+     * @return the routes between the zones of the simulation.
+     */
+    @SuppressFBWarnings(value = "EI", justification = """
+            The zone table is immutable and shared on purpose with the rest of the simulation.""")
+    public ZoneTable getZoneTable() {
+        return zoneTable;
+    }
+
+    /**
+     * @return the statistics updated by the store.
+     */
+    @SuppressFBWarnings(value = "EI", justification = """
+            The statistics are shared on purpose with the rest of the simulation.""")
+    public SimulationStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Subscribes a listener to the positions and the states of the people,
+     * first notifying it of the people already in the store.
+     * The listeners must be added before the people are checked by other threads.
+     *
+     * @param listener the listener to notify
+     */
+    public void addMoveListener(final PersonMoveListener listener) {
+        for (int i = 0; i < size; i++) {
+            listener.onPersonAdded(i, positionX[i], positionY[i], STATES[state[i]]);
+        }
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Sets the person viewing a row, so that it can be found from its index.
+     *
+     * @param index the index of the person
+     * @param view  the person backed by the row
+     */
+    @SuppressFBWarnings(value = "EI2", justification = """
+            The people are shared on purpose with the rest of the simulation.""")
+    void setPerson(final int index, final DynamicPerson view) {
+        person[index] = view;
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the person backed by the row, or an empty optional if it was not
+     *         created by a person factory.
+     */
+    public Optional<DynamicPerson> getPerson(final int index) {
+        return Optional.ofNullable(person[index]);
+    }
+
+    /**
+     * @return the number of people in the store.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the state of the person.
+     */
+    public PersonState getState(final int index) {
+        return STATES[state[index]];
+    }
+
+    /**
+     * @param index    the index of the person
+     * @param newState the new state of the person
+     */
+    public void setState(final int index, final PersonState newState) {
+        final PersonState oldState = STATES[state[index]];
+        statistics.changeState(oldState, newState);
+        statistics.changePresence(zoneOf(index, oldState), zoneOf(index, newState));
+        state[index] = (byte) newState.ordinal();
+        for (final PersonMoveListener listener : listeners) {
+            listener.onPersonMoved(index, positionX[index], positionY[index], oldState,
+                    positionX[index], positionY[index], newState);
+        }
+    }
+
+    // The zone where a person in the given state is: the residence, the work place or none while moving
+    private int zoneOf(final int index, final PersonState current) {
+        switch (current) {
+            case AT_HOME:
+                return zone[index];
+            case WORKING:
+                return workZone[index];
+            default:
+                return NONE;
+        }
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the state the person is travelling to.
+     */
+    public PersonState getDestination(final int index) {
+        return STATES[destination[index]];
+    }
+
+    /**
+     * @param index    the index of the person
+     * @param newState the state the person is travelling to
+     */
+    public void setDestination(final int index, final PersonState newState) {
+        destination[index] = (byte) newState.ordinal();
+    }
+
+    /**
+     * @param index the index of the person
+     * @return true if the person is travelling.
+     */
+    public boolean isTravelling(final int index) {
+        return (flags[index] & TRAVEL) != 0;
+    }
+
+    /**
+     * @param index  the index of the person
+     * @param travel whether the person is travelling
+     */
+    public void setTravelling(final int index, final boolean travel) {
+        setFlag(index, TRAVEL, travel);
+    }
+
+    /**
+     * @param index the index of the person
+     * @return true if the person could not leave because of a congested line.
+     */
+    public boolean isLate(final int index) {
+        return (flags[index] & LATE) != 0;
+    }
+
+    /**
+     * @param index the index of the person
+     * @param late  whether the person is waiting for a congested line
+     */
+    public void setLate(final int index, final boolean late) {
+        setFlag(index, LATE, late);
+    }
+
+    private void setFlag(final int index, final byte flag, final boolean value) {
+        flags[index] = (byte) (value ? flags[index] | flag : flags[index] & ~flag);
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the x coordinate of the home.
+     */
+    public int getHomeX(final int index) {
+        return homeX[index];
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the y coordinate of the home.
+     */
+    public int getHomeY(final int index) {
+        return homeY[index];
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the x coordinate of the person, or {@link #NO_POSITION}.
+     */
+    public int getX(final int index) {
+        return positionX[index];
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the y coordinate of the person, or {@link #NO_POSITION}.
+     */
+    public int getY(final int index) {
+        return positionY[index];
+    }
+
+    /**
+     * @param index the index of the person
+     * @param x     the new x coordinate, or {@link #NO_POSITION}
+     * @param y     the new y coordinate, or {@link #NO_POSITION}
+     */
+    public void setPosition(final int index, final int x, final int y) {
+        final PersonState current = STATES[state[index]];
+        final int fromX = positionX[index];
+        final int fromY = positionY[index];
+        positionX[index] = x;
+        positionY[index] = y;
+        for (final PersonMoveListener listener : listeners) {
+            listener.onPersonMoved(index, fromX, fromY, current, x, y, current);
+        }
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the index of the residence zone, or {@link #NONE}.
+     */
+    public int getZone(final int index) {
+        return zone[index];
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the id of the business of the person, or {@link #NONE}.
+     */
+    public int getBusiness(final int index) {
+        return business[index];
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the id of the zone of the business of the person, or {@link #NONE}.
+     */
+    public int getWorkZone(final int index) {
+        return workZone[index];
+    }
+
+    /**
+     * Sets the business of a person and the zone where it works.
+     * A person at work is moved to the zone of the new business, or to no zone
+     * if it lost its job.
+     *
+     * @param index      the index of the person
+     * @param businessId the id of the business, or {@link #NONE}
+     * @param zoneId     the id of the zone of the business, or {@link #NONE}
+     */
+    public void setBusiness(final int index, final int businessId, final int zoneId) {
+        if ((business[index] == NONE) != (businessId == NONE)) {
+            statistics.changeEmployment(zone[index], businessId != NONE);
+        }
+        if (STATES[state[index]] == PersonState.WORKING) {
+            statistics.changePresence(workZone[index], zoneId);
+        }
+        business[index] = businessId;
+        workZone[index] = zoneId;
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the second of the day at which the business of the person opens.
+     */
+    public int getBegin(final int index) {
+        return begin[index];
+    }
+
+    /**
+     * @param index  the index of the person
+     * @param second the second of the day at which the business opens
+     */
+    public void setBegin(final int index, final int second) {
+        begin[index] = second;
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the second of the day at which the business of the person closes.
+     */
+    public int getEnd(final int index) {
+        return end[index];
+    }
+
+    /**
+     * @param index  the index of the person
+     * @param second the second of the day at which the business closes
+     */
+    public void setEnd(final int index, final int second) {
+        end[index] = second;
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the second of the day of the last arrival of the person.
+     */
+    public int getArrival(final int index) {
+        return arrival[index];
+    }
+
+    /**
+     * @param index  the index of the person
+     * @param second the second of the day of the next arrival
+     */
+    public void setArrival(final int index, final int second) {
+        arrival[index] = second;
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the money of the person.
+     */
+    public double getMoney(final int index) {
+        return money[index];
+    }
+
+    /**
+     * @param index  the index of the person
+     * @param amount the amount of money to add
+     */
+    public void addMoney(final int index, final double amount) {
+        money[index] += amount;
+    }
+
+    /**
+     * Draws a random int from the stream of a person.
+     *
+     * @param index the index of the person
+     * @param bound the upper bound (exclusive), must be positive
+     * @return a random int between 0 and the bound
+     */
+    public int nextInt(final int index, final int bound) {
+        randomState[index] = RandomStreams.nextState(randomState[index]);
+        return RandomStreams.boundedInt(randomState[index], bound);
+    }
+
+    /**
+     * @param index the index of the person
+     * @return the id of the route of the person.
+     */
+    public int getRoute(final int index) {
+        return route[index];
+    }
+
+    /**
+     * Sets the route of a person to the one of the zone table between two
+     * zones, so that people travelling between the same zones share the same
+     * route id.
+     *
+     * @param index the index of the person
+     * @param from  the departure zone
+     * @param to    the arrival zone
+     */
+    public void setRoute(final int index, final Zone from, final Zone to) {
+        route[index] = zoneTable.getRouteId(from, to);
+    }
+
+    /**
+     * Sets the route of a person to the given one of the zone table, for
+     * example an alternative taken because the usual route is congested.
+     *
+     * @param index   the index of the person
+     * @param routeId the id of the route
+     */
+    public void setRoute(final int index, final int routeId) {
+        route[index] = routeId;
+    }
+
+    /**
+     * Clears the route of a person.
+     *
+     * @param index the index of the person
+     */
+    public void clearRoute(final int index) {
+        route[index] = NO_ROUTE;
+    }
+
+    /**
+     * @param routeId the id of the route
+     * @return the lines of the route.
+     */
+    public List<TransportLine> getRouteLines(final int routeId) {
+        return zoneTable.getRouteLines(routeId);
+    }
+
+    /**
+     * @param routeId the id of the route
+     * @return the duration of the route in seconds.
+     */
+    public int getRouteDuration(final int routeId) {
+        return zoneTable.getRouteDuration(routeId);
+    }
+}
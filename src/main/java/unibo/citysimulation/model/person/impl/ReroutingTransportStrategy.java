@@ -0,0 +1,83 @@
+package unibo.citysimulation.model.person.impl;
+
+import java.util.List;
+
+import unibo.citysimulation.model.person.api.TransportStrategy;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.zone.ZoneTable;
+
+/**
+ * A transport strategy that, when the fastest route of a person is congested,
+ * sends the person on one of the alternatives precomputed by the
+ * {@link ZoneTable} instead of making it wait.
+ * Among the alternatives that are not congested, the one with the lowest
+ * duration weighted by the live congestion of its lines is taken, so that the
+ * people spread over the free lines instead of all waiting for the same one.
+ * A decision only looks at the few lines of at most
+ * {@link ZoneTable#ALTERNATIVES} + 1 routes, so it takes constant time.
+ */
+public final class ReroutingTransportStrategy implements TransportStrategy {
+    private static final double PERCENT = 100.0;
+
+    private final TransportStrategy strategy = new TransportStrategyImpl();
+
+    @Override
+    public boolean isCongested(final List<TransportLine> lines) {
+        return strategy.isCongested(lines);
+    }
+
+    /**
+     * Chooses the fastest route if it is not congested, otherwise the alternative
+     * with the lowest weighted duration, in which every line counts for its
+     * duration increased by its congestion percentage.
+     */
+    @Override
+    public int chooseRoute(final ZoneTable zoneTable, final int routeId) {
+        final int primary = strategy.chooseRoute(zoneTable, routeId);
+        if (primary != ZoneTable.NO_ROUTE) {
+            return primary;
+        }
+        int best = ZoneTable.NO_ROUTE;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < zoneTable.getAlternativeCount(routeId); i++) {
+            final int alternative = zoneTable.getAlternative(routeId, i);
+            final List<TransportLine> lines = zoneTable.getRouteLines(alternative);
+            if (!isCongested(lines)) {
+                final double cost = weightedDuration(lines);
+                if (cost < bestCost) {
+                    best = alternative;
+                    bestCost = cost;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static double weightedDuration(final List<TransportLine> lines) {
+        double cost = 0;
+        for (final TransportLine line : lines) {
+            cost += line.getDuration() * (1 + line.getCongestion() / PERCENT);
+        }
+        return cost;
+    }
+
+    @Override
+    public int calculateArrivalTime(final int currentTime, final int tripDuration) {
+        return strategy.calculateArrivalTime(currentTime, tripDuration);
+    }
+
+    @Override
+    public int calculateQueueWait(final List<TransportLine> lines) {
+        return strategy.calculateQueueWait(lines);
+    }
+
+    @Override
+    public void incrementPersonsInLine(final List<TransportLine> lines) {
+        strategy.incrementPersonsInLine(lines);
+    }
+
+    @Override
+    public void decrementPersonsInLine(final List<TransportLine> lines) {
+        strategy.decrementPersonsInLine(lines);
+    }
+}
@@ -1,49 +1,74 @@
 package unibo.citysimulation.model.person.impl;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.Arrays;
-import java.util.Random;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.person.api.PersonData;
 import unibo.citysimulation.model.person.api.StaticPerson;
 import unibo.citysimulation.model.transport.api.TransportLine;
-import unibo.citysimulation.model.zone.ZoneTable;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import unibo.citysimulation.utilities.Pair;
 
 /**
  * Represents a static person in the city simulation.
+ * The state of the person is kept in a row of a {@link PersonStore}, this
+ * object only holds the references that cannot be stored in a column.
  */
 public class StaticPersonImpl implements StaticPerson {
-    private double money;
-    private Optional<Pair<Integer, Integer>> position;
+    private final PersonStore store;
+    private final int index;
     private final PersonData personData;
-    private PersonState state;
-    private final Pair<Integer, Integer> homePosition;
-    private TransportLine[] transportLine;
-    private int tripDuration;
-    private static final Random RANDOM = new Random();
     private Optional<Business> business;
-    private Boolean travel = false;
 
     /**
-     * Constructs a new static person with the given person data and money.
+     * Constructs a new static person with the given person data and money,
+     * backed by a store of its own.
      * 
      * @param personData the data of the person.
      * @param money      the money of the person.
      * @param business   the business where the person works.
      */
     public StaticPersonImpl(final PersonData personData, final double money, final Optional<Business> business) {
+        this(new PersonStore(1), personData, money, business);
+    }
+
+    /**
+     * Constructs a new static person with the given person data and money,
+     * adding it as a new row of the given store.
+     * 
+     * @param store      the store holding the state of the person.
+     * @param personData the data of the person.
+     * @param money      the money of the person.
+     * @param business   the business where the person works.
+     */
+    @SuppressFBWarnings(value = "EI2", justification = """
+            The store is shared on purpose by all the people of a simulation.""")
+    public StaticPersonImpl(final PersonStore store, final PersonData personData, final double money,
+            final Optional<Business> business) {
+        this.store = store;
+        this.index = store.add(personData.residenceZone(), money);
         this.personData = personData;
-        this.money = money;
-        this.state = PersonState.AT_HOME;
-        this.homePosition = personData.residenceZone().getRandomPosition();
-        this.position = Optional.of(homePosition);
         this.business = business;
         calculateTrip();
     }
 
+    /**
+     * @return the store holding the state of the person.
+     */
+    protected final PersonStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return the index of the person in its store.
+     */
+    public final int getIndex() {
+        return index;
+    }
+
     /**
      * @return the data of the person.
      */
@@ -57,7 +82,19 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public Optional<Pair<Integer, Integer>> getPosition() {
-        return position;
+        final int x = store.getX(index);
+        return x == PersonStore.NO_POSITION ? Optional.empty() : Optional.of(new Pair<>(x, store.getY(index)));
+    }
+
+    /**
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if the person is at the given position.
+     */
+    @Override
+    public boolean isAt(final int x, final int y) {
+        final int personX = store.getX(index);
+        return personX != PersonStore.NO_POSITION && personX == x && store.getY(index) == y;
     }
 
     /**
@@ -65,7 +102,7 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public double getMoney() {
-        return money;
+        return store.getMoney(index);
     }
 
     /**
@@ -75,7 +112,7 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public void addMoney(final double amount) {
-        this.money += amount;
+        store.addMoney(index, amount);
     }
 
     /**
@@ -83,7 +120,7 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public PersonState getState() {
-        return state;
+        return store.getState(index);
     }
 
     /**
@@ -93,7 +130,7 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public void setState(final PersonState state) {
-        this.state = state;
+        store.setState(index, state);
     }
 
     /**
@@ -101,7 +138,21 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public TransportLine[] getTransportLine() {
-        return Arrays.copyOf(transportLine, transportLine.length);
+        return getRouteLines().toArray(new TransportLine[0]);
+    }
+
+    /**
+     * @return the lines of the route of the person, without copying them.
+     */
+    protected final List<TransportLine> getRouteLines() {
+        return store.getRouteLines(store.getRoute(index));
+    }
+
+    /**
+     * @return true if the person has to take at least one transport line to go to work.
+     */
+    protected final boolean hasTransportLine() {
+        return store.getRoute(index) != PersonStore.NO_ROUTE;
     }
 
     /**
@@ -109,27 +160,27 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public int getTripDuration() {
-        return tripDuration;
+        return store.getRouteDuration(store.getRoute(index));
     }
 
     /**
      * Updates the position of the person.
      */
     protected void updatePosition() {
-        switch (this.state) {
+        switch (getState()) {
             case MOVING:
-                this.position = Optional.empty();
+                store.setPosition(index, PersonStore.NO_POSITION, PersonStore.NO_POSITION);
                 break;
             case WORKING:
                 business.ifPresent(b -> {
                     final Pair<Integer, Integer> businessPosition = b.getBusinessData().position();
                     final int newX = businessPosition.getFirst() + getRandomDeviation();
                     final int newY = businessPosition.getSecond() + getRandomDeviation();
-                    this.position = Optional.of(new Pair<>(newX, newY));
+                    store.setPosition(index, newX, newY);
                 });
                 break;
             case AT_HOME:
-                this.position = Optional.of(homePosition);
+                store.setPosition(index, store.getHomeX(index), store.getHomeY(index));
                 break;
             default:
                 throw new IllegalStateException("Invalid state.");
@@ -141,27 +192,23 @@ public class StaticPersonImpl implements StaticPerson {
      *         and 20.
      */
     private int getRandomDeviation() {
-        return RANDOM.nextInt(ConstantAndResourceLoader.MAX_DEVIATION_RANGE)
+        return store.nextInt(index, ConstantAndResourceLoader.MAX_DEVIATION_RANGE)
                 - ConstantAndResourceLoader.MAX_DEVIATION_OFFSET;
     }
 
     /**
      * Calculates the trip details for the person.
-     * If the person has a business, it retrieves the transport line and trip
-     * duration
-     * based on the residence zone and business zone using the ZoneTable.
-     * If the person does not have a business, it sets the transport line to an
-     * empty array
-     * and trip duration to 0.
+     * If the person has a business, it retrieves the route between the residence
+     * zone and the business zone from the zone table, otherwise it clears the route.
      */
     private void calculateTrip() {
         if (this.business.isPresent()) {
-            this.transportLine = ZoneTable.getInstance().getTransportLine(personData.residenceZone(),
-                    business.get().getBusinessData().zone());
-            tripDuration = ZoneTable.getInstance().getTripDuration(transportLine);
+            store.setBusiness(index, business.get().getBusinessData().id(),
+                    business.get().getBusinessData().zone().id());
+            store.setRoute(index, personData.residenceZone(), business.get().getBusinessData().zone());
         } else {
-            this.transportLine = new TransportLine[0];
-            tripDuration = 0;
+            store.setBusiness(index, PersonStore.NONE, PersonStore.NONE);
+            store.clearRoute(index);
         }
     }
 
@@ -183,7 +230,7 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public final void setBusiness(final Optional<Business> business) {
-        if (!travel) {
+        if (!store.isTravelling(index)) {
             this.business = business;
             calculateTrip();
         }
@@ -195,7 +242,7 @@ public class StaticPersonImpl implements StaticPerson {
      * @return true if the person is currently traveling, false otherwise.
      */
     public Boolean getTravel() {
-        return travel;
+        return store.isTravelling(index);
     }
 
     /**
@@ -204,6 +251,6 @@ public class StaticPersonImpl implements StaticPerson {
      * @param travel the travel status to set
      */
     public void setTravel(final Boolean travel) {
-        this.travel = travel;
+        store.setTravelling(index, travel);
     }
 }
@@ -0,0 +1,82 @@
+package unibo.citysimulation.model.person.impl;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import unibo.citysimulation.model.person.api.TickEffects;
+import unibo.citysimulation.model.transport.api.TransportLine;
+
+/**
+ * Collects the effects that a person has on the state shared by the whole
+ * simulation: the number of people in every transport line.
+ * The {@link #IMMEDIATE} accumulator applies every effect as soon as it happens,
+ * while a buffered accumulator keeps them until {@link #merge()} is called, so
+ * that the people of different partitions can be checked on different threads.
+ * The lines are safe to update from any thread, but buffering keeps the threads
+ * from contending on the few counters of the busiest lines: a merge adds the
+ * changes of a whole partition to every line at once.
+ */
+public final class TickAccumulator implements TickEffects {
+    /**
+     * Accumulator applying every effect immediately, to be used by a single thread.
+     */
+    public static final TickAccumulator IMMEDIATE = new TickAccumulator(false);
+
+    private static final int BOARDED = 0;
+    private static final int LEFT = 1;
+
+    private final boolean buffered;
+    private final Map<TransportLine, int[]> lineDeltas = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty buffered accumulator.
+     */
+    public TickAccumulator() {
+        this(true);
+    }
+
+    private TickAccumulator(final boolean buffered) {
+        this.buffered = buffered;
+    }
+
+    /**
+     * Records a person getting on the given lines.
+     *
+     * @param lines the lines of the route of the person
+     */
+    @Override
+    public void board(final List<TransportLine> lines) {
+        if (buffered) {
+            lines.forEach(line -> lineDeltas.computeIfAbsent(line, l -> new int[2])[BOARDED]++);
+        } else {
+            DynamicPersonImpl.recordBoarding(lines);
+        }
+    }
+
+    /**
+     * Records a person getting off the given lines.
+     *
+     * @param lines the lines of the route of the person
+     */
+    @Override
+    public void leave(final List<TransportLine> lines) {
+        if (buffered) {
+            lines.forEach(line -> lineDeltas.computeIfAbsent(line, l -> new int[2])[LEFT]++);
+        } else {
+            DynamicPersonImpl.recordLeaving(lines);
+        }
+    }
+
+    /**
+     * Applies the buffered effects to the shared state and empties the
+     * accumulator. Merges of different accumulators can run concurrently.
+     */
+    public void merge() {
+        lineDeltas.forEach((line, counts) -> {
+            line.addPersonsInLine(counts[BOARDED]);
+            line.removePersonsInLine(counts[LEFT]);
+        });
+        lineDeltas.clear();
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import unibo.citysimulation.model.person.api.TransportStrategy;
 import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.zone.ZoneTable;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
 /**
@@ -13,8 +14,21 @@ public final class TransportStrategyImpl implements TransportStrategy {
 
     @Override
     public boolean isCongested(final List<TransportLine> lines) {
-        return lines.stream()
-            .anyMatch(line -> line.getCongestion() > ConstantAndResourceLoader.CONGESTION_VALUE);
+        for (final TransportLine line : lines) {
+            if (line.getCongestion() > ConstantAndResourceLoader.CONGESTION_VALUE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Always chooses the fastest route, as long as it is not congested.
+     */
+    @Override
+    public int chooseRoute(final ZoneTable zoneTable, final int routeId) {
+        final int primary = zoneTable.getPrimaryRoute(routeId);
+        return isCongested(zoneTable.getRouteLines(primary)) ? ZoneTable.NO_ROUTE : primary;
     }
 
     @Override
@@ -22,6 +36,19 @@ public final class TransportStrategyImpl implements TransportStrategy {
         return (currentTime + tripDuration) % ConstantAndResourceLoader.SECONDS_IN_A_DAY;
     }
 
+    /**
+     * The person joins the queues of all the lines at once, so the wait is the
+     * one of the longest queue.
+     */
+    @Override
+    public int calculateQueueWait(final List<TransportLine> lines) {
+        int wait = 0;
+        for (final TransportLine line : lines) {
+            wait = Math.max(wait, line.getQueueWait());
+        }
+        return wait;
+    }
+
     @Override
     public void incrementPersonsInLine(final List<TransportLine> lines) {
         lines.forEach(TransportLine::incrementPersonInLine);
@@ -0,0 +1,140 @@
+package unibo.citysimulation.model.statistics.api;
+
+import java.util.List;
+
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+
+/**
+ * Aggregate statistics of a simulation, kept up to date by the people and by
+ * the businesses when they change, so that they can be read without scanning
+ * the population.
+ */
+public interface SimulationStatistics {
+
+    /**
+     * Records a new person in the given state.
+     *
+     * @param state the initial state of the person
+     */
+    void addPerson(PersonState state);
+
+    /**
+     * Records the change of state of a person.
+     *
+     * @param oldState the previous state of the person
+     * @param newState the new state of the person
+     */
+    void changeState(PersonState oldState, PersonState newState);
+
+    /**
+     * Records a new business.
+     *
+     * @param type         the type of the business
+     * @param employees    the current number of employees of the business
+     * @param maxEmployees the maximum number of employees of the business
+     */
+    void addBusiness(BusinessType type, int employees, int maxEmployees);
+
+    /**
+     * Records a change of the number of employees of a business.
+     *
+     * @param type  the type of the business
+     * @param delta the number of hired employees, negative for the fired ones
+     */
+    void changeEmployees(BusinessType type, int delta);
+
+    /**
+     * Records a new resident of a zone, at home and so present in the zone.
+     *
+     * @param zone the id of the residence zone
+     */
+    void addResident(int zone);
+
+    /**
+     * Records that a resident of a zone found or lost a job.
+     *
+     * @param zone     the id of the residence zone
+     * @param employed whether the resident now has a job
+     */
+    void changeEmployment(int zone, boolean employed);
+
+    /**
+     * Records a person leaving a zone for another one.
+     *
+     * @param fromZone the id of the zone left, or a negative value if the
+     *                 person was in no zone
+     * @param toZone   the id of the zone reached, or a negative value if the
+     *                 person is in no zone
+     */
+    void changePresence(int fromZone, int toZone);
+
+    /**
+     * Records a new business of a zone.
+     *
+     * @param zone      the id of the zone of the business
+     * @param employees the current number of employees of the business
+     * @param pay       the pay of an employee of the business
+     */
+    void addZoneBusiness(int zone, int employees, double pay);
+
+    /**
+     * Records the removal of a business of a zone.
+     *
+     * @param zone      the id of the zone of the business
+     * @param employees the current number of employees of the business
+     * @param pay       the pay of an employee of the business
+     */
+    void removeZoneBusiness(int zone, int employees, double pay);
+
+    /**
+     * Records a change of the number of employees of a business of a zone.
+     *
+     * @param zone  the id of the zone of the business
+     * @param delta the number of hired employees, negative for the fired ones
+     * @param pay   the pay of an employee of the business
+     */
+    void changeZoneEmployees(int zone, int delta, double pay);
+
+    /**
+     * Records a transport line with an end in a zone.
+     *
+     * @param zone the id of the zone
+     */
+    void addDirectLine(int zone);
+
+    /**
+     * @return the number of people of the simulation.
+     */
+    int getPopulation();
+
+    /**
+     * @param state the state to count
+     * @return the number of people in the given state.
+     */
+    int getStateCount(PersonState state);
+
+    /**
+     * Returns the percentage of people in each state.
+     *
+     * @return the percentages of people AT_HOME, MOVING and WORKING, or zeros if
+     *         there are no people
+     */
+    List<Integer> getPeopleStatePercentages();
+
+    /**
+     * Returns the average occupation of the businesses of each type.
+     *
+     * @return the occupation percentages of the SMALL, MEDIUM and BIG businesses,
+     *         zero for a type without businesses
+     */
+    List<Integer> getBusinessesOccupation();
+
+    /**
+     * Returns the aggregate figures of a zone, in constant time.
+     *
+     * @param zone the id of the zone
+     * @return the summary of the zone, empty for an unknown zone
+     */
+    ZoneSummary getZoneSummary(int zone);
+}
@@ -0,0 +1,22 @@
+package unibo.citysimulation.model.statistics.api;
+
+/**
+ * The aggregate figures of a zone at a moment of the simulation.
+ *
+ * @param residents   the number of people living in the zone
+ * @param employed    the number of people living in the zone that have a job
+ * @param businesses  the number of businesses in the zone
+ * @param averagePay  the total pay of the employees of the businesses of the
+ *                    zone divided by the number of businesses, zero if there are
+ *                    none
+ * @param directLines the number of transport lines with an end in the zone
+ * @param present     the number of people currently in the zone, at home or at
+ *                    work
+ */
+public record ZoneSummary(int residents, int employed, int businesses, double averagePay, int directLines,
+        int present) {
+    /**
+     * The summary of a zone without people, businesses or lines.
+     */
+    public static final ZoneSummary EMPTY = new ZoneSummary(0, 0, 0, 0, 0, 0);
+}
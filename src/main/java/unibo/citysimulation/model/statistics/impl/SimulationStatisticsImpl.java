@@ -0,0 +1,306 @@
+package unibo.citysimulation.model.statistics.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+import unibo.citysimulation.model.statistics.api.ZoneSummary;
+
+/**
+ * Implementation of {@link SimulationStatistics} based on counters.
+ * The counters are atomic, since people change state on the threads of the
+ * parallel mode while the charts read them on another thread.
+ * All the businesses of a type have the same size, so their average occupation
+ * is the number of employees over the capacity of the type.
+ * The figures of the zones are kept in one counter per zone, so the summary of
+ * a zone is read in constant time; the events of the zones outside the table
+ * are ignored. The total pay of a zone is a double stored as its bits, updated
+ * with a compare and set loop.
+ */
+public final class SimulationStatisticsImpl implements SimulationStatistics {
+    private static final double PERCENT = 100.0;
+    private static final int BUSINESS_TYPES = BusinessType.values().length;
+
+    private final AtomicInteger population = new AtomicInteger();
+    private final AtomicIntegerArray stateCounts = new AtomicIntegerArray(PersonState.values().length);
+    private final AtomicLongArray employees = new AtomicLongArray(BUSINESS_TYPES);
+    private final AtomicLongArray capacities = new AtomicLongArray(BUSINESS_TYPES);
+    private final int zones;
+    private final AtomicIntegerArray residents;
+    private final AtomicIntegerArray employed;
+    private final AtomicIntegerArray businesses;
+    private final AtomicLongArray payTotals;
+    private final AtomicIntegerArray directLines;
+    private final AtomicIntegerArray present;
+
+    /**
+     * Constructs the statistics of a simulation without zones.
+     */
+    public SimulationStatisticsImpl() {
+        this(0);
+    }
+
+    /**
+     * Constructs the statistics of a simulation with the given number of zones,
+     * whose ids go from zero to the number of zones excluded.
+     *
+     * @param zones the number of zones
+     * @throws IllegalArgumentException if the number of zones is negative
+     */
+    public SimulationStatisticsImpl(final int zones) {
+        if (zones < 0) {
+            throw new IllegalArgumentException("The number of zones cannot be negative: " + zones);
+        }
+        this.zones = zones;
+        residents = new AtomicIntegerArray(zones);
+        employed = new AtomicIntegerArray(zones);
+        businesses = new AtomicIntegerArray(zones);
+        payTotals = new AtomicLongArray(zones);
+        directLines = new AtomicIntegerArray(zones);
+        present = new AtomicIntegerArray(zones);
+    }
+
+    /**
+     * Records a new person in the given state.
+     *
+     * @param state the initial state of the person
+     */
+    @Override
+    public void addPerson(final PersonState state) {
+        population.incrementAndGet();
+        stateCounts.incrementAndGet(state.ordinal());
+    }
+
+    /**
+     * Records the change of state of a person.
+     *
+     * @param oldState the previous state of the person
+     * @param newState the new state of the person
+     */
+    @Override
+    public void changeState(final PersonState oldState, final PersonState newState) {
+        if (oldState != newState) {
+            stateCounts.decrementAndGet(oldState.ordinal());
+            stateCounts.incrementAndGet(newState.ordinal());
+        }
+    }
+
+    /**
+     * Records a new business.
+     *
+     * @param type         the type of the business
+     * @param employees    the current number of employees of the business
+     * @param maxEmployees the maximum number of employees of the business
+     */
+    @Override
+    public void addBusiness(final BusinessType type, final int employees, final int maxEmployees) {
+        this.employees.addAndGet(type.ordinal(), employees);
+        capacities.addAndGet(type.ordinal(), maxEmployees);
+    }
+
+    /**
+     * Records a change of the number of employees of a business.
+     *
+     * @param type  the type of the business
+     * @param delta the number of hired employees, negative for the fired ones
+     */
+    @Override
+    public void changeEmployees(final BusinessType type, final int delta) {
+        employees.addAndGet(type.ordinal(), delta);
+    }
+
+    /**
+     * Records a new resident of a zone, at home and so present in the zone.
+     *
+     * @param zone the id of the residence zone
+     */
+    @Override
+    public void addResident(final int zone) {
+        if (isZone(zone)) {
+            residents.incrementAndGet(zone);
+            present.incrementAndGet(zone);
+        }
+    }
+
+    /**
+     * Records that a resident of a zone found or lost a job.
+     *
+     * @param zone     the id of the residence zone
+     * @param employed whether the resident now has a job
+     */
+    @Override
+    public void changeEmployment(final int zone, final boolean employed) {
+        if (isZone(zone)) {
+            this.employed.addAndGet(zone, employed ? 1 : -1);
+        }
+    }
+
+    /**
+     * Records a person leaving a zone for another one.
+     *
+     * @param fromZone the id of the zone left, or a negative value if the
+     *                 person was in no zone
+     * @param toZone   the id of the zone reached, or a negative value if the
+     *                 person is in no zone
+     */
+    @Override
+    public void changePresence(final int fromZone, final int toZone) {
+        if (fromZone == toZone) {
+            return;
+        }
+        if (isZone(fromZone)) {
+            present.decrementAndGet(fromZone);
+        }
+        if (isZone(toZone)) {
+            present.incrementAndGet(toZone);
+        }
+    }
+
+    /**
+     * Records a new business of a zone.
+     *
+     * @param zone      the id of the zone of the business
+     * @param employees the current number of employees of the business
+     * @param pay       the pay of an employee of the business
+     */
+    @Override
+    public void addZoneBusiness(final int zone, final int employees, final double pay) {
+        if (isZone(zone)) {
+            businesses.incrementAndGet(zone);
+            addPay(zone, employees * pay);
+        }
+    }
+
+    /**
+     * Records the removal of a business of a zone.
+     *
+     * @param zone      the id of the zone of the business
+     * @param employees the current number of employees of the business
+     * @param pay       the pay of an employee of the business
+     */
+    @Override
+    public void removeZoneBusiness(final int zone, final int employees, final double pay) {
+        if (isZone(zone)) {
+            businesses.decrementAndGet(zone);
+            addPay(zone, -employees * pay);
+        }
+    }
+
+    /**
+     * Records a change of the number of employees of a business of a zone.
+     *
+     * @param zone  the id of the zone of the business
+     * @param delta the number of hired employees, negative for the fired ones
+     * @param pay   the pay of an employee of the business
+     */
+    @Override
+    public void changeZoneEmployees(final int zone, final int delta, final double pay) {
+        if (isZone(zone)) {
+            addPay(zone, delta * pay);
+        }
+    }
+
+    private void addPay(final int zone, final double amount) {
+        long bits;
+        do {
+            bits = payTotals.get(zone);
+        } while (!payTotals.compareAndSet(zone, bits,
+                Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + amount)));
+    }
+
+    /**
+     * Records a transport line with an end in a zone.
+     *
+     * @param zone the id of the zone
+     */
+    @Override
+    public void addDirectLine(final int zone) {
+        if (isZone(zone)) {
+            directLines.incrementAndGet(zone);
+        }
+    }
+
+    private boolean isZone(final int zone) {
+        return zone >= 0 && zone < zones;
+    }
+
+    /**
+     * @return the number of people of the simulation.
+     */
+    @Override
+    public int getPopulation() {
+        return population.get();
+    }
+
+    /**
+     * @param state the state to count
+     * @return the number of people in the given state.
+     */
+    @Override
+    public int getStateCount(final PersonState state) {
+        return stateCounts.get(state.ordinal());
+    }
+
+    /**
+     * Returns the percentage of people in each state.
+     *
+     * @return the percentages of people AT_HOME, MOVING and WORKING, or zeros if
+     *         there are no people
+     */
+    @Override
+    public List<Integer> getPeopleStatePercentages() {
+        return List.of(
+                statePercentage(PersonState.AT_HOME),
+                statePercentage(PersonState.MOVING),
+                statePercentage(PersonState.WORKING));
+    }
+
+    private int statePercentage(final PersonState state) {
+        final int people = population.get();
+        return people == 0 ? 0 : (int) (getStateCount(state) * PERCENT / people);
+    }
+
+    /**
+     * Returns the average occupation of the businesses of each type.
+     *
+     * @return the occupation percentages of the SMALL, MEDIUM and BIG businesses,
+     *         zero for a type without businesses
+     */
+    @Override
+    public List<Integer> getBusinessesOccupation() {
+        return List.of(
+                occupation(BusinessType.SMALL),
+                occupation(BusinessType.MEDIUM),
+                occupation(BusinessType.BIG));
+    }
+
+    private int occupation(final BusinessType type) {
+        final long capacity = capacities.get(type.ordinal());
+        return capacity == 0 ? 0 : (int) (employees.get(type.ordinal()) * PERCENT / capacity);
+    }
+
+    /**
+     * Returns the aggregate figures of a zone, in constant time.
+     *
+     * @param zone the id of the zone
+     * @return the summary of the zone, empty for an unknown zone
+     */
+    @Override
+    public ZoneSummary getZoneSummary(final int zone) {
+        if (!isZone(zone)) {
+            return ZoneSummary.EMPTY;
+        }
+        final int businessCount = businesses.get(zone);
+        return new ZoneSummary(
+                residents.get(zone),
+                employed.get(zone),
+                businessCount,
+                businessCount == 0 ? 0 : Double.longBitsToDouble(payTotals.get(zone)) / businessCount,
+                directLines.get(zone),
+                present.get(zone));
+    }
+}
@@ -9,6 +9,9 @@ import unibo.citysimulation.utilities.Pair;
  * Represents a transport line within the city simulation.
  * Each transport line has a name, capacity, and duration.
  * It also maintains the number of people in line and can calculate the congestion.
+ * People getting on a line first join its boarding queue, which lets a limited
+ * number of them on the line at every clock tick, in order of arrival.
+ * Implementations must be safe to update from many threads at once.
  */
 public interface TransportLine {
     /**
@@ -25,6 +28,31 @@ public interface TransportLine {
      */
     double getCongestion();
 
+    /**
+     * Records the current congestion in the history of the line.
+     * It must be called once per clock tick.
+     */
+    void sampleCongestion();
+
+    /**
+     * Returns a percentile of the congestion recorded in the last minutes.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @param minutes    the simulated minutes to look back, at most a day
+     * @return the percentile of the congestion, or the current congestion if
+     *         none has been recorded yet
+     */
+    double getCongestionPercentile(double percentile, int minutes);
+
+    /**
+     * Returns the highest congestion recorded in the last minutes.
+     *
+     * @param minutes the simulated minutes to look back, at most a day
+     * @return the highest congestion, or the current congestion if none has
+     *         been recorded yet
+     */
+    double getMaxCongestion(int minutes);
+
     /**
      * Returns the duration of the transport line.
      *
@@ -32,13 +60,29 @@ public interface TransportLine {
      */
     int getDuration();
     /**
-     * Increments the number of people in line by one.
+     * Increments the number of people in line by one, adding the person to the
+     * end of the boarding queue.
      */
     void incrementPersonInLine();
     /**
      * Decrements the number of people in line by one.
+     * A person on the line is removed first, or one still in the queue if
+     * nobody has boarded.
      */
     void decrementPersonInLine();
+    /**
+     * Adds the given number of people to the end of the boarding queue.
+     *
+     * @param count the number of people getting on the line
+     */
+    void addPersonsInLine(int count);
+    /**
+     * Removes the given number of people from the line, first among the ones on
+     * board and then among the ones in the boarding queue.
+     *
+     * @param count the number of people getting off the line
+     */
+    void removePersonsInLine(int count);
     /**
      * Returns the capacity of the transport line.
      *
@@ -52,13 +96,54 @@ public interface TransportLine {
      */
     Pair<Zone, Zone> getLink();
     /**
-     * Returns the number of people in line.
+     * Returns the number of people in line, the ones still in the boarding queue
+     * included.
      *
      * @return the number of people in line
      */
     int getPersonInLine();
     /**
-     *  Resets the personInLine field.
+     * Returns the number of people waiting in the boarding queue.
+     *
+     * @return the length of the boarding queue
+     */
+    int getQueueLength();
+    /**
+     * Returns the total number of people who got on the line.
+     *
+     * @return the number of boardings since the line was created
+     */
+    long getBoardings();
+    /**
+     * Returns the total number of people who got off the line.
+     *
+     * @return the number of leavings since the line was created
+     */
+    long getLeavings();
+    /**
+     * Returns the number of people the line can take on per simulated minute,
+     * so that the people on it never exceed the capacity.
+     *
+     * @return the throughput of the transport line
+     */
+    double getThroughput();
+    /**
+     * Returns how long a person joining the boarding queue now waits before
+     * getting on the line, the time riders need to get off a full line
+     * included.
+     *
+     * @return the waiting time in seconds, a whole number of clock ticks
+     */
+    int getQueueWait();
+    /**
+     * Lets on the line the people at the front of the boarding queue, as many
+     * as the line can take in a clock tick and while there is room on it.
+     * It must be called once per clock tick.
+     */
+    void processQueue();
+    /**
+     *  Resets the personInLine field, emptying the boarding queue and the
+     *  congestion history.
      * 
      */
     void resetPersonInLine();
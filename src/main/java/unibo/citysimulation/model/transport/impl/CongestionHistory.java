@@ -0,0 +1,162 @@
+package unibo.citysimulation.model.transport.impl;
+
+/**
+ * The last congestion samples of a transport line, kept in a primitive ring
+ * buffer of fixed capacity.
+ * Adding a sample takes constant time and allocates nothing; when the buffer is
+ * full the oldest sample is overwritten. The queries look at a window of the
+ * most recent samples: the percentiles are found with a quickselect on a copy
+ * of the window, in time linear in its size, and the scratch array is reused
+ * between queries.
+ * The methods are synchronized, since the history is written by the clock
+ * thread and may be read by the view; they are never contended in practice.
+ */
+public final class CongestionHistory {
+    private static final double PERCENT = 100.0;
+
+    private final double[] samples;
+    private final double[] scratch;
+    private int next;
+    private int size;
+
+    /**
+     * Constructs an empty history.
+     *
+     * @param capacity the maximum number of samples kept
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public CongestionHistory(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.samples = new double[capacity];
+        this.scratch = new double[capacity];
+    }
+
+    /**
+     * Adds a sample, dropping the oldest one if the history is full.
+     *
+     * @param congestion the congestion of the line, as a percentage
+     */
+    public synchronized void add(final double congestion) {
+        samples[next] = congestion;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    /**
+     * Removes all the samples.
+     */
+    public synchronized void clear() {
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * @return the maximum number of samples kept.
+     */
+    public int getCapacity() {
+        return samples.length;
+    }
+
+    /**
+     * @return the number of samples kept.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns a percentile of the most recent samples, using the nearest-rank
+     * definition: the 50th percentile is the median and the 100th the maximum.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @param window     the number of most recent samples to look at; all the
+     *                   samples are used if there are fewer
+     * @return the percentile of the samples in the window
+     * @throws IllegalArgumentException if the percentile is out of range or the
+     *                                  window is not positive
+     * @throws IllegalStateException    if there are no samples
+     */
+    public synchronized double percentile(final double percentile, final int window) {
+        if (percentile < 0 || percentile > PERCENT) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100: " + percentile);
+        }
+        final int count = windowSize(window);
+        final int rank = Math.max(1, (int) Math.ceil(percentile / PERCENT * count));
+        copyWindow(count);
+        return select(count, rank - 1);
+    }
+
+    /**
+     * Returns the highest of the most recent samples.
+     *
+     * @param window the number of most recent samples to look at; all the
+     *               samples are used if there are fewer
+     * @return the highest sample in the window
+     * @throws IllegalArgumentException if the window is not positive
+     * @throws IllegalStateException    if there are no samples
+     */
+    public synchronized double max(final int window) {
+        final int count = windowSize(window);
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 1; i <= count; i++) {
+            max = Math.max(max, samples[Math.floorMod(next - i, samples.length)]);
+        }
+        return max;
+    }
+
+    private int windowSize(final int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("The window must be positive: " + window);
+        }
+        if (size == 0) {
+            throw new IllegalStateException("No congestion samples");
+        }
+        return Math.min(window, size);
+    }
+
+    private void copyWindow(final int count) {
+        final int start = Math.floorMod(next - count, samples.length);
+        final int firstPart = Math.min(count, samples.length - start);
+        System.arraycopy(samples, start, scratch, 0, firstPart);
+        System.arraycopy(samples, 0, scratch, firstPart, count - firstPart);
+    }
+
+    /**
+     * Finds the k-th smallest of the first count values of the scratch array,
+     * partially reordering them.
+     */
+    private double select(final int count, final int k) {
+        int left = 0;
+        int right = count - 1;
+        while (left < right) {
+            final double pivot = scratch[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (scratch[i] < pivot) {
+                    i++;
+                }
+                while (scratch[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    final double tmp = scratch[i];
+                    scratch[i] = scratch[j];
+                    scratch[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return scratch[k];
+    }
+}
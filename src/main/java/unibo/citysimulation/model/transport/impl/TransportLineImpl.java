@@ -3,16 +3,42 @@ package unibo.citysimulation.model.transport.impl;
 import unibo.citysimulation.utilities.Pair;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Represents a transport line within the city simulation.
+ * The line takes on at most {@code capacity / duration} people per simulated
+ * minute, so that by Little's law the people on it never exceed the capacity;
+ * the others wait in a FIFO boarding queue. The queue only keeps its length:
+ * since it is served in batches at every clock tick, the wait of a person is
+ * known from the length of the queue when they join it.
+ * The counters are atomic and updated with compare-and-set loops, so people
+ * can get on and off the line from any thread without locks; people are let on
+ * only while there is room, so the people on board never exceed the capacity.
+ * When the line is full the next batch is held back until riders get off,
+ * which the wait of the queue accounts for.
+ * The totals of the people who got on and off are kept in {@link LongAdder}s,
+ * which do not contend when many threads update them.
+ * The congestion is sampled at every clock tick into a {@link CongestionHistory}
+ * holding the last day, to query its percentiles over recent windows.
  */
 public class TransportLineImpl implements TransportLine {
-    private int capacity;
+    private static final int TICK_MINUTES = ConstantAndResourceLoader.MINUTES_IN_A_SECOND;
+    private static final int TICK_SECONDS = TICK_MINUTES * ConstantAndResourceLoader.SECONDS_IN_A_MINUTE;
+    private static final int HISTORY_MINUTES = ConstantAndResourceLoader.SECONDS_IN_A_DAY
+            / ConstantAndResourceLoader.SECONDS_IN_A_MINUTE;
+
+    private volatile int capacity;
     private final String name;
-    private int personInLine;
+    private final AtomicInteger personInLine = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder boardings = new LongAdder();
+    private final LongAdder leavings = new LongAdder();
+    private final CongestionHistory history = new CongestionHistory(HISTORY_MINUTES / TICK_MINUTES);
     private final int duration;
     private final Pair<Zone, Zone> link;
 
@@ -72,31 +98,182 @@ public class TransportLineImpl implements TransportLine {
     }
 
     /**
-     * Returns the number of people in line.
+     * Returns the number of people in line, the ones still in the boarding queue
+     * included.
      *
      * @return the number of people in line
      */
     @Override
     public int getPersonInLine() {
-        return personInLine;
+        return personInLine.get() + queued.get();
+    }
+
+    /**
+     * Returns the number of people waiting in the boarding queue.
+     *
+     * @return the length of the boarding queue
+     */
+    @Override
+    public int getQueueLength() {
+        return queued.get();
+    }
+
+    /**
+     * Returns the total number of people who got on the line, that is who
+     * joined its boarding queue.
+     *
+     * @return the number of boardings since the line was created
+     */
+    @Override
+    public long getBoardings() {
+        return boardings.sum();
+    }
+
+    /**
+     * Returns the total number of people who got off the line.
+     *
+     * @return the number of leavings since the line was created
+     */
+    @Override
+    public long getLeavings() {
+        return leavings.sum();
+    }
+
+    /**
+     * Returns the number of people the line can take on per simulated minute.
+     *
+     * @return the throughput of the transport line
+     */
+    @Override
+    public double getThroughput() {
+        return (double) capacity / Math.max(1, duration);
+    }
+
+    /**
+     * Returns how long a person joining the boarding queue now waits before
+     * getting on the line.
+     * The part of the next batch that does not fit on board is counted as if
+     * it were ahead in the queue, since riders get off at the throughput of
+     * the line and so free that room one clock tick later.
+     *
+     * @return the waiting time in seconds, a whole number of clock ticks
+     */
+    @Override
+    public int getQueueWait() {
+        final int perTick = getBoardingsPerTick();
+        final int heldBack = Math.max(0, personInLine.get() + perTick - capacity);
+        return (queued.get() + heldBack) / perTick * TICK_SECONDS;
+    }
+
+    /**
+     * Lets on the line the people at the front of the boarding queue, as many
+     * as the line can take in a clock tick and while there is room on it.
+     */
+    @Override
+    public void processQueue() {
+        final int leaving = takeUpTo(queued, getBoardingsPerTick());
+        final int admitted = admitUpTo(leaving);
+        if (admitted < leaving) {
+            queued.addAndGet(leaving - admitted);
+        }
+    }
+
+    /**
+     * Adds up to the given number of people on board, without exceeding the
+     * capacity.
+     *
+     * @param count the number of people to let on
+     * @return the number of people let on
+     */
+    private int admitUpTo(final int count) {
+        int current;
+        int admitted;
+        do {
+            current = personInLine.get();
+            admitted = Math.max(0, Math.min(count, capacity - current));
+        } while (admitted > 0 && !personInLine.compareAndSet(current, current + admitted));
+        return admitted;
+    }
+
+    /**
+     * Removes up to the given number from a counter, without going below zero.
+     *
+     * @param counter the counter to decrease
+     * @param count   the number to remove
+     * @return the number removed
+     */
+    private static int takeUpTo(final AtomicInteger counter, final int count) {
+        int current;
+        int taken;
+        do {
+            current = counter.get();
+            taken = Math.min(count, current);
+        } while (taken > 0 && !counter.compareAndSet(current, current - taken));
+        return taken;
+    }
+
+    private int getBoardingsPerTick() {
+        return Math.max(1, capacity * TICK_MINUTES / Math.max(1, duration));
     }
 
     /**
-     * Resets the personInLine field.
+     * Resets the personInLine field, emptying the boarding queue and the
+     * congestion history.
      */
     @Override
     public void resetPersonInLine() {
-        personInLine = 0;
+        personInLine.set(0);
+        queued.set(0);
+        history.clear();
     }
 
     /**
      * Returns the congestion of the transport line as a percentage of the capacity.
+     * The people in the boarding queue are counted too, so a line with a long
+     * queue is more than 100% congested.
      *
      * @return the congestion of the transport line
      */
     @Override
     public double getCongestion() {
-        return (double) personInLine * 100 / capacity;
+        return (double) getPersonInLine() * 100 / capacity;
+    }
+
+    /**
+     * Records the current congestion in the history of the line.
+     */
+    @Override
+    public void sampleCongestion() {
+        history.add(getCongestion());
+    }
+
+    /**
+     * Returns a percentile of the congestion recorded in the last minutes.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @param minutes    the simulated minutes to look back, at most a day
+     * @return the percentile of the congestion, or the current congestion if
+     *         none has been recorded yet
+     */
+    @Override
+    public double getCongestionPercentile(final double percentile, final int minutes) {
+        return history.size() == 0 ? getCongestion() : history.percentile(percentile, toSamples(minutes));
+    }
+
+    /**
+     * Returns the highest congestion recorded in the last minutes.
+     *
+     * @param minutes the simulated minutes to look back, at most a day
+     * @return the highest congestion, or the current congestion if none has
+     *         been recorded yet
+     */
+    @Override
+    public double getMaxCongestion(final int minutes) {
+        return history.size() == 0 ? getCongestion() : history.max(toSamples(minutes));
+    }
+
+    private static int toSamples(final int minutes) {
+        return Math.max(1, minutes / TICK_MINUTES);
     }
 
     /**
@@ -120,23 +297,45 @@ public class TransportLineImpl implements TransportLine {
     }
 
     /**
-     * Increments the number of people in line by one.
+     * Increments the number of people in line by one, adding the person to the
+     * end of the boarding queue.
      */
     @Override
     public void incrementPersonInLine() {
-        if (personInLine < capacity) {
-            personInLine++;
-        }
+        addPersonsInLine(1);
     }
 
     /**
-     * Decrements the number of people in line by one.
+     * Decrements the number of people in line by one, removing a person on the
+     * line or, if nobody has boarded, one in the boarding queue.
      */
     @Override
     public void decrementPersonInLine() {
-        if (personInLine > 0) {
-            personInLine--;
-        }
+        removePersonsInLine(1);
+    }
+
+    /**
+     * Adds the given number of people to the end of the boarding queue.
+     *
+     * @param count the number of people getting on the line
+     */
+    @Override
+    public void addPersonsInLine(final int count) {
+        queued.addAndGet(count);
+        boardings.add(count);
+    }
+
+    /**
+     * Removes the given number of people from the line, first among the ones on
+     * board and then among the ones in the boarding queue.
+     *
+     * @param count the number of people getting off the line
+     */
+    @Override
+    public void removePersonsInLine(final int count) {
+        final int onBoard = takeUpTo(personInLine, count);
+        final int removed = onBoard + takeUpTo(queued, count - onBoard);
+        leavings.add(removed);
     }
 
     /**
@@ -151,4 +350,21 @@ public class TransportLineImpl implements TransportLine {
                 .average()
                 .orElse(0);
     }
+
+    /**
+     * Calculates the average, across a list of transport lines, of a percentile
+     * of the congestion recorded in the last minutes.
+     *
+     * @param lines      the list of transport lines
+     * @param percentile the percentile, between 0 and 100
+     * @param minutes    the simulated minutes to look back, at most a day
+     * @return the average percentile of the congestion
+     */
+    public static double calculateAverageCongestionPercentile(final List<TransportLine> lines,
+            final double percentile, final int minutes) {
+        return lines.stream()
+                .mapToDouble(line -> line.getCongestionPercentile(percentile, minutes))
+                .average()
+                .orElse(0);
+    }
 }
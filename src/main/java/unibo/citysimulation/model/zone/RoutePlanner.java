@@ -0,0 +1,279 @@
+package unibo.citysimulation.model.zone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import unibo.citysimulation.model.transport.api.TransportLine;
+
+/**
+ * Computes the fastest route between every pair of zones, on the graph whose
+ * nodes are the zones and whose edges are the transport lines, weighted by
+ * their duration.
+ * The shortest paths are computed with a Dijkstra search from every zone, run
+ * in parallel; each search only keeps, for every zone, the line it was reached
+ * with, so the routes are rebuilt on request by walking those lines backwards.
+ * Among routes of the same duration, the one found first is kept, so the result
+ * only depends on the order of the zones and of the lines.
+ */
+public final class RoutePlanner {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int NO_LINE = -1;
+    private static final int NODE_BITS = 32;
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+
+    private final List<Zone> zones;
+    private final List<TransportLine> lines;
+    private final Map<Zone, Integer> zoneIndexes = new HashMap<>();
+    private final int[] lineEnds;
+    private final int[] firstEdge;
+    private final int[] edgeTarget;
+    private final int[] edgeLine;
+    private final int[] edgeDuration;
+    private final int[][] distances;
+    private final int[][] previousLines;
+
+    /**
+     * Builds the graph of the given zones and lines and computes the routes.
+     *
+     * @param zones the zones of the city
+     * @param lines the transport lines between the zones
+     * @throws IllegalArgumentException if a line links a zone that is not in the
+     *                                  list, or has a negative duration
+     */
+    public RoutePlanner(final List<Zone> zones, final List<TransportLine> lines) {
+        this.zones = List.copyOf(zones);
+        this.lines = List.copyOf(lines);
+        IntStream.range(0, zones.size()).forEach(i -> zoneIndexes.putIfAbsent(zones.get(i), i));
+
+        // Adjacency lists in compressed form: the edges of zone i are in
+        // [firstEdge[i], firstEdge[i + 1]), every line giving one edge per direction.
+        final int[] ends = new int[lines.size() * 2];
+        lineEnds = ends;
+        firstEdge = new int[zones.size() + 1];
+        for (int line = 0; line < lines.size(); line++) {
+            if (lines.get(line).getDuration() < 0) {
+                throw new IllegalArgumentException("Negative duration of line " + lines.get(line).getName());
+            }
+            ends[2 * line] = indexOf(lines.get(line).getLink().getFirst());
+            ends[2 * line + 1] = indexOf(lines.get(line).getLink().getSecond());
+            firstEdge[ends[2 * line] + 1]++;
+            firstEdge[ends[2 * line + 1] + 1]++;
+        }
+        Arrays.parallelPrefix(firstEdge, Integer::sum);
+        edgeTarget = new int[ends.length];
+        edgeLine = new int[ends.length];
+        edgeDuration = new int[ends.length];
+        final int[] next = Arrays.copyOf(firstEdge, zones.size());
+        for (int end = 0; end < ends.length; end++) {
+            final int edge = next[ends[end]]++;
+            edgeTarget[edge] = ends[end ^ 1];
+            edgeLine[edge] = end / 2;
+            edgeDuration[edge] = lines.get(end / 2).getDuration();
+        }
+
+        distances = new int[zones.size()][];
+        previousLines = new int[zones.size()][];
+        IntStream.range(0, zones.size()).parallel().forEach(this::search);
+    }
+
+    private int indexOf(final Zone zone) {
+        final Integer index = zoneIndexes.get(zone);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown zone " + zone.name());
+        }
+        return index;
+    }
+
+    private void search(final int source) {
+        final int[] distance = new int[zones.size()];
+        final int[] previousLine = new int[zones.size()];
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(previousLine, NO_LINE);
+        distance[source] = 0;
+
+        // Binary heap of (distance << 32 | zone), with stale entries skipped when popped
+        long[] heap = new long[zones.size()];
+        int size = 0;
+        heap[size++] = source;
+        while (size > 0) {
+            final long top = heap[0];
+            heap[0] = heap[--size];
+            siftDown(heap, size);
+            final int zone = (int) (top & NODE_MASK);
+            final int zoneDistance = (int) (top >>> NODE_BITS);
+            if (zoneDistance > distance[zone]) {
+                continue;
+            }
+            for (int edge = firstEdge[zone]; edge < firstEdge[zone + 1]; edge++) {
+                final int target = edgeTarget[edge];
+                final int targetDistance = zoneDistance + edgeDuration[edge];
+                if (targetDistance < distance[target]) {
+                    distance[target] = targetDistance;
+                    previousLine[target] = edgeLine[edge];
+                    if (size == heap.length) {
+                        heap = Arrays.copyOf(heap, size * 2);
+                    }
+                    heap[size] = (long) targetDistance << NODE_BITS | target;
+                    siftUp(heap, size++);
+                }
+            }
+        }
+        distances[source] = distance;
+        previousLines[source] = previousLine;
+    }
+
+    private static void siftUp(final long[] heap, final int from) {
+        int child = from;
+        while (child > 0 && heap[(child - 1) / 2] > heap[child]) {
+            swap(heap, child, (child - 1) / 2);
+            child = (child - 1) / 2;
+        }
+    }
+
+    private static void siftDown(final long[] heap, final int size) {
+        int parent = 0;
+        while (2 * parent + 1 < size) {
+            int child = 2 * parent + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[parent] <= heap[child]) {
+                return;
+            }
+            swap(heap, parent, child);
+            parent = child;
+        }
+    }
+
+    private static void swap(final long[] heap, final int i, final int j) {
+        final long tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    /**
+     * @return the zones of the graph, in the order of their indexes.
+     */
+    public List<Zone> getZones() {
+        return zones;
+    }
+
+    /**
+     * @param from the index of the departure zone
+     * @param to   the index of the arrival zone
+     * @return whether there is a route between the two zones.
+     */
+    public boolean isReachable(final int from, final int to) {
+        return distances[from][to] != UNREACHABLE;
+    }
+
+    /**
+     * @param from the index of the departure zone
+     * @param to   the index of the arrival zone
+     * @return the sum of the durations of the lines of the fastest route, or
+     *         {@link Integer#MAX_VALUE} if the zones are not connected.
+     */
+    public int getDuration(final int from, final int to) {
+        return distances[from][to];
+    }
+
+    /**
+     * Rebuilds the fastest route between two zones.
+     *
+     * @param from the index of the departure zone
+     * @param to   the index of the arrival zone
+     * @return the lines of the route in travel order, empty if the zones are
+     *         the same or are not connected
+     */
+    public TransportLine[] getRoute(final int from, final int to) {
+        final int[] previousLine = previousLines[from];
+        int length = 0;
+        for (int zone = to; previousLine[zone] != NO_LINE; zone = otherEnd(previousLine[zone], zone)) {
+            length++;
+        }
+        final TransportLine[] route = new TransportLine[length];
+        for (int zone = to; previousLine[zone] != NO_LINE; zone = otherEnd(previousLine[zone], zone)) {
+            route[--length] = lines.get(previousLine[zone]);
+        }
+        return route;
+    }
+
+    /**
+     * Finds the fastest alternatives to the route between two zones that
+     * start with a different line: for every other line leaving the departure
+     * zone, the alternative takes it and then the fastest route from where it
+     * arrives, unless that route goes back through the departure zone.
+     * Each alternative starts with its own line, so they are all different.
+     *
+     * @param from  the index of the departure zone
+     * @param to    the index of the arrival zone
+     * @param count the maximum number of alternatives
+     * @return the lines of the alternatives in travel order, from the fastest
+     */
+    public List<TransportLine[]> getAlternatives(final int from, final int to, final int count) {
+        final List<TransportLine[]> alternatives = new ArrayList<>();
+        if (from == to || !isReachable(from, to)) {
+            return alternatives;
+        }
+        final int firstLine = firstLine(from, to);
+        // The best candidate edges so far, sorted by the duration of their alternative
+        final int[] best = new int[count];
+        final long[] bestDuration = new long[count];
+        int found = 0;
+        for (int edge = firstEdge[from]; edge < firstEdge[from + 1]; edge++) {
+            final int next = edgeTarget[edge];
+            if (edgeLine[edge] == firstLine || !isReachable(next, to) || passesThrough(next, to, from)) {
+                continue;
+            }
+            final long duration = (long) edgeDuration[edge] + distances[next][to];
+            int slot = Math.min(found, count);
+            while (slot > 0 && bestDuration[slot - 1] > duration) {
+                if (slot < count) {
+                    best[slot] = best[slot - 1];
+                    bestDuration[slot] = bestDuration[slot - 1];
+                }
+                slot--;
+            }
+            if (slot < count) {
+                best[slot] = edge;
+                bestDuration[slot] = duration;
+                found++;
+            }
+        }
+        for (int i = 0; i < Math.min(found, count); i++) {
+            final TransportLine[] rest = getRoute(edgeTarget[best[i]], to);
+            final TransportLine[] alternative = new TransportLine[rest.length + 1];
+            alternative[0] = lines.get(edgeLine[best[i]]);
+            System.arraycopy(rest, 0, alternative, 1, rest.length);
+            alternatives.add(alternative);
+        }
+        return alternatives;
+    }
+
+    private int firstLine(final int from, final int to) {
+        final int[] previousLine = previousLines[from];
+        int line = NO_LINE;
+        for (int zone = to; previousLine[zone] != NO_LINE; zone = otherEnd(previousLine[zone], zone)) {
+            line = previousLine[zone];
+        }
+        return line;
+    }
+
+    private boolean passesThrough(final int from, final int to, final int zone) {
+        final int[] previousLine = previousLines[from];
+        for (int current = to; previousLine[current] != NO_LINE; current = otherEnd(previousLine[current], current)) {
+            if (current == zone) {
+                return true;
+            }
+        }
+        return from == zone;
+    }
+
+    private int otherEnd(final int line, final int zone) {
+        return lineEnds[2 * line] == zone ? lineEnds[2 * line + 1] : lineEnds[2 * line];
+    }
+}
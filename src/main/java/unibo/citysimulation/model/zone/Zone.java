@@ -1,11 +1,12 @@
 package unibo.citysimulation.model.zone;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import unibo.citysimulation.utilities.Pair;
 /**
  * Represents a zone in the city simulation.
  * 
+ * @param id              the dense id of the zone, its position in the list of the zones
  * @param name            the name of the zone
  * @param personPercents  the percentage of people in the zone
  * @param businessPercents the percentage of businesses in the zone
@@ -13,18 +14,17 @@ import unibo.citysimulation.utilities.Pair;
  * @param ageMinMax       the minimum and maximum age values in the zone
  * @param boundary        the boundary of the zone
  */
-public record Zone(String name, float personPercents, float businessPercents, Pair<Integer, Integer> wellfareMinMax,
-        Pair<Integer, Integer> ageMinMax, Boundary boundary) {
-    static final Random RANDOM = new Random();
-
+public record Zone(int id, String name, float personPercents, float businessPercents,
+        Pair<Integer, Integer> wellfareMinMax, Pair<Integer, Integer> ageMinMax, Boundary boundary) {
     /**
      * Generates a random position within the zone's boundary.
      * 
+     * @param random the generator to draw the position from
      * @return a Pair object representing the random position (x, y)
      */
-    public Pair<Integer, Integer> getRandomPosition() {
-        final int x = RANDOM.nextInt(boundary.getWidth()) + boundary.getX();
-        final int y = RANDOM.nextInt(boundary.getHeight()) + boundary.getY();
+    public Pair<Integer, Integer> getRandomPosition(final SplittableRandom random) {
+        final int x = random.nextInt(boundary.getWidth()) + boundary.getX();
+        final int y = random.nextInt(boundary.getHeight()) + boundary.getY();
         return new Pair<>(x, y);
     }
 }
@@ -48,7 +48,7 @@ public final class ZoneCreation {
             final JsonArray jsonArray = gson.fromJson(reader, JsonArray.class);
             for (final JsonElement jsonElement : jsonArray) {
                 final JsonObject jsonObject = jsonElement.getAsJsonObject();
-                zones.add(createZone(jsonObject));
+                zones.add(createZone(zones.size(), jsonObject));
             }
             return zones;
         } catch (IOException e) {
@@ -62,11 +62,13 @@ public final class ZoneCreation {
     /**
      * Creates a single zone from a JSON object.
      *
+     * @param id         the id of the zone
      * @param jsonObject the JSON object representing the zone
      * @return the created zone
      */
-    private static Zone createZone(final JsonObject jsonObject) {
+    private static Zone createZone(final int id, final JsonObject jsonObject) {
         return new Zone(
+                id,
                 jsonObject.get("name").getAsString(),
                 jsonObject.get("personPercents").getAsInt(),
                 jsonObject.get("businessPercents").getAsInt(),
@@ -0,0 +1,112 @@
+package unibo.citysimulation.model.zone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A spatial index of the zones of a city, over the normalised coordinates of
+ * the map.
+ * The map is split in a uniform grid of square cells, and every cell keeps the
+ * indexes of the zones whose boundary overlaps it, in the order of the zones;
+ * the boundaries are unboxed once, when the index is built. So finding the
+ * zone of a position only checks the few zones of its cell.
+ */
+public final class ZoneIndex {
+    private static final int MAP_SIZE = 1000;
+    private static final int COLUMNS = 32;
+    private static final int CELL_SIZE = (MAP_SIZE + COLUMNS) / COLUMNS;
+
+    private final List<Zone> zones;
+    private final int[] minX;
+    private final int[] minY;
+    private final int[] maxX;
+    private final int[] maxY;
+    private final int[][] cells = new int[COLUMNS * COLUMNS][];
+
+    /**
+     * Builds the index of the given zones.
+     *
+     * @param zones the zones of the city, in order of precedence when their
+     *              boundaries overlap
+     */
+    public ZoneIndex(final List<Zone> zones) {
+        this.zones = List.copyOf(zones);
+        final int count = zones.size();
+        minX = new int[count];
+        minY = new int[count];
+        maxX = new int[count];
+        maxY = new int[count];
+        final List<List<Integer>> members = new ArrayList<>();
+        for (int cell = 0; cell < cells.length; cell++) {
+            members.add(new ArrayList<>());
+        }
+        for (int zone = 0; zone < count; zone++) {
+            final Boundary boundary = zones.get(zone).boundary();
+            minX[zone] = boundary.getX();
+            minY[zone] = boundary.getY();
+            maxX[zone] = boundary.getX() + boundary.getWidth();
+            maxY[zone] = boundary.getY() + boundary.getHeight();
+            for (int row = bandOf(minY[zone]); row <= bandOf(maxY[zone]); row++) {
+                for (int column = bandOf(minX[zone]); column <= bandOf(maxX[zone]); column++) {
+                    members.get(row * COLUMNS + column).add(zone);
+                }
+            }
+        }
+        Arrays.setAll(cells, cell -> members.get(cell).stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static int bandOf(final int coordinate) {
+        return Math.max(0, Math.min(COLUMNS - 1, coordinate / CELL_SIZE));
+    }
+
+    /**
+     * Finds the zone containing a position, borders included.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the first zone containing the position, or an empty optional if
+     *         it is outside every zone
+     */
+    public Optional<Zone> getZone(final int x, final int y) {
+        for (final int zone : cells[bandOf(y) * COLUMNS + bandOf(x)]) {
+            if (contains(zone, x, y)) {
+                return Optional.of(zones.get(zone));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the zones overlapping a rectangle, borders included.
+     *
+     * @param x1 the minimum x coordinate
+     * @param y1 the minimum y coordinate
+     * @param x2 the maximum x coordinate
+     * @param y2 the maximum y coordinate
+     * @return the zones overlapping the rectangle, in the order of the zones
+     */
+    public List<Zone> getZones(final int x1, final int y1, final int x2, final int y2) {
+        final boolean[] seen = new boolean[zones.size()];
+        for (int row = bandOf(y1); row <= bandOf(y2); row++) {
+            for (int column = bandOf(x1); column <= bandOf(x2); column++) {
+                for (final int zone : cells[row * COLUMNS + column]) {
+                    seen[zone] = seen[zone]
+                            || minX[zone] <= x2 && maxX[zone] >= x1 && minY[zone] <= y2 && maxY[zone] >= y1;
+                }
+            }
+        }
+        final List<Zone> found = new ArrayList<>();
+        for (int zone = 0; zone < seen.length; zone++) {
+            if (seen[zone]) {
+                found.add(zones.get(zone));
+            }
+        }
+        return found;
+    }
+
+    private boolean contains(final int zone, final int x, final int y) {
+        return x >= minX[zone] && x <= maxX[zone] && y >= minY[zone] && y <= maxY[zone];
+    }
+}
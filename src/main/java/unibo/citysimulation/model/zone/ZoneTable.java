@@ -1,66 +1,181 @@
 package unibo.citysimulation.model.zone;
 
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import unibo.citysimulation.model.transport.api.TransportLine;
-import unibo.citysimulation.utilities.Pair;
 /**
- * Private constructor to prevent instantiation.
+ * The routes between the zones of a simulation.
+ * Every route is identified by a dense id, and the table is a matrix indexed by
+ * the {@link Zone#id()} of the departure and arrival zones holding the id of
+ * the route between them, so that a lookup does not allocate nor hash.
+ * Every route between two different zones also has up to
+ * {@link #ALTERNATIVES} alternative routes, to take when the fastest one is
+ * congested; they have ids of their own, and each of them knows the id of the
+ * fastest route it replaces.
+ * The lines and the duration of every route are computed once, when the table
+ * is built by {@link ZoneTableCreation}.
  */
 public final class ZoneTable {
-    private static final Map<Pair<Zone, Zone>, TransportLine[]> ZONE_PAIRS = new HashMap<>();
+    /**
+     * Id of the empty route, between a zone and itself or between zones that
+     * are not connected.
+     */
+    public static final int NO_ROUTE = 0;
+    /**
+     * Maximum number of alternatives of a route.
+     */
+    public static final int ALTERNATIVES = 2;
     private static final int MINUTES_IN_HOUR = 60;
+    private static final int[] NO_ALTERNATIVES = new int[0];
+    private static final ZoneTable EMPTY = new ZoneTable(new int[0][], List.of(List.of()), new int[] {NO_ROUTE},
+            new int[][] {NO_ALTERNATIVES});
+
+    private final int[][] routeIds;
+    private final List<List<TransportLine>> routes;
+    private final int[] durations;
+    private final int[] primaryRoutes;
+    private final int[][] alternatives;
+
+    private ZoneTable(final int[][] routeIds, final List<List<TransportLine>> routes, final int[] primaryRoutes,
+            final int[][] alternatives) {
+        this.routeIds = routeIds;
+        this.routes = routes;
+        this.durations = routes.stream()
+                .mapToInt(route -> route.stream().mapToInt(TransportLine::getDuration).sum() * MINUTES_IN_HOUR)
+                .toArray();
+        this.primaryRoutes = primaryRoutes;
+        this.alternatives = alternatives;
+    }
+
     /**
-     * This class holds the singleton instance of ZoneTable in a final field.
+     * Builds the table of the routes computed by a planner, whose zone indexes
+     * must be the ids of the zones.
+     *
+     * @param planner the planner of the routes
+     * @return the table of the routes
      */
-    private ZoneTable() {
+    static ZoneTable of(final RoutePlanner planner) {
+        final int size = planner.getZones().size();
+        final int[][] routeIds = new int[size][size];
+        final List<List<TransportLine>> routes = new ArrayList<>();
+        final List<Integer> primaryRoutes = new ArrayList<>();
+        final List<int[]> alternatives = new ArrayList<>();
+        routes.add(List.of());
+        primaryRoutes.add(NO_ROUTE);
+        alternatives.add(NO_ALTERNATIVES);
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                final TransportLine[] route = planner.getRoute(from, to);
+                if (route.length > 0) {
+                    final int primary = routes.size();
+                    routeIds[from][to] = primary;
+                    final List<TransportLine[]> others = planner.getAlternatives(from, to, ALTERNATIVES);
+                    final int[] ids = IntStream.range(0, others.size()).map(i -> primary + 1 + i).toArray();
+                    routes.add(List.of(route));
+                    others.forEach(other -> routes.add(List.of(other)));
+                    for (int i = 0; i <= others.size(); i++) {
+                        primaryRoutes.add(primary);
+                        alternatives.add(ids);
+                    }
+                }
+            }
+        }
+        return new ZoneTable(routeIds, routes, primaryRoutes.stream().mapToInt(Integer::intValue).toArray(),
+                alternatives.toArray(new int[0][]));
     }
+
     /**
-     * Returns the singleton instance of ZoneTable.
-     * @return the singleton instance of ZoneTable
+     * Returns a table without zones, where every lookup gives the empty route.
+     *
+     * @return the empty table
      */
-    private static final class Holder {
-        private static final ZoneTable INSTANCE = new ZoneTable();
+    public static ZoneTable empty() {
+        return EMPTY;
     }
+
     /**
-     * Returns the singleton instance of ZoneTable.
-     * @return the singleton instance of ZoneTable
+     * @return the number of zones of the table.
      */
-    public static ZoneTable getInstance() {
-        return Holder.INSTANCE;
+    public int getZoneCount() {
+        return routeIds.length;
     }
+
     /**
-     * Adds a pair of zones and transport lines to the zone table.
-     * @param zone1 the first zone
-     * @param zone2 the second zone
-     * @param transportLine the transport lines connecting the two zones
+     * @return the number of routes, the alternatives and the empty one included.
      */
-    public void addPair(final Zone zone1, final Zone zone2, final TransportLine[] transportLine) {
-        ZONE_PAIRS.put(new Pair<>(zone1, zone2), transportLine);
-        ZONE_PAIRS.put(new Pair<>(zone2, zone1), transportLine); // to ensure the table works both ways
+    public int getRouteCount() {
+        return routes.size();
     }
+
     /**
-     * Returns the transport lines connecting two zones.
-     * @param zone1 the first zone
-     * @param zone2 the second zone
-     * @return the transport lines connecting the two zones
+     * Returns the id of the route between two zones.
+     *
+     * @param from the id of the departure zone
+     * @param to   the id of the arrival zone
+     * @return the id of the route, or {@link #NO_ROUTE} if the zones are the
+     *         same, are not connected or are not in the table
      */
-    public TransportLine[] getTransportLine(final Zone zone1, final Zone zone2) {
-        return ZONE_PAIRS.get(new Pair<Zone, Zone>(zone1, zone2));
+    public int getRouteId(final int from, final int to) {
+        return from >= 0 && from < routeIds.length && to >= 0 && to < routeIds.length
+                ? routeIds[from][to]
+                : NO_ROUTE;
     }
+
     /**
-     * Returns the duration of a trip given the transport lines.
-     * @param transportLines the transport lines
-     * @return the duration of the trip
+     * Returns the id of the route between two zones.
+     *
+     * @param from the departure zone
+     * @param to   the arrival zone
+     * @return the id of the route, or {@link #NO_ROUTE} if the zones are the
+     *         same, are not connected or are not in the table
      */
-    public int getTripDuration(final TransportLine[] transportLines) {
-        return Arrays.stream(transportLines)
-                             .mapToInt(TransportLine::getDuration)
-                             .map(duration -> duration * MINUTES_IN_HOUR)
-                             .sum();
+    public int getRouteId(final Zone from, final Zone to) {
+        return getRouteId(from.id(), to.id());
+    }
+
+    /**
+     * @param routeId the id of the route
+     * @return the transport lines of the route, in travel order.
+     */
+    public List<TransportLine> getRouteLines(final int routeId) {
+        return routes.get(routeId);
+    }
+
+    /**
+     * @param routeId the id of the route
+     * @return the duration of the route in seconds.
+     */
+    public int getRouteDuration(final int routeId) {
+        return durations[routeId];
+    }
+
+    /**
+     * @param routeId the id of a route or of one of its alternatives
+     * @return the id of the fastest route between the same zones.
+     */
+    public int getPrimaryRoute(final int routeId) {
+        return primaryRoutes[routeId];
     }
-}
 
+    /**
+     * @param routeId the id of a route or of one of its alternatives
+     * @return the number of alternatives of the fastest route between the same
+     *         zones, at most {@link #ALTERNATIVES}.
+     */
+    public int getAlternativeCount(final int routeId) {
+        return alternatives[routeId].length;
+    }
+
+    /**
+     * @param routeId the id of a route or of one of its alternatives
+     * @param index   the index of the alternative, from the fastest
+     * @return the id of the alternative of the fastest route between the same
+     *         zones.
+     */
+    public int getAlternative(final int routeId, final int index) {
+        return alternatives[routeId][index];
+    }
+}
@@ -4,40 +4,30 @@ import java.util.List;
 
 import unibo.citysimulation.model.transport.api.TransportLine;
 /**
- * This class creates and adds pairs of zones and transport lines to the zone table.
+ * This class creates the zone table of a simulation.
  */
 public final class ZoneTableCreation {
-    private static final int TRANSPORT_LINE_0 = 0;
-    private static final int TRANSPORT_LINE_1 = 1;
-    private static final int TRANSPORT_LINE_2 = 2;
-    private static final int TRANSPORT_LINE_3 = 3;
-    private static final int TRANSPORT_LINE_4 = 4;
-    private static final int TRANSPORT_LINE_5 = 5;
-    private static final int TRANSPORT_LINE_6 = 6;
     private ZoneTableCreation() {
     }
 
     /**
-     * Creates and adds pairs of zones and transport lines to the zone table.
+     * Creates the zone table of the given zones and transport lines.
+     * Every pair of connected zones gets its fastest route, computed by a
+     * {@link RoutePlanner} on the graph of the transport lines.
      * 
-     * @param zones      the list of zones
+     * @param zones      the list of zones, in the order of their ids
      * @param transports the list of transport lines
+     * @return the zone table
+     * @throws IllegalArgumentException if the ids of the zones are not their
+     *                                  positions in the list
      */
-    public static void createAndAddPairs(final List<Zone> zones, final List<TransportLine> transports) {
-        final ZoneTable zoneTable = ZoneTable.getInstance();
-        zoneTable.addPair(zones.get(0), zones.get(1), new TransportLine[]{transports.get(TRANSPORT_LINE_0)});
-        zoneTable.addPair(zones.get(0), zones.get(2), new TransportLine[]{transports.get(TRANSPORT_LINE_1)});
-        zoneTable.addPair(zones.get(0), zones.get(3), new TransportLine[]{transports.get(TRANSPORT_LINE_2)});
-        zoneTable.addPair(zones.get(0), zones.get(4), new TransportLine[]{transports.get(TRANSPORT_LINE_3)});
-        zoneTable.addPair(zones.get(1), zones.get(2), new TransportLine[]{transports.get(TRANSPORT_LINE_0),
-            transports.get(TRANSPORT_LINE_1)});
-        zoneTable.addPair(zones.get(1), zones.get(3), new TransportLine[]{transports.get(TRANSPORT_LINE_4),
-            transports.get(TRANSPORT_LINE_6)});
-        zoneTable.addPair(zones.get(1), zones.get(4), new TransportLine[]{transports.get(TRANSPORT_LINE_4)});
-        zoneTable.addPair(zones.get(2), zones.get(3), new TransportLine[]{transports.get(TRANSPORT_LINE_5)});
-        zoneTable.addPair(zones.get(2), zones.get(4), new TransportLine[]{transports.get(TRANSPORT_LINE_5),
-            transports.get(TRANSPORT_LINE_6)});
-        zoneTable.addPair(zones.get(3), zones.get(4), new TransportLine[]{transports.get(TRANSPORT_LINE_6)});
+    public static ZoneTable createZoneTable(final List<Zone> zones, final List<TransportLine> transports) {
+        for (int i = 0; i < zones.size(); i++) {
+            if (zones.get(i).id() != i) {
+                throw new IllegalArgumentException("Zone " + zones.get(i).name() + " has id "
+                        + zones.get(i).id() + " instead of " + i);
+            }
+        }
+        return ZoneTable.of(new RoutePlanner(zones, transports));
     }
 }
-
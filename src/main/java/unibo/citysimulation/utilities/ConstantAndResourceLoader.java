@@ -155,6 +155,36 @@ public final class ConstantAndResourceLoader extends ClassLoader {
 
     public static final int PERC_BUSINESS = 10;
 
+    /**
+     * Maximum number of frames per second drawn by the view.
+     */
+    public static final int RENDER_FPS = 30;
+
+    /**
+     * Maximum number of people drawn one by one on the map; a sample is drawn above it.
+     */
+    public static final int LOD_MAX_DOTS = 5000;
+
+    /**
+     * Minimum number of people drawn one by one on the map; the density is drawn when fewer would fit the budget.
+     */
+    public static final int LOD_MIN_DOTS = 500;
+
+    /**
+     * Population above which the people are drawn as a heatmap of their density.
+     */
+    public static final int LOD_MAX_SAMPLED_PEOPLE = 200_000;
+
+    /**
+     * Time allowed to paint the people of a frame, in milliseconds: half of a frame.
+     */
+    public static final int LOD_PAINT_BUDGET_MILLIS = 1000 / RENDER_FPS / 2;
+
+    /**
+     * Distance in pixels from a click on the map within which a person or a business is inspected.
+     */
+    public static final int PICK_RADIUS_PIXELS = 6;
+
     /**
      * Returns a list of speeds.
      *
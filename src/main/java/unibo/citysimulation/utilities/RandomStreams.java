@@ -0,0 +1,101 @@
+package unibo.citysimulation.utilities;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source of all the randomness of a simulation, derived from a single root seed.
+ * Every subsystem asks for its own {@link SplittableRandom} stream by name, and
+ * the stream only depends on the root seed and on the name, not on the order in
+ * which the streams are created, so a seed reproduces a whole run.
+ * The static methods implement the SplitMix64 generator used by
+ * {@link SplittableRandom}, so that large populations can keep one stream per
+ * person as a single long instead of an object.
+ */
+public final class RandomStreams {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_MULTIPLIER_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94d049bb133111ebL;
+    private static final int MIX_SHIFT_1 = 30;
+    private static final int MIX_SHIFT_2 = 27;
+    private static final int MIX_SHIFT_3 = 31;
+    private static final int INT_BITS = 32;
+
+    private final long seed;
+
+    /**
+     * Constructs the streams of a simulation with the given root seed.
+     *
+     * @param seed the root seed
+     */
+    public RandomStreams(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return the root seed of the simulation.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns a new stream for the given subsystem.
+     *
+     * @param subsystem the name of the subsystem
+     * @return a generator that only depends on the root seed and on the name
+     */
+    public SplittableRandom stream(final String subsystem) {
+        return new SplittableRandom(seedFor(subsystem));
+    }
+
+    /**
+     * Returns the seed of the given subsystem, to derive further streams from it.
+     *
+     * @param subsystem the name of the subsystem
+     * @return the seed of the subsystem
+     */
+    public long seedFor(final String subsystem) {
+        return mix(seed ^ mix(subsystem.hashCode() * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Returns the initial state of the stream with the given index derived from a
+     * seed, for example the stream of a person or of a partition.
+     *
+     * @param seed  the seed to derive from
+     * @param index the index of the stream
+     * @return the initial state of the stream
+     */
+    public static long initialState(final long seed, final long index) {
+        return mix(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Advances a stream state, as {@link SplittableRandom} does at every draw.
+     *
+     * @param state the current state
+     * @return the next state
+     */
+    public static long nextState(final long state) {
+        return state + GOLDEN_GAMMA;
+    }
+
+    /**
+     * Draws an int between 0 (inclusive) and the bound (exclusive) from a stream
+     * state, to be called on the state returned by {@link #nextState(long)}.
+     *
+     * @param state the state of the stream
+     * @param bound the upper bound, must be positive
+     * @return the random int
+     */
+    public static int boundedInt(final long state, final int bound) {
+        return (int) (((mix(state) >>> INT_BITS) * bound) >>> INT_BITS);
+    }
+
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> MIX_SHIFT_3);
+    }
+}
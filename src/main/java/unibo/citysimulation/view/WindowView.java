@@ -69,4 +69,11 @@ public interface WindowView {
      * @param info The information of the person.
      */
     void showPersonInfo(String info);
+
+    /**
+     * Shows the information of a business.
+     *
+     * @param info The information of the business.
+     */
+    void showBusinessInfo(String info);
 }
@@ -176,4 +176,9 @@ public final class WindowViewImpl extends JFrame implements WindowView {
     public void showPersonInfo(final String info) {
         JOptionPane.showMessageDialog(this, info, "Person Info", JOptionPane.INFORMATION_MESSAGE);
     }
+
+    @Override
+    public void showBusinessInfo(final String info) {
+        JOptionPane.showMessageDialog(this, info, "Business Info", JOptionPane.INFORMATION_MESSAGE);
+    }
 }
@@ -0,0 +1,101 @@
+package unibo.citysimulation.view.map;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.Serializable;
+
+import unibo.citysimulation.model.map.impl.DensityGrid;
+import unibo.citysimulation.model.map.impl.EntitySnapshot;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+
+/**
+ * Draws the density of the people of a snapshot as a single image with a pixel
+ * per cell of the {@link DensityGrid}, stretched over the map.
+ * The color of a cell mixes the colors of the states of its people, weighted by
+ * their number, and its opacity grows with the square root of the number of
+ * people, relative to the most crowded cell. So drawing the people costs as much
+ * as the number of cells, whatever the population.
+ */
+final class HeatmapLayer implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_ALPHA = 220;
+    private static final int ALPHA_SHIFT = 24;
+    private static final int RED_SHIFT = 16;
+    private static final int GREEN_SHIFT = 8;
+    private static final PersonState[] STATES = PersonState.values();
+
+    private final Color[] stateColors = new Color[STATES.length];
+    private transient BufferedImage image;
+
+    /**
+     * Constructs a layer drawing the people at home in blue and the other ones
+     * in red, like the people drawn one by one.
+     */
+    HeatmapLayer() {
+        for (final PersonState state : STATES) {
+            stateColors[state.ordinal()] = state == PersonState.AT_HOME ? Color.BLUE : Color.RED;
+        }
+    }
+
+    /**
+     * Draws the density of the people of a snapshot over the given area.
+     *
+     * @param g        the graphics to draw on
+     * @param snapshot the snapshot holding the density of the people
+     * @param width    the width of the map
+     * @param height   the height of the map
+     */
+    void draw(final Graphics g, final EntitySnapshot snapshot, final int width, final int height) {
+        if (image == null) {
+            image = new BufferedImage(DensityGrid.COLUMNS, DensityGrid.ROWS, BufferedImage.TYPE_INT_ARGB);
+        }
+        fill(snapshot);
+        final Graphics2D g2 = (Graphics2D) g;
+        final Object interpolation = g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2.drawImage(image, 0, 0, width, height, null);
+        if (interpolation != null) {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        }
+    }
+
+    private void fill(final EntitySnapshot snapshot) {
+        final int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int max = 0;
+        for (int cell = 0; cell < DensityGrid.CELLS; cell++) {
+            max = Math.max(max, total(snapshot, cell));
+        }
+        for (int cell = 0; cell < DensityGrid.CELLS; cell++) {
+            final int total = total(snapshot, cell);
+            if (total == 0) {
+                pixels[cell] = 0;
+                continue;
+            }
+            long red = 0;
+            long green = 0;
+            long blue = 0;
+            for (final PersonState state : STATES) {
+                final int count = snapshot.getDensity(state, cell);
+                final Color color = stateColors[state.ordinal()];
+                red += color.getRed() * count;
+                green += color.getGreen() * count;
+                blue += color.getBlue() * count;
+            }
+            final int alpha = (int) Math.ceil(MAX_ALPHA * Math.sqrt((double) total / max));
+            pixels[cell] = alpha << ALPHA_SHIFT | (int) (red / total) << RED_SHIFT
+                    | (int) (green / total) << GREEN_SHIFT | (int) (blue / total);
+        }
+    }
+
+    private static int total(final EntitySnapshot snapshot, final int cell) {
+        int total = 0;
+        for (final PersonState state : STATES) {
+            total += snapshot.getDensity(state, cell);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,109 @@
+package unibo.citysimulation.view.map;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.io.Serializable;
+
+import unibo.citysimulation.model.map.impl.ImageHandler;
+
+/**
+ * Keeps the map background already scaled to the size of the panel, so that a
+ * repaint only blits it instead of copying and rescaling the whole map.
+ * The background is a {@link VolatileImage} when the panel is on a screen, and
+ * a {@link BufferedImage} otherwise. It is rendered again only when the size
+ * changes, when the image is invalidated or when the screen loses its contents.
+ */
+final class MapBackgroundCache implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ImageHandler imageHandler;
+    private transient Image background;
+    private transient boolean valid;
+
+    /**
+     * Constructs a cache of the image of the given handler.
+     *
+     * @param imageHandler the handler of the map image
+     */
+    MapBackgroundCache(final ImageHandler imageHandler) {
+        this.imageHandler = imageHandler;
+    }
+
+    /**
+     * Marks the background to be rendered again, for example after the map
+     * image has changed.
+     */
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Draws the background scaled to the size of the component.
+     *
+     * @param g         the graphics to draw on
+     * @param component the component the background is drawn on
+     */
+    void draw(final Graphics g, final Component component) {
+        final int width = component.getWidth();
+        final int height = component.getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        final GraphicsConfiguration configuration = component.getGraphicsConfiguration();
+        if (configuration == null) {
+            drawBuffered(g, width, height);
+        } else {
+            drawVolatile(g, configuration, width, height);
+        }
+    }
+
+    private void drawBuffered(final Graphics g, final int width, final int height) {
+        if (!(background instanceof BufferedImage) || !hasSize(width, height)) {
+            background = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            valid = false;
+        }
+        if (!valid) {
+            render(((BufferedImage) background).createGraphics(), width, height);
+        }
+        g.drawImage(background, 0, 0, null);
+    }
+
+    private void drawVolatile(final Graphics g, final GraphicsConfiguration configuration, final int width,
+            final int height) {
+        VolatileImage image;
+        do {
+            final int status = background instanceof VolatileImage && hasSize(width, height)
+                    ? ((VolatileImage) background).validate(configuration)
+                    : VolatileImage.IMAGE_INCOMPATIBLE;
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                background = configuration.createCompatibleVolatileImage(width, height);
+                valid = false;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                valid = false;
+            }
+            image = (VolatileImage) background;
+            if (!valid) {
+                render(image.createGraphics(), width, height);
+            }
+            g.drawImage(image, 0, 0, null);
+        } while (image.contentsLost());
+    }
+
+    private boolean hasSize(final int width, final int height) {
+        return background.getWidth(null) == width && background.getHeight(null) == height;
+    }
+
+    private void render(final Graphics2D g, final int width, final int height) {
+        try {
+            imageHandler.drawImage(g, width, height);
+        } finally {
+            g.dispose();
+        }
+        valid = true;
+    }
+}
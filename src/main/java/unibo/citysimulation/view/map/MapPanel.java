@@ -4,8 +4,8 @@ import java.awt.Color;
 import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
 import java.util.List;
-import java.util.Map;
 
+import unibo.citysimulation.model.map.impl.EntitySnapshotBuffer;
 import unibo.citysimulation.utilities.Pair;
 
 /**
@@ -51,13 +51,13 @@ public interface MapPanel {
         void setLinesColor(List<Color> colors);
 
         /**
-         * Sets the entities to be displayed on the map.
+         * Sets the buffer of the entities to be displayed on the map and repaints
+         * the latest snapshot published in it. The snapshots published later are
+         * drawn by the next repaints.
          *
-         * @param peopleMap      the map of people with their coordinates and colors
-         * @param businessPoints the map of businesses with their coordinates
+         * @param entities the buffer of the snapshots of people and businesses
          */
-        void setEntities(Map<String, Pair<Pair<Integer, Integer>, Color>> peopleMap,
-                        List<Pair<Integer, Integer>> businessPoints);
+        void setEntities(EntitySnapshotBuffer entities);
 
         /**
          * Sets the image to be displayed on the map panel.
@@ -65,4 +65,21 @@ public interface MapPanel {
          * @param image The BufferedImage to set.
          */
         void setImage(BufferedImage image);
+
+        /**
+         * Returns the time taken to paint a person in the last frame where
+         * people were drawn one by one, used to choose the level of detail.
+         * Every measurement is returned once, so that the same frame is not
+         * counted twice.
+         *
+         * @return the time in nanoseconds, or zero if no person was drawn since
+         *         the last call
+         */
+        double takePaintNanosPerPerson();
+
+        /**
+         * Schedules the panel to be drawn again, with the latest snapshot of
+         * the entities and the last colors of the lines.
+         */
+        void repaint();
 }
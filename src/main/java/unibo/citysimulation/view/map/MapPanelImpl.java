@@ -1,6 +1,10 @@
 package unibo.citysimulation.view.map;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import unibo.citysimulation.model.map.impl.EntitySnapshot;
+import unibo.citysimulation.model.map.impl.EntitySnapshotBuffer;
 import unibo.citysimulation.model.map.impl.ImageHandler;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
 import unibo.citysimulation.utilities.Pair;
 import unibo.citysimulation.view.StyledPanel;
 
@@ -13,10 +17,9 @@ import java.awt.image.BufferedImage;
 import java.awt.BasicStroke;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Map;
 import java.util.stream.IntStream;
-import java.util.HashMap;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The class that implements MapPanel interface, here there are all the methods
@@ -26,13 +29,18 @@ public final class MapPanelImpl extends StyledPanel implements MapPanel {
     private static final long serialVersionUID = 1L;
     private static final Integer BASIC_STROKE_SIZE = 6;
     private static final Pair<Integer, Integer> PEOPLE_SIZE = new Pair<>(5, 5);
+    private static final Color BUSINESS_COLOR = new Color(139, 69, 19);
+    private static final int BUSINESS_SIZE = 10;
 
     private final ImageHandler imageHandler = new ImageHandler("/unibo/citysimulation/images/mapImage.png");
+    private final MapBackgroundCache background = new MapBackgroundCache(imageHandler);
+    private final HeatmapLayer heatmap = new HeatmapLayer();
     private List<Pair<Pair<Integer, Integer>, Pair<Integer, Integer>>> linesPointsCoordinates = Collections.emptyList();
     private List<Color> congestionsColorList = Collections.emptyList();
-    private Map<String, Pair<Pair<Integer, Integer>, Color>> peopleMap = Collections.emptyMap();
-    private List<Pair<Integer, Integer>> businessPoints = Collections.emptyList();
+    private transient EntitySnapshotBuffer entities = new EntitySnapshotBuffer();
     private List<String> linesName = Collections.emptyList();
+    // The bits of the paint time of the last frame, zero once it has been taken
+    private final AtomicLong paintNanosPerPerson = new AtomicLong();
 
     /**
      * Constructs a MapPanel with the specified background color.
@@ -52,14 +60,20 @@ public final class MapPanelImpl extends StyledPanel implements MapPanel {
     protected void paintComponent(final Graphics g) {
         super.paintComponent(g);
 
-        g.drawImage(imageHandler.getImage(), 0, 0, getWidth(), getHeight(), this);
+        background.draw(g, this);
 
-        if (!peopleMap.isEmpty()) {
-            drawPeople(g);
+        final EntitySnapshot snapshot = entities.latest();
+        if (snapshot.hasDensity()) {
+            heatmap.draw(g, snapshot, getWidth(), getHeight());
+        } else if (snapshot.getPeopleCount() > 0) {
+            final long start = System.nanoTime();
+            drawPeople(g, snapshot);
+            paintNanosPerPerson.set(Double.doubleToLongBits(
+                    (double) (System.nanoTime() - start) / snapshot.getPeopleCount()));
         }
 
-        if (!businessPoints.isEmpty()) {
-            drawBusinesses(g);
+        if (snapshot.getBusinessCount() > 0) {
+            drawBusinesses(g, snapshot);
         }
 
         if (!linesPointsCoordinates.isEmpty()) {
@@ -99,27 +113,25 @@ public final class MapPanelImpl extends StyledPanel implements MapPanel {
         g2.setFont(originalFont);
     }
 
-    private void drawPeople(final Graphics g) {
+    private void drawPeople(final Graphics g, final EntitySnapshot snapshot) {
         final Graphics2D g2 = (Graphics2D) g;
         g2.setStroke(new BasicStroke(4));
 
-        peopleMap.forEach((name, info) -> {
-            final Pair<Integer, Integer> point = info.getFirst();
-            final Color color = info.getSecond();
-            g2.setColor(color);
-            g2.fillOval(point.getFirst(), point.getSecond(), PEOPLE_SIZE.getFirst(), PEOPLE_SIZE.getSecond());
-        });
+        for (int i = 0; i < snapshot.getPeopleCount(); i++) {
+            g2.setColor(snapshot.getPersonState(i) == PersonState.AT_HOME ? Color.BLUE : Color.RED);
+            g2.fillOval(snapshot.getPersonX(i), snapshot.getPersonY(i), PEOPLE_SIZE.getFirst(),
+                    PEOPLE_SIZE.getSecond());
+        }
     }
 
-    private void drawBusinesses(final Graphics g) {
+    private void drawBusinesses(final Graphics g, final EntitySnapshot snapshot) {
         final Graphics2D g2 = (Graphics2D) g;
         g2.setStroke(new BasicStroke(4));
+        g2.setColor(BUSINESS_COLOR);
 
-        businessPoints.forEach(point -> {
-            final Color color = new Color(139, 69, 19);
-            g2.setColor(color);
-            g2.fillRect(point.getFirst(), point.getSecond(), 10, 10);
-        });
+        for (int i = 0; i < snapshot.getBusinessCount(); i++) {
+            g2.fillRect(snapshot.getBusinessX(i), snapshot.getBusinessY(i), BUSINESS_SIZE, BUSINESS_SIZE);
+        }
     }
 
     @Override
@@ -135,19 +147,25 @@ public final class MapPanelImpl extends StyledPanel implements MapPanel {
     }
 
     @Override
-    public void setEntities(final Map<String, Pair<Pair<Integer, Integer>, Color>> peopleMap,
-            final List<Pair<Integer, Integer>> businessPoints) {
-        this.peopleMap = new HashMap<>(peopleMap);
-        this.businessPoints = new ArrayList<>(businessPoints);
+    @SuppressFBWarnings(value = "EI2", justification = """
+            The buffer is shared on purpose with the model, which publishes the snapshots in it.""")
+    public void setEntities(final EntitySnapshotBuffer entities) {
+        this.entities = entities;
         repaint();
     }
 
     @Override
     public void setImage(final BufferedImage image) {
         imageHandler.setImage(image);
+        background.invalidate();
         repaint();
     }
 
+    @Override
+    public double takePaintNanosPerPerson() {
+        return Double.longBitsToDouble(paintNanosPerPerson.getAndSet(0));
+    }
+
     @Override
     public int getWidth() {
         return this.getSize().width;
@@ -22,11 +22,15 @@ public final class InfoPanel extends StyledPanel {
     private final JLabel numberOfBusiness;
     private final JLabel numberOfAveragePay;
     private final JLabel numberDirectLines;
+    private final JLabel numberOfEmployed;
+    private final JLabel numberOfPresent;
     private static final int COORDINATES_LABEL_GRID_Y = 1;
     private static final int NUMBER_OF_PEOPLE_LABEL_GRID_Y = 2;
     private static final int NUMBER_OF_BUSINESS_LABEL_GRID_Y = 3;
     private static final int NUMBER_OF_AVERAGE_PAY_LABEL_GRID_Y = 4;
     private static final int NUMBER_OF_DIRECT_LINES_LABEL_GRID_Y = 5;
+    private static final int NUMBER_OF_EMPLOYED_LABEL_GRID_Y = 6;
+    private static final int NUMBER_OF_PRESENT_LABEL_GRID_Y = 7;
 
     /**
      * Constructs an InfoPanel with the specified background color.
@@ -75,6 +79,16 @@ public final class InfoPanel extends StyledPanel {
         numberDirectLines.setForeground(Color.BLACK);
         gbc.gridy = NUMBER_OF_DIRECT_LINES_LABEL_GRID_Y;
         add(numberDirectLines, gbc);
+        numberOfEmployed = new JLabel("Employed Residents: ");
+        numberOfEmployed.setFont(new Font(FONT_FAMILY, Font.PLAIN, ConstantAndResourceLoader.INFO_PANEL_FONT_SIZE));
+        numberOfEmployed.setForeground(Color.BLACK);
+        gbc.gridy = NUMBER_OF_EMPLOYED_LABEL_GRID_Y;
+        add(numberOfEmployed, gbc);
+        numberOfPresent = new JLabel("People Present: ");
+        numberOfPresent.setFont(new Font(FONT_FAMILY, Font.PLAIN, ConstantAndResourceLoader.INFO_PANEL_FONT_SIZE));
+        numberOfPresent.setForeground(Color.BLACK);
+        gbc.gridy = NUMBER_OF_PRESENT_LABEL_GRID_Y;
+        add(numberOfPresent, gbc);
     }
 
     /**
@@ -131,4 +145,22 @@ public final class InfoPanel extends StyledPanel {
     public void updateNumberOfDirectLines(final int directLines) {
         numberDirectLines.setText("Number of Direct Lines: " + directLines);
     }
+
+    /**
+     * Updates the number of employed residents displayed on the panel.
+     *
+     * @param employed The number of residents with a job.
+     */
+    public void updateNumberOfEmployed(final int employed) {
+        numberOfEmployed.setText("Employed Residents: " + employed);
+    }
+
+    /**
+     * Updates the number of people currently in the zone displayed on the panel.
+     *
+     * @param present The number of people at home or at work in the zone.
+     */
+    public void updateNumberOfPresent(final int present) {
+        numberOfPresent.setText("People Present: " + present);
+    }
 }
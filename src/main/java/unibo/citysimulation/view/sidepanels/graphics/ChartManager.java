@@ -2,7 +2,7 @@ package unibo.citysimulation.view.sidepanels.graphics;
 
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
 
 import java.awt.Color;
 import java.util.List;
@@ -27,5 +27,5 @@ public interface ChartManager {
      * @param datasets the list of datasets for the charts
      * @return a list of JFreeChart objects
      */
-    List<JFreeChart> createCharts(List<String> names, List<XYSeriesCollection> datasets);
+    List<JFreeChart> createCharts(List<String> names, List<XYDataset> datasets);
 }
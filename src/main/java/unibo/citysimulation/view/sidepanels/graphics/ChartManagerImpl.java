@@ -7,7 +7,6 @@ import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.data.xy.XYDataset;
-import org.jfree.data.xy.XYSeriesCollection;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -25,7 +24,7 @@ public final class ChartManagerImpl implements Serializable, ChartManager {
     private static final Integer GRAPH_RANGE = 105;
 
     @Override
-    public List<JFreeChart> createCharts(final List<String> names, final List<XYSeriesCollection> datasets) {
+    public List<JFreeChart> createCharts(final List<String> names, final List<XYDataset> datasets) {
         return IntStream.range(0, names.size())
                 .mapToObj(i -> createChart(names.get(i), datasets.get(i)))
                 .collect(Collectors.toList());
@@ -60,7 +59,7 @@ public final class ChartManagerImpl implements Serializable, ChartManager {
     public XYLineAndShapeRenderer createRenderer(final int num, final List<Color> colors) {
         final XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
         IntStream.range(0, num).forEach(i -> {
-            renderer.setSeriesPaint(i, colors.get(i));
+            renderer.setSeriesPaint(i, colors.get(i % colors.size()));
             renderer.setSeriesShapesVisible(i, false);
             renderer.setSeriesStroke(i, new BasicStroke(2.0f));
         });
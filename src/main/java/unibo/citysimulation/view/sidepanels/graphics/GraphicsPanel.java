@@ -2,7 +2,7 @@ package unibo.citysimulation.view.sidepanels.graphics;
 
 import java.awt.event.ActionListener;
 import java.util.List;
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
 import java.awt.Color;
 
 /**
@@ -26,7 +26,7 @@ public interface GraphicsPanel {
      *                 corresponds to a chart
      * @param colors   the list of colors for rendering the datasets in the charts
      */
-    void createGraphics(List<String> names, List<XYSeriesCollection> datasets, 
+    void createGraphics(List<String> names, List<XYDataset> datasets, 
             List<Color> colors);
 
     /**
@@ -5,7 +5,7 @@ import unibo.citysimulation.view.StyledPanel;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.plot.XYPlot;
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -87,7 +87,7 @@ public final class GraphicsPanelImpl extends StyledPanel implements GraphicsPane
      * @param colors   The colors for the graphics.
      */
     @Override
-    public void createGraphics(final List<String> names, final List<XYSeriesCollection> datasets,
+    public void createGraphics(final List<String> names, final List<XYDataset> datasets,
             final List<Color> colors) {
 
         final List<XYPlot> plots = chartManager.createCharts(names, datasets).stream()
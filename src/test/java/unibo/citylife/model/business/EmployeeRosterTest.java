@@ -0,0 +1,72 @@
+package unibo.citylife.model.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.impl.EmployeeRoster;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+
+class EmployeeRosterTest {
+    private static final int EMPLOYEES = 10;
+
+    private Business business;
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        final Zone zone = ZoneCreation.createZonesFromFile().get(0);
+        business = new BusinessFactoryImpl().createBusiness(BusinessType.BIG, zone).orElseThrow();
+        employees = IntStream.range(0, EMPLOYEES)
+                .mapToObj(i -> new Employee(new DynamicPersonImpl(new PersonData("person" + i, 30, zone), 0,
+                        Optional.empty()), business.getBusinessData()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testSwapRemove() {
+        final EmployeeRoster roster = new EmployeeRoster(2);
+        roster.addAll(employees);
+        assertEquals(employees, roster);
+        assertTrue(roster.remove(employees.get(3)));
+        assertFalse(roster.remove(employees.get(3)));
+        assertFalse(roster.contains(employees.get(3)));
+        assertEquals(employees.get(EMPLOYEES - 1), roster.get(3));
+        assertEquals(EMPLOYEES - 1, roster.size());
+        roster.removeIf(employee -> employees.indexOf(employee) % 2 == 0);
+        assertEquals(new HashSet<>(List.of(employees.get(1), employees.get(5), employees.get(7), employees.get(9))),
+                new HashSet<>(roster));
+        // An employee removed from a roster can join another one
+        final EmployeeRoster other = new EmployeeRoster(1);
+        other.add(employees.get(0));
+        assertThrows(IllegalArgumentException.class, () -> other.add(employees.get(1)));
+        assertFalse(roster.contains(employees.get(0)));
+    }
+
+    @Test
+    void testLatenessOfNewEmployees() {
+        final int x = business.getBusinessData().position().getFirst();
+        final int y = business.getBusinessData().position().getSecond();
+        employees.forEach(employee -> assertTrue(employee.isLate(x, y)));
+        business.hire(employees.get(0));
+        business.checkEmployeeDelays(business.getBusinessData().openingTime());
+        assertEquals(1, employees.get(0).count());
+    }
+}
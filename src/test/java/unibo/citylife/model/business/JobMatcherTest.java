@@ -0,0 +1,88 @@
+package unibo.citylife.model.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.JobMatcher;
+import unibo.citysimulation.model.business.utilities.BusinessData;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+
+class JobMatcherTest {
+    private static final long SEED = 7;
+    private static final int BUSINESSES = 60;
+    private static final int PEOPLE = 3000;
+
+    private List<Business> businesses;
+    private List<DynamicPerson> people;
+
+    @BeforeEach
+    void setUp() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final List<Zone> zones = ZoneCreation.createZonesFromFile();
+        businesses = new BusinessFactoryImpl(random).createMultipleBusiness(zones, BUSINESSES);
+        people = new ArrayList<>();
+        for (int i = 0; i < PEOPLE; i++) {
+            final Zone zone = zones.get(random.nextInt(zones.size()));
+            people.add(new DynamicPersonImpl(new PersonData("person" + i, 16 + random.nextInt(60), zone), 0,
+                    Optional.empty()));
+        }
+    }
+
+    @Test
+    void testSameMatchesAsScanningTheBusinesses() {
+        final JobMatcher matcher = new JobMatcher(businesses);
+        final int[] hired = new int[businesses.size()];
+        int matched = 0;
+        for (final DynamicPerson person : people) {
+            final Optional<Business> expected = firstFit(person, hired);
+            assertEquals(expected, matcher.match(person));
+            if (expected.isPresent()) {
+                hired[businesses.indexOf(expected.get())]++;
+                matched++;
+            }
+        }
+        assertTrue(matched > 0, "Someone should have been matched");
+        assertEquals(businesses.stream().mapToInt(b -> b.getBusinessData().maxEmployees()).sum() - matched,
+                matcher.getVacancies());
+    }
+
+    @Test
+    void testMatchAllFillsTheVacancies() {
+        final JobMatcher matcher = new JobMatcher(businesses);
+        final List<DynamicPerson> matched = new ArrayList<>();
+        matcher.matchAll(people, (person, business) -> matched.add(person));
+        assertEquals(businesses.stream().mapToInt(b -> b.getBusinessData().maxEmployees()).sum() - matched.size(),
+                matcher.getVacancies());
+        for (final DynamicPerson person : people) {
+            if (!matched.contains(person)) {
+                assertEquals(Optional.empty(), matcher.match(person));
+            }
+        }
+    }
+
+    private Optional<Business> firstFit(final DynamicPerson person, final int[] hired) {
+        for (int i = 0; i < businesses.size(); i++) {
+            final BusinessData data = businesses.get(i).getBusinessData();
+            if (person.getPersonData().age() >= data.minAge() && person.getPersonData().age() <= data.maxAge()
+                    && data.employees().size() + hired[i] < data.maxEmployees()
+                    && !data.zone().equals(person.getPersonData().residenceZone())) {
+                return Optional.of(businesses.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,69 @@
+package unibo.citylife.model.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.utilities.UnemploymentPool;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+
+class UnemploymentPoolTest {
+    private static final int PEOPLE_PER_ZONE = 50;
+
+    private List<Zone> zones;
+    private List<DynamicPerson> people;
+    private UnemploymentPool pool;
+
+    @BeforeEach
+    void setUp() {
+        zones = ZoneCreation.createZonesFromFile();
+        people = new ArrayList<>();
+        for (final Zone zone : zones) {
+            for (int i = 0; i < PEOPLE_PER_ZONE; i++) {
+                people.add(new DynamicPersonImpl(new PersonData("person", 18 + i, zone), 0, Optional.empty()));
+            }
+        }
+        pool = new UnemploymentPool(people);
+    }
+
+    @Test
+    void testAddAndRemove() {
+        assertEquals(people.size(), pool.size());
+        assertFalse(pool.add(people.get(0)));
+        assertTrue(pool.remove(people.get(0)));
+        assertFalse(pool.remove(people.get(0)));
+        assertFalse(pool.contains(people.get(0)));
+        // Removing from the middle of a bucket keeps the others in the pool
+        people.stream().skip(1).limit(PEOPLE_PER_ZONE / 2).forEach(pool::remove);
+        assertEquals(people.size() - 1 - PEOPLE_PER_ZONE / 2, pool.size());
+        assertEquals(new HashSet<>(people.subList(1 + PEOPLE_PER_ZONE / 2, people.size())), new HashSet<>(pool));
+    }
+
+    @Test
+    void testFind() {
+        final Zone excluded = zones.get(0);
+        final List<DynamicPerson> found = pool.find(PEOPLE_PER_ZONE, excluded, 30, 39);
+        assertEquals(10 * (zones.size() - 1), found.size());
+        for (final DynamicPerson person : found) {
+            assertFalse(person.getPersonData().residenceZone().equals(excluded));
+            assertTrue(person.getPersonData().age() >= 30 && person.getPersonData().age() <= 39);
+        }
+        assertEquals(3, pool.find(3, excluded, 0, 100).size());
+        // Nobody is removed by a query
+        assertEquals(people.size(), pool.size());
+        found.forEach(pool::remove);
+        assertTrue(pool.find(PEOPLE_PER_ZONE, excluded, 30, 39).isEmpty());
+    }
+}
@@ -74,6 +74,21 @@ class ClockModelTest {
         clockModel.removeObserver(observer);
     }
 
+    @Test
+    void testFastForward() {
+        final int[] updates = new int[1];
+        clockModel.addObserver((currentTime, currentDay) -> updates[0]++);
+
+        final long ticks = clockModel.fastForward();
+
+        final int ticksPerDay = ConstantAndResourceLoader.SECONDS_IN_A_DAY
+                / (ConstantAndResourceLoader.MINUTES_IN_A_SECOND * ConstantAndResourceLoader.SECONDS_IN_A_MINUTE);
+        assertEquals((long) TOTAL_DAYS * ticksPerDay, ticks);
+        assertEquals(ticks, updates[0]);
+        assertEquals(TOTAL_DAYS + 1, clockModel.getCurrentDay());
+        assertEquals(LocalTime.MIDNIGHT, clockModel.getCurrentTime());
+    }
+
     // Observer test class
     private static final class TestClockObserver implements ClockObserver {
         private final CountDownLatch latch = new CountDownLatch(1);
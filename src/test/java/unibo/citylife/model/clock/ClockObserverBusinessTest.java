@@ -0,0 +1,158 @@
+package unibo.citylife.model.clock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.utilities.BusinessData;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
+import unibo.citysimulation.model.clock.impl.ClockObserverBusiness;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+class ClockObserverBusinessTest {
+    private static final long SEED = 11;
+    private static final int BUSINESSES = 60;
+    private static final int PEOPLE = 1000;
+    private static final int DAYS = 8;
+    private static final LocalTime FIRING_TIME = LocalTime.MIDNIGHT;
+    private static final LocalTime HIRING_TIME = LocalTime.of(23, 0);
+
+    private List<RecordingBusiness> businesses;
+    private ClockObserverBusiness observer;
+
+    @BeforeEach
+    void setUp() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final List<Zone> zones = ZoneCreation.createZonesFromFile();
+        businesses = new ArrayList<>();
+        for (final Business business : new BusinessFactoryImpl(random).createMultipleBusiness(zones, BUSINESSES)) {
+            businesses.add(new RecordingBusiness(business));
+        }
+        // The people never move, so once hired they are late every day and end up fired
+        final List<DynamicPerson> people = new ArrayList<>();
+        for (int i = 0; i < PEOPLE; i++) {
+            final Zone zone = zones.get(random.nextInt(zones.size()));
+            people.add(new DynamicPersonImpl(new PersonData("person" + i, 16 + random.nextInt(60), zone), 0,
+                    Optional.empty()));
+        }
+        observer = new ClockObserverBusiness(new ArrayList<>(businesses), new EmploymentOfficeData(people), random);
+    }
+
+    @Test
+    void testDelaysAreCheckedOnlyAtTheOpeningTime() {
+        runDays();
+        for (final RecordingBusiness business : businesses) {
+            assertEquals(DAYS, business.delayChecks.size(), "The delays should be checked once a day");
+            for (final LocalTime time : business.delayChecks) {
+                assertEquals(business.getBusinessData().openingTime(), time,
+                        "The delays should only be checked by the businesses opening at the tick");
+            }
+        }
+    }
+
+    @Test
+    void testFiringAtMidnightAndHiringAndPayAtTheEndOfTheDay() {
+        runDays();
+        final List<LocalTime> hires = new ArrayList<>();
+        final List<LocalTime> fires = new ArrayList<>();
+        final List<LocalTime> pays = new ArrayList<>();
+        businesses.forEach(business -> {
+            hires.addAll(business.hires);
+            fires.addAll(business.fires);
+            pays.addAll(business.pays);
+        });
+        assertFalse(hires.isEmpty(), "Someone should have been hired");
+        assertFalse(fires.isEmpty(), "Someone should have been fired");
+        assertFalse(pays.isEmpty(), "Someone should have been paid");
+        hires.forEach(time -> assertEquals(HIRING_TIME, time, "Hiring should only happen at the end of the day"));
+        pays.forEach(time -> assertEquals(HIRING_TIME, time, "Pay should only happen at the end of the day"));
+        fires.forEach(time -> assertEquals(FIRING_TIME, time, "Firing should only happen at the start of the day"));
+    }
+
+    private void runDays() {
+        for (int day = 1; day <= DAYS; day++) {
+            LocalTime time = LocalTime.MIDNIGHT;
+            do {
+                for (final RecordingBusiness business : businesses) {
+                    business.currentTime = time;
+                }
+                observer.onTimeUpdate(time, day);
+                time = time.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND);
+            } while (!time.equals(LocalTime.MIDNIGHT));
+        }
+    }
+
+    /**
+     * A business recording the tick at which the observer asks it to check the
+     * delays, hire, fire or pay its employees.
+     */
+    private static final class RecordingBusiness implements Business {
+        private final Business business;
+        private final List<LocalTime> delayChecks = new ArrayList<>();
+        private final List<LocalTime> hires = new ArrayList<>();
+        private final List<LocalTime> fires = new ArrayList<>();
+        private final List<LocalTime> pays = new ArrayList<>();
+        private LocalTime currentTime;
+
+        RecordingBusiness(final Business business) {
+            this.business = business;
+        }
+
+        @Override
+        public void hire(final Employee employee) {
+            hires.add(currentTime);
+            business.hire(employee);
+        }
+
+        @Override
+        public void fire(final Employee employee) {
+            fires.add(currentTime);
+            business.fire(employee);
+        }
+
+        @Override
+        public void checkEmployeeDelays(final LocalTime time) {
+            delayChecks.add(time);
+            business.checkEmployeeDelays(time);
+        }
+
+        @Override
+        public double calculatePay() {
+            pays.add(currentTime);
+            return business.calculatePay();
+        }
+
+        @Override
+        public BusinessData getBusinessData() {
+            return business.getBusinessData();
+        }
+
+        @Override
+        public BusinessType getBusinessType() {
+            return business.getBusinessType();
+        }
+
+        @Override
+        public void setStatistics(final SimulationStatistics statistics) {
+            business.setStatistics(statistics);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package unibo.citylife.model.clock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.clock.impl.ClockObserverPerson;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+import unibo.citysimulation.utilities.RandomStreams;
+
+class ClockObserverPersonTest {
+    private static final int PEOPLE = 3000;
+    private static final int THREADS = 4;
+    private static final long SEED = 42;
+
+    private List<TransportLine> lines;
+    private List<List<DynamicPerson>> people;
+
+    @BeforeEach
+    void setUp() {
+        people = createPeople(SEED);
+    }
+
+    private List<List<DynamicPerson>> createPeople(final long seed) {
+        final RandomStreams randomStreams = new RandomStreams(seed);
+        final List<Zone> zones = ZoneCreation.createZonesFromFile();
+        lines = new TransportFactoryImpl().createTransportsFromFile(zones);
+        final ZoneTable zoneTable = ZoneTableCreation.createZoneTable(zones, lines);
+        final List<Business> businesses = new BusinessFactoryImpl(randomStreams.stream("businesses"))
+                .createMultipleBusiness(zones, PEOPLE / ConstantAndResourceLoader.PERC_BUSINESS);
+        return new PersonFactoryImpl(randomStreams, zoneTable).createAllPeople(PEOPLE, zones, businesses);
+    }
+
+    @Test
+    void testParallelDayKeepsLinesConsistent() {
+        final ClockObserverPerson observer = new ClockObserverPerson(people, THREADS);
+        boolean someoneWorked = false;
+        LocalTime time = LocalTime.MIDNIGHT;
+        do {
+            time = time.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND);
+            observer.onTimeUpdate(time, 1);
+            for (final TransportLine line : lines) {
+                assertEquals(countTravellersOn(line), line.getPersonInLine(), "Wrong count on " + line.getName());
+            }
+            someoneWorked |= people.stream().flatMap(List::stream)
+                    .anyMatch(person -> person.getState() == PersonState.WORKING);
+        } while (!time.equals(LocalTime.MIDNIGHT));
+        assertTrue(someoneWorked, "Some people should have reached their business");
+    }
+
+    @Test
+    void testSameSeedGivesSameDayOnAnyThreadCount() {
+        final List<String> twoThreads = runDay(people, 2);
+        final List<String> manyThreads = runDay(createPeople(SEED), THREADS);
+        assertEquals(twoThreads, manyThreads);
+    }
+
+    @Test
+    void testShutdownObserverFinishesTheDayOnTheClockThread() {
+        final List<String> pooled = runDay(people, THREADS);
+        final List<String> shutdownAtNoon = runDay(createPeople(SEED), THREADS, LocalTime.NOON);
+        assertEquals(pooled, shutdownAtNoon);
+    }
+
+    private List<String> runDay(final List<List<DynamicPerson>> population, final int threads) {
+        return runDay(population, threads, LocalTime.MAX);
+    }
+
+    private List<String> runDay(final List<List<DynamicPerson>> population, final int threads,
+            final LocalTime shutdownAt) {
+        final ClockObserverPerson observer = new ClockObserverPerson(population, threads);
+        final List<String> trace = new ArrayList<>();
+        LocalTime time = LocalTime.MIDNIGHT;
+        do {
+            time = time.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND);
+            if (time.equals(shutdownAt)) {
+                observer.shutdown();
+            }
+            observer.onTimeUpdate(time, 1);
+            population.stream().flatMap(List::stream)
+                    .map(person -> person.getState() + "@" + person.getPosition())
+                    .forEach(trace::add);
+        } while (!time.equals(LocalTime.MIDNIGHT));
+        observer.shutdown();
+        return trace;
+    }
+
+    private long countTravellersOn(final TransportLine line) {
+        return people.stream()
+                .flatMap(List::stream)
+                .filter(person -> person.getState() == PersonState.MOVING)
+                .filter(person -> Arrays.asList(person.getTransportLine()).contains(line))
+                .count();
+    }
+}
@@ -0,0 +1,86 @@
+package unibo.citylife.model.clock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.clock.impl.PersonScheduler;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+class PersonSchedulerTest {
+    private static final int TICK_MINUTES = ConstantAndResourceLoader.MINUTES_IN_A_SECOND;
+
+    private DynamicPerson person;
+    private PersonScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        final List<Zone> zones = ZoneCreation.createZonesFromFile();
+        final List<TransportLine> lines = new TransportFactoryImpl().createTransportsFromFile(zones);
+        final ZoneTable zoneTable = ZoneTableCreation.createZoneTable(zones, lines);
+        final Business business = new BusinessFactoryImpl().createBusiness(BusinessType.BIG, zones.get(1)).get();
+        person = new PersonFactoryImpl(zoneTable).createPerson("Test", 30, Optional.of(business), zones.get(0), 0);
+        person.setBusinessBegin(business.getBusinessData().openingTime());
+        person.setBusinessEnd(business.getBusinessData().closingTime());
+        scheduler = new PersonScheduler();
+        scheduler.register(person);
+    }
+
+    @Test
+    void testPersonIsOnlyDueAtItsEvents() {
+        final LocalTime departure = LocalTime.ofSecondOfDay(person.getNextCheckTime().getAsInt());
+        int dueTicks = 0;
+        for (LocalTime time = LocalTime.MIDNIGHT.plusMinutes(TICK_MINUTES); !time.equals(departure);
+                time = time.plusMinutes(TICK_MINUTES)) {
+            dueTicks += scheduler.countDue(time);
+            scheduler.runDue(time);
+        }
+        assertEquals(0, dueTicks, "Nobody should be checked before the departure time");
+        assertEquals(PersonState.AT_HOME, person.getState());
+
+        assertEquals(1, scheduler.countDue(departure));
+        scheduler.runDue(departure);
+        assertEquals(PersonState.MOVING, person.getState());
+    }
+
+    @Test
+    void testFullDayReachesWorkAndHome() {
+        LocalTime time = LocalTime.MIDNIGHT;
+        boolean worked = false;
+        do {
+            time = time.plusMinutes(TICK_MINUTES);
+            scheduler.runDue(time);
+            worked |= person.getState() == PersonState.WORKING;
+        } while (!time.equals(LocalTime.MIDNIGHT));
+        assertTrue(worked, "The person should have reached the business");
+        assertEquals(PersonState.AT_HOME, person.getState());
+    }
+
+    @Test
+    void testRescheduleOnBusinessChange() {
+        final int before = person.getNextCheckTime().getAsInt();
+        person.setBusiness(Optional.empty());
+        person.setBusinessBegin(LocalTime.MIDNIGHT);
+        person.setBusinessEnd(LocalTime.MIDNIGHT);
+        assertTrue(person.getNextCheckTime().isEmpty(), "An unemployed person has nothing to do");
+        assertEquals(0, scheduler.countDue(LocalTime.ofSecondOfDay(before)));
+    }
+}
@@ -2,14 +2,12 @@ package unibo.citylife.model.graphics;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
 import java.util.List;
 
-import org.jfree.data.xy.XYSeries;
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -28,7 +26,7 @@ class DatasetManagerTest {
 
     @Test
     void testConstructor() {
-        final List<XYSeriesCollection> datasets = datasetManager.getDatasets();
+        final List<XYDataset> datasets = datasetManager.getDatasets();
         assertNotNull(datasets, "Datasets should not be null");
         assertEquals(3, datasets.size(), "There should be three datasets");
         assertEquals(3, datasets.get(0).getSeriesCount(), "Each dataset should have three series");
@@ -44,11 +42,11 @@ class DatasetManagerTest {
         // clear the dataset
         datasetManager.clearDatasets();
 
-        final List<XYSeriesCollection> datasets = datasetManager.getDatasets();
+        final List<XYDataset> datasets = datasetManager.getDatasets();
 
         datasets.forEach(ds -> {
             for (int i = 0; i < ds.getSeriesCount(); i++) {
-                assertTrue(ds.getSeries(i).isEmpty(), "Series should be empty after clearing");
+                assertEquals(0, ds.getItemCount(i), "Series should be empty after clearing");
             }
         });
     }
@@ -60,29 +58,26 @@ class DatasetManagerTest {
         final List<Integer> businessesOccupation = Arrays.asList(10, 20, 30);
 
         datasetManager.updateDataset(peopleState, linesCongestion, businessesOccupation);
-        final List<XYSeriesCollection> datasets = datasetManager.getDatasets();
+        final List<XYDataset> datasets = datasetManager.getDatasets();
 
-        final XYSeriesCollection peopleDataset = datasets.get(0);
+        final XYDataset peopleDataset = datasets.get(0);
         for (int i = 0; i < peopleState.size(); i++) {
-            final XYSeries series = peopleDataset.getSeries(i);
-            assertEquals(2, series.getItemCount(), "Series should have two item (one for the creation))");
-            assertEquals(peopleState.get(i), series.getY(1).intValue(), "Value should be " + linesCongestion.get(i));
+            assertEquals(2, peopleDataset.getItemCount(i), "Series should have two item (one for the creation))");
+            assertEquals(peopleState.get(i), (int) peopleDataset.getYValue(i, 1), "Value should be " + linesCongestion.get(i));
         }
 
-        final XYSeriesCollection congestionDataset = datasets.get(1);
+        final XYDataset congestionDataset = datasets.get(1);
         for (int i = 0; i < linesCongestion.size(); i++) {
-            final XYSeries series = congestionDataset.getSeries(i);
-            assertEquals(2, series.getItemCount(), "Series should have two item (one for the creation))");
-            assertEquals(linesCongestion.get(i), series.getY(1).doubleValue(),
+            assertEquals(2, congestionDataset.getItemCount(i), "Series should have two item (one for the creation))");
+            assertEquals(linesCongestion.get(i), congestionDataset.getYValue(i, 1),
                     "Value should be " + linesCongestion.get(i));
         }
 
         // Verifica che i valori di businessesOccupation siano correttamente aggiunti
-        final XYSeriesCollection businessDataset = datasets.get(2);
+        final XYDataset businessDataset = datasets.get(2);
         for (int i = 0; i < businessesOccupation.size(); i++) {
-            final XYSeries series = businessDataset.getSeries(i);
-            assertEquals(2, series.getItemCount(), "Series should have two item (one for the creation))");
-            assertEquals(businessesOccupation.get(i).intValue(), series.getY(1).intValue(),
+            assertEquals(2, businessDataset.getItemCount(i), "Series should have two item (one for the creation))");
+            assertEquals(businessesOccupation.get(i).intValue(), (int) businessDataset.getYValue(i, 1),
                     "Value should be " + businessesOccupation.get(i));
         }
     }
@@ -98,11 +93,10 @@ class DatasetManagerTest {
             datasetManager.updateDataset(peopleState, linesCongestion, businessesOccupation);
         }
 
-        final List<XYSeriesCollection> datasets = datasetManager.getDatasets();
+        final List<XYDataset> datasets = datasetManager.getDatasets();
         datasets.forEach(ds -> {
             for (int i = 0; i < ds.getSeriesCount(); i++) {
-                final XYSeries series = ds.getSeries(i);
-                assertEquals(ConstantAndResourceLoader.MAX_COLUMNS + 1, series.getItemCount(),
+                assertEquals(ConstantAndResourceLoader.MAX_COLUMNS + 1, ds.getItemCount(i),
                         "Series should have max columns");
             }
         });
@@ -128,7 +122,7 @@ class DatasetManagerTest {
 
     @Test
     void testGetDatasets() {
-        final List<XYSeriesCollection> datasets = datasetManager.getDatasets();
+        final List<XYDataset> datasets = datasetManager.getDatasets();
         assertNotNull(datasets, "Datasets should not be null");
         assertEquals(3, datasets.size(), "There should be three datasets");
         datasets.forEach(ds -> assertNotNull(ds, "Dataset should not be null"));
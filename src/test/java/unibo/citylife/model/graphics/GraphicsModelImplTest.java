@@ -2,7 +2,6 @@ package unibo.citylife.model.graphics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.Color;
 import java.util.List;
@@ -10,7 +9,7 @@ import java.util.LinkedList;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,19 +19,22 @@ import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
 import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
 import unibo.citysimulation.model.graphics.impl.GraphicsModelImpl;
 import unibo.citysimulation.model.person.api.DynamicPerson;
-import unibo.citysimulation.model.person.api.PersonFactory;
 import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
 import unibo.citysimulation.model.transport.api.TransportFactory;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
 import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
 class GraphicsModelImplTest {
 
     private GraphicsModelImpl graphicsModel;
     private List<DynamicPerson> people;
+    private SimulationStatistics statistics;
     private List<TransportLine> lines;
     private final List<Business> businesses = new ArrayList<>();
     private EmploymentOfficeData employmentOfficeData;
@@ -44,10 +46,10 @@ class GraphicsModelImplTest {
         final List<Zone> zones = ZoneCreation.createZonesFromFile();
         final TransportFactory transportFactory = new TransportFactoryImpl();
         lines = transportFactory.createTransportsFromFile(zones);
-        ZoneTableCreation.createAndAddPairs(zones, lines);
+        final ZoneTable zoneTable = ZoneTableCreation.createZoneTable(zones, lines);
         final BusinessFactory businessFactory = new BusinessFactoryImpl();
         businesses.addAll(businessFactory.createMultipleBusiness(zones, 100));
-        final PersonFactory personFactory = new PersonFactoryImpl();
+        final PersonFactoryImpl personFactory = new PersonFactoryImpl(zoneTable);
         final List<List<DynamicPerson>> peopleGroup = personFactory.createAllPeople(100, zones, businesses);
 
         for (final List<DynamicPerson> group : peopleGroup) {
@@ -61,7 +63,8 @@ class GraphicsModelImplTest {
                 .peek(p -> employmentOfficeData.disoccupied().add(p))
                 .collect(Collectors.toList());
 
-        graphicsModel = new GraphicsModelImpl();
+        statistics = personFactory.getPersonStore().getStatistics();
+        graphicsModel = new GraphicsModelImpl(lines.size());
     }
 
     @Test
@@ -76,39 +79,87 @@ class GraphicsModelImplTest {
 
     @Test
     void testClearDatasets() {
-        graphicsModel.updateDataset(people, lines, businesses, 1);
+        graphicsModel.updateDataset(statistics, lines, 1);
         graphicsModel.clearDatasets();
-        final List<XYSeriesCollection> datasets = graphicsModel.getDatasets();
+        final List<XYDataset> datasets = graphicsModel.getDatasets();
         datasets.forEach(ds -> {
-            final List<?> seriesList = ds.getSeries();
-            seriesList.forEach(series -> {
-                assertTrue(((org.jfree.data.xy.XYSeries) series).isEmpty(), "Series should be empty after clearing datasets");
-            });
+            for (int i = 0; i < ds.getSeriesCount(); i++) {
+                assertEquals(0, ds.getItemCount(i), "Series should be empty after clearing datasets");
+            }
         });
     }
 
     @Test
     void testUpdateDataset() {
         final List<Integer> utilityNum = List.of(250, 1000);
-        graphicsModel.updateDataset(people, lines, businesses, utilityNum.get(0));
+        graphicsModel.updateDataset(statistics, lines, utilityNum.get(0));
 
-        for (final XYSeriesCollection ds : graphicsModel.getDatasets()) {
+        for (final XYDataset ds : graphicsModel.getDatasets()) {
             for (int i = 0; i < ds.getSeriesCount(); i++) {
-                assertEquals(1, ds.getSeries(i).getItemCount(), "Series should have 1 item after one update");
+                assertEquals(1, ds.getItemCount(i), "Series should have 1 item after one update");
             }
         }
 
         for (int i = 1; i < 3; i++) {
-            graphicsModel.updateDataset(people, lines, businesses, utilityNum.get(1));
+            graphicsModel.updateDataset(statistics, lines, utilityNum.get(1));
         }
 
-        for (final XYSeriesCollection ds : graphicsModel.getDatasets()) {
+        for (final XYDataset ds : graphicsModel.getDatasets()) {
             for (int i = 0; i < ds.getSeriesCount(); i++) {
-                assertEquals(3, ds.getSeries(i).getItemCount(), "Series should have 3 items");
+                assertEquals(3, ds.getItemCount(i), "Series should have 3 items");
             }
         }
     }
 
+    @Test
+    void testSamplesAreAddedWhenFlushed() {
+        graphicsModel.sampleDataset(statistics, lines, 1000);
+        graphicsModel.sampleDataset(statistics, lines, 1000);
+        for (final XYDataset ds : graphicsModel.getDatasets()) {
+            assertEquals(1, ds.getItemCount(0), "Queued samples should not be in the datasets");
+        }
+
+        graphicsModel.flushSamples();
+        for (final XYDataset ds : graphicsModel.getDatasets()) {
+            assertEquals(3, ds.getItemCount(0), "Flushed samples should be in the datasets");
+        }
+
+        graphicsModel.sampleDataset(statistics, lines, 1000);
+        graphicsModel.clearDatasets();
+        graphicsModel.flushSamples();
+        for (final XYDataset ds : graphicsModel.getDatasets()) {
+            assertEquals(0, ds.getItemCount(0), "Clearing should drop the queued samples");
+        }
+    }
+
+    @Test
+    void testOldestQueuedSamplesAreDropped() {
+        final int samples = ConstantAndResourceLoader.MAX_COLUMNS * 3;
+        for (int i = 0; i < samples; i++) {
+            graphicsModel.sampleDataset(statistics, lines, 1000);
+        }
+        graphicsModel.flushSamples();
+        for (final XYDataset ds : graphicsModel.getDatasets()) {
+            final int items = ds.getItemCount(0);
+            assertEquals(ConstantAndResourceLoader.MAX_COLUMNS + 1, items, "The datasets should be full");
+            assertEquals(samples, ds.getXValue(0, items - 1), "Dropped samples should still advance the x axis");
+        }
+    }
+
+    @Test
+    void testOneCongestionSeriesPerLine() {
+        final List<TransportLine> someLines = lines.subList(0, 3);
+        final GraphicsModelImpl model = new GraphicsModelImpl(someLines.size());
+        assertEquals(3, model.getDatasets().get(1).getSeriesCount(), "There should be a series per line");
+
+        model.sampleDataset(statistics, someLines, 1000);
+        model.sampleDataset(statistics, someLines, 1000);
+        model.flushSamples();
+        for (final XYDataset ds : model.getDatasets()) {
+            assertEquals(3, ds.getItemCount(0), "The samples should be added whatever the number of lines");
+        }
+    }
+
     @Test
     void testGetDatasets() {
         assertNotNull(graphicsModel.getDatasets(), "Datasets should not be null");
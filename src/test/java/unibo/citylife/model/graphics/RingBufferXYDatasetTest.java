@@ -0,0 +1,53 @@
+package unibo.citylife.model.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.graphics.impl.RingBufferXYDataset;
+
+class RingBufferXYDatasetTest {
+    private static final int CAPACITY = 4;
+
+    @Test
+    void testOldestSamplesAreOverwritten() {
+        final RingBufferXYDataset dataset = new RingBufferXYDataset(2, CAPACITY);
+        for (int i = 0; i < CAPACITY + 2; i++) {
+            dataset.addSample(i, List.of(i, i * 10));
+        }
+        assertEquals(CAPACITY, dataset.getItemCount(0));
+        for (int item = 0; item < CAPACITY; item++) {
+            assertEquals(item + 2, dataset.getXValue(1, item));
+            assertEquals(item + 2, dataset.getYValue(0, item));
+            assertEquals((item + 2) * 10, dataset.getYValue(1, item));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> dataset.getYValue(0, CAPACITY));
+    }
+
+    @Test
+    void testOneEventPerSample() {
+        final RingBufferXYDataset dataset = new RingBufferXYDataset(3, CAPACITY);
+        final AtomicInteger events = new AtomicInteger();
+        dataset.addChangeListener(event -> events.incrementAndGet());
+        dataset.addSample(1, List.of(1, 2, 3));
+        dataset.addSample(2, List.of(1, 2, 3));
+        assertEquals(2, events.get());
+        dataset.clear();
+        assertEquals(0, dataset.getItemCount(0));
+        assertEquals(3, events.get());
+    }
+
+    @Test
+    void testOneValuePerSeries() {
+        final RingBufferXYDataset dataset = new RingBufferXYDataset(2, CAPACITY);
+        assertThrows(IllegalArgumentException.class, () -> dataset.addSample(0, List.of(1)));
+        assertThrows(IllegalArgumentException.class, () -> dataset.addSample(0, List.of(1, 2, 3)));
+        final RingBufferXYDataset empty = new RingBufferXYDataset(0, CAPACITY);
+        empty.addSample(0, List.of());
+        assertEquals(0, empty.getSeriesCount());
+    }
+}
@@ -0,0 +1,68 @@
+package unibo.citylife.model.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.map.impl.DensityGrid;
+import unibo.citysimulation.model.map.impl.PeopleIndex;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.PersonStore;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+
+class DensityGridTest {
+
+    @Test
+    void testCellsCoverTheMap() {
+        assertEquals(0, DensityGrid.cellOf(0, 0));
+        assertEquals(DensityGrid.CELLS - 1, DensityGrid.cellOf(DensityGrid.MAP_SIZE, DensityGrid.MAP_SIZE));
+        assertEquals(DensityGrid.COLUMNS - 1, DensityGrid.cellOf(DensityGrid.MAP_SIZE + 50, -10));
+    }
+
+    @Test
+    void testMovesUpdateTheCounts() {
+        final DensityGrid grid = new DensityGrid();
+        final int home = DensityGrid.cellOf(95, 95);
+        final int work = DensityGrid.cellOf(900, 900);
+        grid.add(95, 95, PersonState.AT_HOME);
+        grid.add(99, 99, PersonState.AT_HOME);
+        assertEquals(2, grid.getCount(PersonState.AT_HOME, home));
+
+        grid.move(95, 95, PersonState.AT_HOME, DensityGrid.NO_POSITION, DensityGrid.NO_POSITION,
+                PersonState.MOVING);
+        assertEquals(1, grid.getCount(PersonState.AT_HOME, home));
+        assertEquals(0, grid.getCount(PersonState.MOVING, home));
+
+        grid.move(DensityGrid.NO_POSITION, DensityGrid.NO_POSITION, PersonState.MOVING, 900, 900,
+                PersonState.WORKING);
+        assertEquals(1, grid.getCount(PersonState.WORKING, work));
+    }
+
+    @Test
+    void testStoreNotifiesTheIndexOfThePeople() {
+        final List<Zone> zones = ZoneCreation.createZonesFromFile();
+        final PersonStore store = new PersonStore(10, 1L);
+        final int person = store.add(zones.get(0), 0);
+        // A listener added after the first people is told about them
+        final PeopleIndex index = new PeopleIndex();
+        store.addMoveListener(index);
+        final DensityGrid grid = index.getDensityGrid();
+        final int home = DensityGrid.cellOf(store.getX(person), store.getY(person));
+        assertEquals(1, grid.getCount(PersonState.AT_HOME, home));
+
+        store.setState(person, PersonState.MOVING);
+        assertEquals(0, grid.getCount(PersonState.AT_HOME, home));
+        assertEquals(1, grid.getCount(PersonState.MOVING, home));
+
+        store.setPosition(person, PersonStore.NO_POSITION, PersonStore.NO_POSITION);
+        assertEquals(0, grid.getCount(PersonState.MOVING, home));
+
+        store.setPosition(person, 500, 500);
+        store.setState(person, PersonState.WORKING);
+        assertEquals(1, grid.getCount(PersonState.WORKING, DensityGrid.cellOf(500, 500)));
+        assertEquals(person, index.nearest(505, 505, 1, 10)[0]);
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import unibo.citysimulation.model.map.impl.ImageHandler;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 class ImageHandlerTest {
@@ -40,4 +42,19 @@ class ImageHandlerTest {
         assertEquals(originalImage.getHeight(), retrievedImage.getHeight());
         assertEquals(originalImage.getType(), retrievedImage.getType());
     }
+
+    @Test
+    void testDrawImageScales() {
+        final Graphics2D source = originalImage.createGraphics();
+        source.setColor(Color.RED);
+        source.fillRect(0, 0, originalImage.getWidth(), originalImage.getHeight());
+        source.dispose();
+        imageHandler.setImage(originalImage);
+        final BufferedImage target = new BufferedImage(40, 20, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = target.createGraphics();
+        imageHandler.drawImage(g, target.getWidth(), target.getHeight());
+        g.dispose();
+        assertEquals(Color.RED.getRGB(), target.getRGB(0, 0));
+        assertEquals(Color.RED.getRGB(), target.getRGB(39, 19));
+    }
 }
@@ -0,0 +1,88 @@
+package unibo.citylife.model.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.map.impl.LevelOfDetail;
+import unibo.citysimulation.model.map.impl.LevelOfDetail.Mode;
+
+class LevelOfDetailTest {
+
+    private static final int MAX_DOTS = 1000;
+    private static final int MIN_DOTS = 100;
+    private static final int MAX_SAMPLED = 100_000;
+    private static final double BUDGET_MILLIS = 10;
+
+    @Test
+    void testModeDependsOnPopulation() {
+        final LevelOfDetail lod = new LevelOfDetail(MAX_DOTS, MIN_DOTS, MAX_SAMPLED, BUDGET_MILLIS);
+        lod.update(MAX_DOTS, 0);
+        assertEquals(Mode.ALL, lod.getMode());
+        assertEquals(1, lod.getStride());
+
+        lod.update(3000, 0);
+        assertEquals(Mode.SAMPLED, lod.getMode());
+        assertEquals(4, lod.getStride());
+
+        lod.update(MAX_SAMPLED + 1, 0);
+        assertEquals(Mode.DENSITY, lod.getMode());
+    }
+
+    @Test
+    void testSlowPaintingDrawsFewerPeople() {
+        final LevelOfDetail lod = new LevelOfDetail(MAX_DOTS, MIN_DOTS, MAX_SAMPLED, BUDGET_MILLIS);
+        // 50 microseconds per person: only 200 people fit in 10 milliseconds
+        lod.update(800, 50_000);
+        assertEquals(Mode.SAMPLED, lod.getMode());
+        assertEquals(4, lod.getStride());
+
+        // 200 microseconds per person: fewer than the minimum fit, so the density is drawn
+        final LevelOfDetail slow = new LevelOfDetail(MAX_DOTS, MIN_DOTS, MAX_SAMPLED, BUDGET_MILLIS);
+        slow.update(800, 200_000);
+        assertEquals(Mode.DENSITY, slow.getMode());
+    }
+
+    @Test
+    void testDensityIsRetriedAfterASlowFrame() {
+        final LevelOfDetail lod = new LevelOfDetail(MAX_DOTS, MIN_DOTS, MAX_SAMPLED, BUDGET_MILLIS);
+        lod.update(800, 200_000);
+        assertEquals(Mode.DENSITY, lod.getMode());
+        // No person is painted in density mode, so no time is measured
+        int updates = 0;
+        while (lod.getMode() == Mode.DENSITY && updates < 1000) {
+            lod.update(800, 0);
+            updates++;
+        }
+        assertEquals(Mode.SAMPLED, lod.getMode());
+        assertEquals(8, lod.getStride());
+        // The sample is kept until it has been painted
+        lod.update(800, 0);
+        assertEquals(Mode.SAMPLED, lod.getMode());
+
+        // The new measurement replaces the slow one instead of being smoothed
+        lod.update(800, 20_000);
+        assertEquals(Mode.SAMPLED, lod.getMode());
+        assertEquals(2, lod.getStride());
+
+        // A probe that is still slow goes back to the density
+        final LevelOfDetail slow = new LevelOfDetail(MAX_DOTS, MIN_DOTS, MAX_SAMPLED, BUDGET_MILLIS);
+        slow.update(800, 200_000);
+        while (slow.getMode() == Mode.DENSITY) {
+            slow.update(800, 0);
+        }
+        slow.update(800, 200_000);
+        assertEquals(Mode.DENSITY, slow.getMode());
+    }
+
+    @Test
+    void testSampleIsStableAndStratified() {
+        final int stride = 8;
+        for (int block = 0; block < 1000; block++) {
+            final int index = LevelOfDetail.sampledIndex(block, stride);
+            assertTrue(index >= block * stride && index < (block + 1) * stride, "One person per block");
+            assertEquals(index, LevelOfDetail.sampledIndex(block, stride), "The sample must not change");
+        }
+    }
+}
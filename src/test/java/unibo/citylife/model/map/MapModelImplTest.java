@@ -6,17 +6,19 @@ import org.junit.jupiter.api.Test;
 import unibo.citysimulation.model.business.api.Business;
 import unibo.citysimulation.model.business.api.BusinessFactory;
 import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.map.impl.EntitySnapshot;
 import unibo.citysimulation.model.map.impl.ImageHandler;
 import unibo.citysimulation.model.map.impl.MapModelImpl;
 import unibo.citysimulation.model.person.api.DynamicPerson;
-import unibo.citysimulation.model.person.api.PersonFactory;
 import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
 import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.person.impl.PersonStore;
 import unibo.citysimulation.model.transport.api.TransportFactory;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
 import unibo.citysimulation.model.zone.ZoneTableCreation;
 import unibo.citysimulation.utilities.Pair;
 
@@ -37,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -46,6 +49,7 @@ class MapModelImplTest {
     private MapModelImpl mapModel;
     private List<TransportLine> lines;
     private List<DynamicPerson> people;
+    private PersonStore store;
     private final List<Business> businesses = new ArrayList<>();
 
     @BeforeEach
@@ -53,11 +57,12 @@ class MapModelImplTest {
         final TransportFactory transportFactory = new TransportFactoryImpl();
         final List<Zone> zones = ZoneCreation.createZonesFromFile();
         lines = transportFactory.createTransportsFromFile(zones);
-        ZoneTableCreation.createAndAddPairs(zones, lines);
+        final ZoneTable zoneTable = ZoneTableCreation.createZoneTable(zones, lines);
         final BusinessFactory businessFactory = new BusinessFactoryImpl();
         businesses.addAll(businessFactory.createMultipleBusiness(zones, 100));
-        final PersonFactory personFactory = new PersonFactoryImpl();
+        final PersonFactoryImpl personFactory = new PersonFactoryImpl(zoneTable);
         final List<List<DynamicPerson>> peopleGroup = personFactory.createAllPeople(100, zones, businesses);
+        store = personFactory.getPersonStore();
 
         people = peopleGroup.stream()
                 .flatMap(List::stream)
@@ -106,6 +111,28 @@ class MapModelImplTest {
         }
     }
 
+    @Test
+    void testUpdateEntities() {
+        assertEquals(0, mapModel.getEntities().latest().getPeopleCount());
+
+        mapModel.updateEntities(store, businesses);
+        final EntitySnapshot snapshot = mapModel.getEntities().latest();
+        assertEquals(people.size(), snapshot.getPeopleCount());
+        assertEquals(businesses.size(), snapshot.getBusinessCount());
+        for (int i = 0; i < snapshot.getPeopleCount(); i++) {
+            assertEquals(PersonState.AT_HOME, snapshot.getPersonState(i));
+        }
+
+        // Nothing new was published, the view keeps drawing the same snapshot
+        assertSame(snapshot, mapModel.getEntities().latest());
+
+        // A person on a transport line has no position on the map
+        store.setState(0, PersonState.MOVING);
+        store.setPosition(0, PersonStore.NO_POSITION, PersonStore.NO_POSITION);
+        mapModel.updateEntities(store, businesses);
+        assertEquals(people.size() - 1, mapModel.getEntities().latest().getPeopleCount());
+    }
+
     @Test
     void testGetColorList() {
         final int maxColor = 255;
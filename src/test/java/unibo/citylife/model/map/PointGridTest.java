@@ -0,0 +1,85 @@
+package unibo.citylife.model.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.map.impl.DensityGrid;
+import unibo.citysimulation.model.map.impl.PointGrid;
+
+class PointGridTest {
+
+    private static final int POINTS = 2000;
+
+    private static PointGrid randomGrid(final SplittableRandom random) {
+        final PointGrid grid = new PointGrid(16);
+        for (int i = 0; i < POINTS; i++) {
+            grid.add(random.nextInt(DensityGrid.MAP_SIZE + 1), random.nextInt(DensityGrid.MAP_SIZE + 1));
+        }
+        // Move some points and take some off the map
+        for (int i = 0; i < POINTS; i += 3) {
+            if (i % 2 == 0) {
+                grid.move(i, DensityGrid.NO_POSITION, DensityGrid.NO_POSITION);
+            } else {
+                grid.move(i, random.nextInt(DensityGrid.MAP_SIZE + 1), random.nextInt(DensityGrid.MAP_SIZE + 1));
+            }
+        }
+        return grid;
+    }
+
+    private static long distance(final PointGrid grid, final int id, final int x, final int y) {
+        final long dx = grid.getX(id) - x;
+        final long dy = grid.getY(id) - y;
+        return dx * dx + dy * dy;
+    }
+
+    @Test
+    void testRectangleFindsThePointsInside() {
+        final PointGrid grid = randomGrid(new SplittableRandom(1));
+        final List<Integer> found = new ArrayList<>();
+        grid.forEachInRectangle(200, 300, 450, 700, found::add);
+        final List<Integer> expected = IntStream.range(0, POINTS)
+                .filter(id -> grid.getX(id) != DensityGrid.NO_POSITION)
+                .filter(id -> grid.getX(id) >= 200 && grid.getX(id) <= 450
+                        && grid.getY(id) >= 300 && grid.getY(id) <= 700)
+                .boxed()
+                .toList();
+        assertEquals(expected, found.stream().sorted().toList());
+    }
+
+    @Test
+    void testNearestFindsTheClosestPoints() {
+        final PointGrid grid = randomGrid(new SplittableRandom(2));
+        final SplittableRandom random = new SplittableRandom(3);
+        for (int query = 0; query < 50; query++) {
+            final int x = random.nextInt(DensityGrid.MAP_SIZE + 1);
+            final int y = random.nextInt(DensityGrid.MAP_SIZE + 1);
+            final int[] nearest = grid.nearest(x, y, 5, DensityGrid.MAP_SIZE * 2);
+            final List<Long> expected = IntStream.range(0, POINTS)
+                    .filter(id -> grid.getX(id) != DensityGrid.NO_POSITION)
+                    .mapToObj(id -> distance(grid, id, x, y))
+                    .sorted(Comparator.naturalOrder())
+                    .limit(5)
+                    .toList();
+            assertEquals(expected, IntStream.of(nearest).mapToObj(id -> distance(grid, id, x, y)).toList());
+        }
+    }
+
+    @Test
+    void testNearestRespectsTheRadius() {
+        final PointGrid grid = new PointGrid(16);
+        grid.add(100, 100);
+        grid.add(500, 500);
+        assertEquals(0, grid.nearest(110, 100, 1, 5).length);
+        final int[] found = grid.nearest(110, 100, 1, 10);
+        assertEquals(1, found.length);
+        assertEquals(0, found[0]);
+        assertEquals(0, grid.nearest(300, 300, 2, 100).length);
+    }
+}
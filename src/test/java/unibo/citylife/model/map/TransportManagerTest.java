@@ -8,7 +8,6 @@ import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
-import unibo.citysimulation.model.zone.ZoneTableCreation;
 import unibo.citysimulation.model.map.impl.TransportManager;
 import unibo.citysimulation.utilities.Pair;
 
@@ -29,7 +28,6 @@ class TransportManagerTest {
         final TransportFactory transportFactory = new TransportFactoryImpl();
         final List<Zone> zones = ZoneCreation.createZonesFromFile();
         lines = transportFactory.createTransportsFromFile(zones);
-        ZoneTableCreation.createAndAddPairs(zones, lines);
 
         transportManager = new TransportManager();
     }
@@ -0,0 +1,110 @@
+package unibo.citylife.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.person.impl.PersonStore;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+
+class PersonStoreTest {
+
+    private List<Zone> zones;
+    private List<Business> businesses;
+    private PersonFactoryImpl personFactory;
+    private ZoneTable zoneTable;
+
+    @BeforeEach
+    public void setUp() {
+        zones = ZoneCreation.createZonesFromFile();
+        final List<TransportLine> lines = new TransportFactoryImpl().createTransportsFromFile(zones);
+        zoneTable = ZoneTableCreation.createZoneTable(zones, lines);
+        businesses = new BusinessFactoryImpl().createMultipleBusiness(zones, 20);
+        personFactory = new PersonFactoryImpl(zoneTable);
+    }
+
+    @Test
+    void testPeopleShareTheStore() {
+        final List<List<DynamicPerson>> people = personFactory.createAllPeople(200, zones, businesses);
+        final PersonStore store = personFactory.getPersonStore();
+        assertEquals(people.stream().mapToInt(List::size).sum(), store.size());
+        for (int zone = 0; zone < people.size(); zone++) {
+            for (final DynamicPerson person : people.get(zone)) {
+                final int index = ((DynamicPersonImpl) person).getIndex();
+                assertEquals(person.getMoney(), store.getMoney(index));
+                assertEquals(zone, store.getZone(index));
+                assertEquals(person.getBusiness().map(b -> b.getBusinessData().id()).orElse(PersonStore.NONE),
+                        store.getBusiness(index));
+            }
+        }
+    }
+
+    @Test
+    void testPersonIsFoundFromItsRow() {
+        // Groups created in any order, not only zone by zone
+        final List<DynamicPerson> last = personFactory.createGroupOfPeople(1, 5, zones.get(1).wellfareMinMax(),
+                businesses, zones.get(1));
+        final List<DynamicPerson> first = personFactory.createGroupOfPeople(0, 5, zones.get(0).wellfareMinMax(),
+                businesses, zones.get(0));
+        final PersonStore store = personFactory.getPersonStore();
+        for (final DynamicPerson person : List.of(first.get(0), last.get(4), first.get(4))) {
+            assertSame(person, store.getPerson(((DynamicPersonImpl) person).getIndex()).get());
+        }
+    }
+
+    @Test
+    void testViewWritesThrough() {
+        final Business business = businesses.stream()
+                .filter(b -> !b.getBusinessData().zone().equals(zones.get(0)))
+                .findFirst().get();
+        final DynamicPerson person = personFactory.createPerson("Test", 30, Optional.of(business), zones.get(0), 10);
+        final PersonStore store = personFactory.getPersonStore();
+        final int index = ((DynamicPersonImpl) person).getIndex();
+
+        assertEquals(PersonState.AT_HOME, store.getState(index));
+        assertEquals(person.getPosition().get().getFirst(), store.getX(index));
+        person.addMoney(5);
+        assertEquals(15, store.getMoney(index));
+        person.setState(PersonState.MOVING);
+        assertEquals(PersonState.MOVING, store.getState(index));
+
+        final int route = zoneTable.getRouteId(zones.get(0), business.getBusinessData().zone());
+        assertEquals(route, store.getRoute(index));
+        assertEquals(zoneTable.getRouteDuration(route), person.getTripDuration());
+        assertEquals(zoneTable.getRouteLines(route), List.of(person.getTransportLine()));
+
+        person.setBusiness(Optional.empty());
+        assertEquals(PersonStore.NO_ROUTE, store.getRoute(index));
+        assertEquals(PersonStore.NONE, store.getBusiness(index));
+        assertEquals(0, person.getTripDuration());
+    }
+
+    @Test
+    void testRoutesAreInterned() {
+        final Business business = businesses.stream()
+                .filter(b -> !b.getBusinessData().zone().equals(zones.get(0)))
+                .findFirst().get();
+        personFactory.createPerson("First", 30, Optional.of(business), zones.get(0), 0);
+        personFactory.createPerson("Second", 40, Optional.of(business), zones.get(0), 0);
+        final PersonStore store = personFactory.getPersonStore();
+        assertEquals(store.getRoute(0), store.getRoute(1));
+        assertNotEquals(PersonStore.NO_ROUTE, store.getRoute(0));
+    }
+}
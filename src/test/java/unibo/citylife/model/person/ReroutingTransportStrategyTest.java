@@ -0,0 +1,67 @@
+package unibo.citylife.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.person.api.TransportStrategy;
+import unibo.citysimulation.model.person.impl.ReroutingTransportStrategy;
+import unibo.citysimulation.model.person.impl.TransportStrategyImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+
+class ReroutingTransportStrategyTest {
+    private final TransportStrategy strategy = new ReroutingTransportStrategy();
+    private ZoneTable zoneTable;
+    private int route;
+
+    @BeforeEach
+    public void setUp() {
+        final List<Zone> zones = ZoneCreation.createZonesFromFile();
+        final List<TransportLine> lines = new TransportFactoryImpl().createTransportsFromFile(zones);
+        zoneTable = ZoneTableCreation.createZoneTable(zones, lines);
+        route = zoneTable.getRouteId(zones.get(0), zones.get(1));
+    }
+
+    private static void fill(final List<TransportLine> lines) {
+        lines.forEach(line -> IntStream.range(0, line.getCapacity()).forEach(n -> line.incrementPersonInLine()));
+    }
+
+    @Test
+    void testFastestRouteWhenFree() {
+        assertEquals(route, strategy.chooseRoute(zoneTable, route));
+        assertEquals(route, new TransportStrategyImpl().chooseRoute(zoneTable, route));
+    }
+
+    @Test
+    void testAlternativeWhenCongested() {
+        assertTrue(zoneTable.getAlternativeCount(route) > 0);
+        fill(zoneTable.getRouteLines(route));
+
+        final int chosen = strategy.chooseRoute(zoneTable, route);
+        assertNotEquals(ZoneTable.NO_ROUTE, chosen);
+        assertNotEquals(route, chosen);
+        assertEquals(route, zoneTable.getPrimaryRoute(chosen));
+        assertEquals(chosen, strategy.chooseRoute(zoneTable, chosen));
+        assertEquals(ZoneTable.NO_ROUTE, new TransportStrategyImpl().chooseRoute(zoneTable, route));
+    }
+
+    @Test
+    void testWaitWhenEverythingIsCongested() {
+        fill(zoneTable.getRouteLines(route));
+        IntStream.range(0, zoneTable.getAlternativeCount(route))
+                .forEach(i -> fill(zoneTable.getRouteLines(zoneTable.getAlternative(route, i))));
+
+        assertEquals(ZoneTable.NO_ROUTE, strategy.chooseRoute(zoneTable, route));
+    }
+}
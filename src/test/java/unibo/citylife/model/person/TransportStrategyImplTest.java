@@ -17,7 +17,6 @@ import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
-import unibo.citysimulation.model.zone.ZoneTableCreation;
 
 class TransportStrategyImplTest {
 
@@ -29,7 +28,6 @@ class TransportStrategyImplTest {
         final TransportFactory transportFactory = new TransportFactoryImpl();
         final List<Zone> zones = ZoneCreation.createZonesFromFile();
         allLines = transportFactory.createTransportsFromFile(zones);
-        ZoneTableCreation.createAndAddPairs(zones, allLines);
 
         transportStrategy = new TransportStrategyImpl();
     }
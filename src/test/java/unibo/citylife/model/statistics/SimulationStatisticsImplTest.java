@@ -0,0 +1,198 @@
+package unibo.citylife.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.api.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.clock.impl.ClockObserverPerson;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.statistics.api.SimulationStatistics;
+import unibo.citysimulation.model.statistics.api.ZoneSummary;
+import unibo.citysimulation.model.statistics.impl.SimulationStatisticsImpl;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+import unibo.citysimulation.utilities.RandomStreams;
+
+class SimulationStatisticsImplTest {
+    private static final int PEOPLE = 2000;
+    private static final int THREADS = 2;
+    private static final long SEED = 7;
+    private static final double PAY_TOLERANCE = 1e-6;
+
+    private SimulationStatistics statistics;
+    private List<Zone> zones;
+    private List<Business> businesses;
+    private List<List<DynamicPerson>> people;
+
+    @BeforeEach
+    void setUp() {
+        final RandomStreams randomStreams = new RandomStreams(SEED);
+        zones = ZoneCreation.createZonesFromFile();
+        final ZoneTable zoneTable = ZoneTableCreation.createZoneTable(zones,
+                new TransportFactoryImpl().createTransportsFromFile(zones));
+        statistics = new SimulationStatisticsImpl(zones.size());
+        businesses = new BusinessFactoryImpl(randomStreams.stream("businesses"))
+                .createMultipleBusiness(zones, PEOPLE / ConstantAndResourceLoader.PERC_BUSINESS);
+        businesses.forEach(business -> business.setStatistics(statistics));
+        people = new PersonFactoryImpl(randomStreams, statistics, zoneTable).createAllPeople(PEOPLE, zones, businesses);
+    }
+
+    @Test
+    void testCountsFollowTheDay() {
+        final List<DynamicPerson> all = people.stream().flatMap(List::stream).collect(Collectors.toList());
+        assertEquals(all.size(), statistics.getPopulation());
+        assertEquals(List.of(100, 0, 0), statistics.getPeopleStatePercentages());
+        final ClockObserverPerson observer = new ClockObserverPerson(people, THREADS);
+        LocalTime time = LocalTime.MIDNIGHT;
+        do {
+            time = time.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND);
+            observer.onTimeUpdate(time, 1);
+            for (final PersonState state : PersonState.values()) {
+                assertEquals(all.stream().filter(person -> person.getState() == state).count(),
+                        statistics.getStateCount(state), "Wrong count of " + state + " at " + time);
+            }
+        } while (!time.equals(LocalTime.MIDNIGHT));
+    }
+
+    @Test
+    void testOccupationFollowsHiringAndFiring() {
+        assertEquals(scanOccupation(), statistics.getBusinessesOccupation());
+        final Business business = businesses.stream()
+                .filter(b -> !b.getBusinessData().employees().isEmpty())
+                .findFirst()
+                .orElseThrow();
+        final Employee employee = business.getBusinessData().employees().get(0);
+        for (int i = 0; i <= business.getBusinessData().maxTardiness(); i++) {
+            employee.incrementDelayCount();
+        }
+        business.fire(employee);
+        assertEquals(scanOccupation(), statistics.getBusinessesOccupation());
+        business.hire(new Employee(employee.person(), business.getBusinessData()));
+        assertEquals(scanOccupation(), statistics.getBusinessesOccupation());
+    }
+
+    @Test
+    void testZoneSummariesFollowTheDay() {
+        final List<DynamicPerson> all = people.stream().flatMap(List::stream).collect(Collectors.toList());
+        assertZonesMatchScan(all, LocalTime.MIDNIGHT);
+        final ClockObserverPerson observer = new ClockObserverPerson(people, THREADS);
+        LocalTime time = LocalTime.MIDNIGHT;
+        boolean someoneAtWork = false;
+        do {
+            time = time.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND);
+            observer.onTimeUpdate(time, 1);
+            assertZonesMatchScan(all, time);
+            someoneAtWork = someoneAtWork || statistics.getStateCount(PersonState.WORKING) > 0;
+        } while (!time.equals(LocalTime.MIDNIGHT));
+        assertTrue(someoneAtWork);
+    }
+
+    @Test
+    void testZonePayFollowsHiringAndFiring() {
+        final Business business = businesses.stream()
+                .filter(b -> !b.getBusinessData().employees().isEmpty())
+                .findFirst()
+                .orElseThrow();
+        final Zone zone = business.getBusinessData().zone();
+        assertEquals(scanAveragePay(zone), statistics.getZoneSummary(zone.id()).averagePay(), PAY_TOLERANCE);
+        final Employee employee = business.getBusinessData().employees().get(0);
+        for (int i = 0; i <= business.getBusinessData().maxTardiness(); i++) {
+            employee.incrementDelayCount();
+        }
+        business.fire(employee);
+        assertEquals(scanAveragePay(zone), statistics.getZoneSummary(zone.id()).averagePay(), PAY_TOLERANCE);
+        business.hire(new Employee(employee.person(), business.getBusinessData()));
+        assertEquals(scanAveragePay(zone), statistics.getZoneSummary(zone.id()).averagePay(), PAY_TOLERANCE);
+    }
+
+    @Test
+    void testRemovedBusinessesLeaveTheirZone() {
+        final Business removed = businesses.stream()
+                .filter(b -> !b.getBusinessData().employees().isEmpty())
+                .findFirst()
+                .orElseThrow();
+        final Zone zone = removed.getBusinessData().zone();
+        final ZoneSummary before = statistics.getZoneSummary(zone.id());
+        statistics.removeZoneBusiness(zone.id(), removed.getBusinessData().employees().size(),
+                removed.calculatePay());
+        businesses.remove(removed);
+        final ZoneSummary after = statistics.getZoneSummary(zone.id());
+        assertEquals(before.businesses() - 1, after.businesses());
+        assertEquals(scanAveragePay(zone), after.averagePay(), PAY_TOLERANCE);
+        assertEquals(before.residents(), after.residents());
+    }
+
+    @Test
+    void testUnknownZonesAreIgnored() {
+        statistics.addDirectLine(zones.size());
+        statistics.changePresence(-1, zones.size());
+        assertEquals(ZoneSummary.EMPTY, statistics.getZoneSummary(zones.size()));
+        assertEquals(ZoneSummary.EMPTY, statistics.getZoneSummary(-1));
+    }
+
+    private void assertZonesMatchScan(final List<DynamicPerson> all, final LocalTime time) {
+        for (final Zone zone : zones) {
+            final ZoneSummary summary = statistics.getZoneSummary(zone.id());
+            final List<DynamicPerson> residents = all.stream()
+                    .filter(person -> person.getPersonData().residenceZone().equals(zone))
+                    .collect(Collectors.toList());
+            assertEquals(residents.size(), summary.residents(), "Wrong residents of " + zone.name());
+            assertEquals(residents.stream().filter(person -> person.getBusiness().isPresent()).count(),
+                    summary.employed(), "Wrong employed residents of " + zone.name());
+            assertEquals(all.stream().filter(person -> isIn(person, zone)).count(), summary.present(),
+                    "Wrong people present in " + zone.name() + " at " + time);
+            assertEquals(businesses.stream().filter(b -> b.getBusinessData().zone().equals(zone)).count(),
+                    summary.businesses(), "Wrong businesses of " + zone.name());
+        }
+    }
+
+    private static boolean isIn(final DynamicPerson person, final Zone zone) {
+        return switch (person.getState()) {
+            case AT_HOME -> person.getPersonData().residenceZone().equals(zone);
+            case WORKING -> person.getBusiness().map(b -> b.getBusinessData().zone().equals(zone)).orElse(false);
+            default -> false;
+        };
+    }
+
+    private double scanAveragePay(final Zone zone) {
+        final List<Business> inZone = businesses.stream()
+                .filter(business -> business.getBusinessData().zone().equals(zone))
+                .collect(Collectors.toList());
+        return inZone.isEmpty() ? 0 : inZone.stream()
+                .mapToDouble(business -> business.getBusinessData().employees().size() * business.calculatePay())
+                .sum() / inZone.size();
+    }
+
+    private List<Integer> scanOccupation() {
+        return List.of(BusinessType.SMALL, BusinessType.MEDIUM, BusinessType.BIG).stream()
+                .map(type -> {
+                    final List<Business> ofType = businesses.stream()
+                            .filter(business -> business.getBusinessType() == type)
+                            .collect(Collectors.toList());
+                    final long employees = ofType.stream()
+                            .mapToLong(business -> business.getBusinessData().employees().size())
+                            .sum();
+                    final long capacity = ofType.stream()
+                            .mapToLong(business -> business.getBusinessData().maxEmployees())
+                            .sum();
+                    return capacity == 0 ? 0 : (int) (employees * 100.0 / capacity);
+                })
+                .collect(Collectors.toList());
+    }
+}
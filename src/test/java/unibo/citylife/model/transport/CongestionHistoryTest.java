@@ -0,0 +1,50 @@
+package unibo.citylife.model.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.transport.impl.CongestionHistory;
+
+class CongestionHistoryTest {
+
+    @Test
+    void testPercentiles() {
+        final CongestionHistory history = new CongestionHistory(200);
+        // 1, 2, ..., 100 in a scrambled order
+        IntStream.range(0, 100).forEach(i -> history.add(i * 37 % 100 + 1));
+        assertEquals(50.0, history.percentile(50, 100));
+        assertEquals(95.0, history.percentile(95, 100));
+        assertEquals(100.0, history.percentile(100, 100));
+        assertEquals(1.0, history.percentile(0, 100));
+        assertEquals(100.0, history.max(100));
+        // The window is capped to the samples kept
+        assertEquals(50.0, history.percentile(50, 1000));
+    }
+
+    @Test
+    void testWindowLooksAtTheLatestSamples() {
+        final CongestionHistory history = new CongestionHistory(10);
+        IntStream.range(0, 25).forEach(history::add);
+        assertEquals(10, history.size());
+        assertEquals(24.0, history.max(3));
+        assertEquals(23.0, history.percentile(50, 3));
+        assertEquals(15.0, history.percentile(0, 10));
+        assertEquals(24.0, history.max(10));
+    }
+
+    @Test
+    void testInvalidQueries() {
+        final CongestionHistory history = new CongestionHistory(10);
+        assertThrows(IllegalStateException.class, () -> history.max(1));
+        history.add(1);
+        assertThrows(IllegalArgumentException.class, () -> history.percentile(101, 1));
+        assertThrows(IllegalArgumentException.class, () -> history.max(0));
+        assertThrows(IllegalArgumentException.class, () -> new CongestionHistory(0));
+        history.clear();
+        assertEquals(0, history.size());
+    }
+}
@@ -6,9 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.transport.impl.TransportLineImpl;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.utilities.Pair;
 import java.util.List;
+import java.util.stream.IntStream;
 
 //test for class transportLineImpl
 class TransportLineImplTest {
@@ -37,5 +40,129 @@ class TransportLineImplTest {
         line.decrementPersonInLine();
         assertEquals(0, line.getPersonInLine(), "The number of people in line should be 0 after decrementing");
     }
-}
 
+    @Test
+    void testCountIsKeptPastCapacity() {
+        final TransportLine line = transports.get(0);
+        IntStream.range(0, line.getCapacity() * 2).forEach(i -> line.incrementPersonInLine());
+        assertEquals(line.getCapacity() * 2, line.getPersonInLine());
+        assertEquals(200.0, line.getCongestion());
+        IntStream.range(0, line.getCapacity() * 2).forEach(i -> line.decrementPersonInLine());
+        assertEquals(0, line.getPersonInLine());
+    }
+
+    @Test
+    void testQueueIsServedInBatches() {
+        // 20 people per minute, so 100 per clock tick of 5 minutes
+        final TransportLine line = new TransportLineImpl("line", 200, 10, new Pair<>(zones.get(0), zones.get(1)));
+        assertEquals(20.0, line.getThroughput());
+        IntStream.range(0, 250).forEach(i -> line.incrementPersonInLine());
+        assertEquals(250, line.getQueueLength());
+        assertEquals(2 * 300, line.getQueueWait());
+
+        line.processQueue();
+        assertEquals(150, line.getQueueLength());
+        assertEquals(250, line.getPersonInLine());
+        assertEquals(300, line.getQueueWait());
+
+        // The line is full: the others wait for someone to get off
+        line.processQueue();
+        line.processQueue();
+        assertEquals(50, line.getQueueLength());
+        IntStream.range(0, 100).forEach(i -> line.decrementPersonInLine());
+        line.processQueue();
+        assertEquals(0, line.getQueueLength());
+        assertEquals(0, line.getQueueWait());
+        assertEquals(150, line.getPersonInLine());
+        assertEquals(250, line.getBoardings());
+        assertEquals(100, line.getLeavings());
+    }
+
+    @Test
+    void testFullLineDrainsAsEstimated() {
+        // 100 people per clock tick of 5 minutes
+        final TransportLine line = new TransportLineImpl("line", 200, 10, new Pair<>(zones.get(0), zones.get(1)));
+        IntStream.range(0, 200).forEach(i -> line.incrementPersonInLine());
+        line.processQueue();
+        line.processQueue();
+        assertEquals(100.0, line.getCongestion());
+        IntStream.range(0, 250).forEach(i -> line.incrementPersonInLine());
+        // The wait of the next person, who boards in the tick after it
+        final int waitTicks = line.getQueueWait() / 300;
+        assertEquals(3, waitTicks);
+        line.incrementPersonInLine();
+        // Riders get off at the throughput, after the line has taken on people
+        IntStream.range(0, waitTicks).forEach(i -> {
+            line.processQueue();
+            IntStream.range(0, 100).forEach(j -> line.decrementPersonInLine());
+        });
+        assertEquals(51, line.getQueueLength());
+        line.processQueue();
+        assertEquals(0, line.getQueueLength());
+        assertEquals(151.0 / 2, line.getCongestion());
+        IntStream.range(0, 151).forEach(i -> line.decrementPersonInLine());
+        assertEquals(0, line.getPersonInLine());
+        assertEquals(451, line.getLeavings());
+    }
+
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        final TransportLine line = new TransportLineImpl("line", 1000, 1, new Pair<>(zones.get(0), zones.get(1)));
+        final int threads = 4;
+        final int rounds = 10_000;
+        final List<Thread> workers = IntStream.range(0, threads)
+                .mapToObj(i -> new Thread(() -> {
+                    for (int round = 0; round < rounds; round++) {
+                        line.incrementPersonInLine();
+                        line.processQueue();
+                        line.decrementPersonInLine();
+                    }
+                }))
+                .toList();
+        workers.forEach(Thread::start);
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(0, line.getPersonInLine());
+        assertEquals(threads * rounds, line.getBoardings());
+        assertEquals(threads * rounds, line.getLeavings());
+    }
+
+    @Test
+    void testLeavingBeforeBoarding() {
+        final TransportLine line = new TransportLineImpl("line", 10, 10, new Pair<>(zones.get(0), zones.get(1)));
+        IntStream.range(0, 20).forEach(i -> line.incrementPersonInLine());
+        line.processQueue();
+        IntStream.range(0, 10).forEach(i -> line.decrementPersonInLine());
+        assertEquals(10, line.getQueueLength());
+        line.decrementPersonInLine();
+        assertEquals(9, line.getQueueLength());
+        line.resetPersonInLine();
+        assertEquals(0, line.getPersonInLine());
+        assertEquals(0, line.getQueueLength());
+    }
+
+    @Test
+    void testCongestionHistory() {
+        final TransportLine line = new TransportLineImpl("line", 10, 10, new Pair<>(zones.get(0), zones.get(1)));
+        line.incrementPersonInLine();
+        // Without samples the current congestion is used
+        assertEquals(10.0, line.getCongestionPercentile(95, 60));
+        line.sampleCongestion();
+        IntStream.range(0, 9).forEach(i -> line.incrementPersonInLine());
+        line.sampleCongestion();
+        IntStream.range(0, 10).forEach(i -> line.decrementPersonInLine());
+        line.sampleCongestion();
+        assertEquals(0.0, line.getCongestion());
+        assertEquals(100.0, line.getMaxCongestion(60));
+        assertEquals(10.0, line.getCongestionPercentile(50, 60));
+        // Only the last sample, taken in the last 5 minutes
+        assertEquals(0.0, line.getMaxCongestion(5));
+
+        // A reset line forgets the congestion of the previous run
+        IntStream.range(0, 10).forEach(i -> line.incrementPersonInLine());
+        line.resetPersonInLine();
+        assertEquals(0.0, line.getMaxCongestion(60));
+        assertEquals(0.0, line.getCongestionPercentile(95, 60));
+    }
+}
@@ -0,0 +1,128 @@
+package unibo.citylife.model.zone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.transport.impl.TransportLineImpl;
+import unibo.citysimulation.model.zone.Boundary;
+import unibo.citysimulation.model.zone.RoutePlanner;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.utilities.Pair;
+
+class RoutePlannerTest {
+    private static final int CAPACITY = 10;
+
+    private static Zone zone(final int i) {
+        return new Zone(i, "Zone " + i, 0, 0, new Pair<>(0, 0), new Pair<>(0, 0), new Boundary(0, 0, 1, 1));
+    }
+
+    private static TransportLine line(final Zone from, final Zone to, final int duration) {
+        return new TransportLineImpl(from.name() + "-" + to.name(), CAPACITY, duration, new Pair<>(from, to));
+    }
+
+    @Test
+    void testFastestRouteOfTheCity() {
+        final List<Zone> zones = ZoneCreation.createZonesFromFile();
+        final List<TransportLine> lines = new TransportFactoryImpl().createTransportsFromFile(zones);
+        final RoutePlanner planner = new RoutePlanner(zones, lines);
+
+        for (int from = 0; from < zones.size(); from++) {
+            for (int to = 0; to < zones.size(); to++) {
+                final TransportLine[] route = planner.getRoute(from, to);
+                assertEquals(planner.getDuration(from, to),
+                        Arrays.stream(route).mapToInt(TransportLine::getDuration).sum());
+                assertEquals(planner.getDuration(from, to), planner.getDuration(to, from));
+                for (final TransportLine line : lines) {
+                    // No single line is faster than the route between its zones
+                    final int a = zones.indexOf(line.getLink().getFirst());
+                    final int b = zones.indexOf(line.getLink().getSecond());
+                    assertTrue(planner.getDuration(a, b) <= line.getDuration());
+                }
+            }
+        }
+        assertEquals(0, planner.getRoute(0, 0).length);
+    }
+
+    @Test
+    void testRouteInTravelOrder() {
+        final List<Zone> zones = List.of(zone(0), zone(1), zone(2), zone(3));
+        final TransportLine slow = line(zones.get(0), zones.get(3), 100);
+        final TransportLine first = line(zones.get(1), zones.get(0), 10);
+        final TransportLine second = line(zones.get(1), zones.get(2), 10);
+        final TransportLine third = line(zones.get(2), zones.get(3), 10);
+        final RoutePlanner planner = new RoutePlanner(zones, List.of(slow, first, second, third));
+
+        assertEquals(List.of(first, second, third), Arrays.asList(planner.getRoute(0, 3)));
+        assertEquals(List.of(third, second, first), Arrays.asList(planner.getRoute(3, 0)));
+        assertEquals(30, planner.getDuration(0, 3));
+    }
+
+    @Test
+    void testAlternatives() {
+        final List<Zone> zones = List.of(zone(0), zone(1), zone(2), zone(3));
+        final TransportLine direct = line(zones.get(0), zones.get(3), 10);
+        final TransportLine slowDirect = line(zones.get(0), zones.get(3), 30);
+        final TransportLine toOne = line(zones.get(0), zones.get(1), 5);
+        final TransportLine fromOne = line(zones.get(1), zones.get(3), 100);
+        final TransportLine toTwo = line(zones.get(0), zones.get(2), 5);
+        final TransportLine fromTwo = line(zones.get(2), zones.get(3), 10);
+        final RoutePlanner planner = new RoutePlanner(zones,
+                List.of(direct, slowDirect, toOne, fromOne, toTwo, fromTwo));
+
+        final List<TransportLine[]> alternatives = planner.getAlternatives(0, 3, 3);
+        // From zone 1 the fastest route goes back through zone 0, so it gives no alternative
+        assertEquals(2, alternatives.size());
+        assertEquals(List.of(toTwo, fromTwo), Arrays.asList(alternatives.get(0)));
+        assertEquals(List.of(slowDirect), Arrays.asList(alternatives.get(1)));
+        assertEquals(1, planner.getAlternatives(0, 3, 1).size());
+        assertTrue(planner.getAlternatives(0, 0, 3).isEmpty());
+    }
+
+    @Test
+    void testUnreachableZones() {
+        final List<Zone> zones = List.of(zone(0), zone(1), zone(2));
+        final RoutePlanner planner = new RoutePlanner(zones, List.of(line(zones.get(0), zones.get(1), 5)));
+
+        assertTrue(planner.isReachable(0, 1));
+        assertFalse(planner.isReachable(0, 2));
+        assertEquals(0, planner.getRoute(2, 0).length);
+    }
+
+    @Test
+    void testInvalidLines() {
+        final List<Zone> zones = List.of(zone(0), zone(1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RoutePlanner(zones, List.of(line(zones.get(0), zone(2), 1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RoutePlanner(zones, List.of(line(zones.get(0), zones.get(1), -1))));
+    }
+
+    @Test
+    void testLongChain() {
+        final int size = 300;
+        final List<Zone> zones = new ArrayList<>();
+        final List<TransportLine> lines = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            zones.add(zone(i));
+            if (i > 0) {
+                lines.add(line(zones.get(i - 1), zones.get(i), 1));
+            }
+        }
+        final RoutePlanner planner = new RoutePlanner(zones, lines);
+
+        assertEquals(size - 1, planner.getRoute(0, size - 1).length);
+        assertEquals(size - 1, planner.getDuration(size - 1, 0));
+    }
+
+}
@@ -0,0 +1,42 @@
+package unibo.citylife.model.zone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneIndex;
+
+class ZoneIndexTest {
+
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+    private final ZoneIndex index = new ZoneIndex(zones);
+
+    @Test
+    void testPointLookupMatchesALinearScan() {
+        for (int x = -10; x <= 1010; x += 7) {
+            for (int y = -10; y <= 1010; y += 7) {
+                final int px = x;
+                final int py = y;
+                final Optional<Zone> expected = zones.stream()
+                        .filter(zone -> zone.boundary().isInside(px, py))
+                        .findFirst();
+                assertEquals(expected, index.getZone(x, y), "Zone of " + x + ", " + y);
+            }
+        }
+    }
+
+    @Test
+    void testRectangleFindsOverlappingZones() {
+        assertEquals(zones, index.getZones(0, 0, 1000, 1000));
+        final Zone first = zones.get(0);
+        final int x = first.boundary().getX();
+        final int y = first.boundary().getY();
+        assertTrue(index.getZones(x, y, x, y).contains(first));
+    }
+}
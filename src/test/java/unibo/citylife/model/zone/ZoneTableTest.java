@@ -0,0 +1,97 @@
+package unibo.citylife.model.zone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.RoutePlanner;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+
+class ZoneTableTest {
+    private static final int SECONDS_IN_MINUTE = 60;
+
+    private List<Zone> zones;
+    private List<TransportLine> lines;
+    private ZoneTable zoneTable;
+
+    @BeforeEach
+    public void setUp() {
+        zones = ZoneCreation.createZonesFromFile();
+        lines = new TransportFactoryImpl().createTransportsFromFile(zones);
+        zoneTable = ZoneTableCreation.createZoneTable(zones, lines);
+    }
+
+    @Test
+    void testZonesHaveDenseIds() {
+        for (int i = 0; i < zones.size(); i++) {
+            assertEquals(i, zones.get(i).id());
+        }
+        assertEquals(zones.size(), zoneTable.getZoneCount());
+    }
+
+    @Test
+    void testRoutesOfEveryPair() {
+        final RoutePlanner planner = new RoutePlanner(zones, lines);
+        for (final Zone from : zones) {
+            for (final Zone to : zones) {
+                final int route = zoneTable.getRouteId(from, to);
+                assertEquals(route, zoneTable.getRouteId(from.id(), to.id()));
+                assertEquals(List.of(planner.getRoute(from.id(), to.id())), zoneTable.getRouteLines(route));
+                assertEquals(planner.getDuration(from.id(), to.id()) * SECONDS_IN_MINUTE,
+                        zoneTable.getRouteDuration(route));
+                assertEquals(route, zoneTable.getPrimaryRoute(route));
+                if (from.equals(to)) {
+                    assertEquals(ZoneTable.NO_ROUTE, route);
+                } else {
+                    assertNotEquals(ZoneTable.NO_ROUTE, route);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testAlternatives() {
+        final RoutePlanner planner = new RoutePlanner(zones, lines);
+        int routes = 1;
+        for (final Zone from : zones) {
+            for (final Zone to : zones) {
+                final int route = zoneTable.getRouteId(from, to);
+                final List<TransportLine[]> expected = planner.getAlternatives(from.id(), to.id(),
+                        ZoneTable.ALTERNATIVES);
+                assertEquals(expected.size(), zoneTable.getAlternativeCount(route));
+                for (int i = 0; i < expected.size(); i++) {
+                    final int alternative = zoneTable.getAlternative(route, i);
+                    assertEquals(List.of(expected.get(i)), zoneTable.getRouteLines(alternative));
+                    assertEquals(route, zoneTable.getPrimaryRoute(alternative));
+                    assertEquals(alternative, zoneTable.getAlternative(alternative, i));
+                }
+                routes += route == ZoneTable.NO_ROUTE ? 0 : 1 + expected.size();
+            }
+        }
+        assertEquals(routes, zoneTable.getRouteCount());
+    }
+
+    @Test
+    void testUnknownZones() {
+        assertEquals(ZoneTable.NO_ROUTE, zoneTable.getRouteId(-1, 0));
+        assertEquals(ZoneTable.NO_ROUTE, zoneTable.getRouteId(0, zones.size()));
+        assertEquals(ZoneTable.NO_ROUTE, ZoneTable.empty().getRouteId(zones.get(0), zones.get(1)));
+        assertEquals(0, ZoneTable.empty().getRouteDuration(ZoneTable.NO_ROUTE));
+    }
+
+    @Test
+    void testIdsMustMatchPositions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ZoneTableCreation.createZoneTable(List.of(zones.get(1), zones.get(0)), lines));
+    }
+}